@@ -2,6 +2,7 @@ package apu.saerok_admin.config;
 
 import apu.saerok_admin.security.LoginSessionAuthenticationFilter;
 import apu.saerok_admin.security.LoginSessionManager;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
 import org.springframework.boot.autoconfigure.security.servlet.PathRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -33,6 +34,8 @@ public class SecurityConfig {
                         // ▼ 프록시 엔드포인트 공개
                         .requestMatchers("/public/**").permitAll()
                         .requestMatchers("/login", "/auth/callback/**").permitAll()
+                        // 관리 포트로만 노출되는 스크레이프용 엔드포인트
+                        .requestMatchers(EndpointRequest.to("health", "prometheus")).permitAll()
                         .anyRequest().authenticated()
                 )
                 .exceptionHandling(exceptionHandling -> exceptionHandling
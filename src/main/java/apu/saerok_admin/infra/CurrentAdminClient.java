@@ -1,8 +1,12 @@
 package apu.saerok_admin.infra;
 
+import apu.saerok_admin.infra.metrics.BackendClientTag;
 import apu.saerok_admin.security.LoginSessionManager;
 import apu.saerok_admin.web.view.CurrentAdminProfile;
+import java.io.Serializable;
 import java.net.URI;
+import java.time.Clock;
+import java.time.Instant;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
@@ -27,26 +31,56 @@ public class CurrentAdminClient {
             "ADMIN_EDITOR", "운영자"
     );
     private static final String UNKNOWN_ROLE_DESCRIPTION = "알 수 없는 관리자 권한";
+    private static final String PROFILE_CACHE_KEY = "currentAdminProfile";
 
     private final RestClient saerokRestClient;
     private final List<String> missingPrefixSegments;
     private final LoginSessionManager loginSessionManager;
+    private final CurrentAdminProfileCacheProps cacheProps;
+    private final Clock clock;
 
     public CurrentAdminClient(
             RestClient saerokRestClient,
             SaerokApiProps saerokApiProps,
-            LoginSessionManager loginSessionManager
+            LoginSessionManager loginSessionManager,
+            CurrentAdminProfileCacheProps cacheProps,
+            Clock clock
     ) {
-        this.saerokRestClient = saerokRestClient;
+        this.saerokRestClient = BackendClientTag.tagged(saerokRestClient, CurrentAdminClient.class);
         this.missingPrefixSegments = saerokApiProps.missingPrefixSegments();
         this.loginSessionManager = loginSessionManager;
+        this.cacheProps = cacheProps;
+        this.clock = clock;
     }
 
     public Optional<CurrentAdminProfile> fetchCurrentAdminProfile() {
-        if (loginSessionManager.currentAccessToken().isEmpty()) {
+        Optional<String> tokenFingerprint = loginSessionManager.currentAccessTokenFingerprint();
+        if (tokenFingerprint.isEmpty()) {
             return Optional.empty();
         }
 
+        if (!cacheProps.enabled()) {
+            return requestCurrentAdminProfile();
+        }
+
+        Instant now = clock.instant();
+        Optional<CurrentAdminProfile> cached = loginSessionManager.findSessionValue(PROFILE_CACHE_KEY, CachedProfile.class)
+                .filter(entry -> entry.tokenFingerprint().equals(tokenFingerprint.get()))
+                .filter(entry -> now.isBefore(entry.expiresAt()))
+                .map(CachedProfile::profile);
+        if (cached.isPresent()) {
+            return cached;
+        }
+
+        Optional<CurrentAdminProfile> profile = requestCurrentAdminProfile();
+        profile.ifPresent(value -> loginSessionManager.storeSessionValue(
+                PROFILE_CACHE_KEY,
+                new CachedProfile(tokenFingerprint.get(), value, now.plus(cacheProps.ttl()))
+        ));
+        return profile;
+    }
+
+    private Optional<CurrentAdminProfile> requestCurrentAdminProfile() {
         try {
             BackendUserProfileResponse response = saerokRestClient.get()
                     .uri(uriBuilder -> buildUri(uriBuilder, "user", "me"))
@@ -58,13 +92,15 @@ public class CurrentAdminClient {
             }
 
             List<String> roles = response.roles() != null ? List.copyOf(response.roles()) : List.of();
+            List<String> roleCodes = normalizeRoleCodes(roles);
+            loginSessionManager.storeRoleScope(roleCodes);
 
             return Optional.of(new CurrentAdminProfile(
                     response.nickname(),
                     response.email(),
                     response.profileImageUrl(),
                     toRoleDescriptions(roles),
-                    normalizeRoleCodes(roles)
+                    roleCodes
             ));
         } catch (RestClientResponseException exception) {
             log.warn(
@@ -88,6 +124,13 @@ public class CurrentAdminClient {
         return builder.build();
     }
 
+    private record CachedProfile(
+            String tokenFingerprint,
+            CurrentAdminProfile profile,
+            Instant expiresAt
+    ) implements Serializable {
+    }
+
     private record BackendUserProfileResponse(
             String nickname,
             String email,
@@ -0,0 +1,22 @@
+package apu.saerok_admin.infra;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "saerok.api.profile-cache")
+public record CurrentAdminProfileCacheProps(Duration ttl) {
+
+    private static final Duration DEFAULT_TTL = Duration.ofSeconds(60);
+
+    public CurrentAdminProfileCacheProps {
+        if (ttl == null) {
+            ttl = DEFAULT_TTL;
+        } else if (ttl.isNegative()) {
+            ttl = Duration.ZERO;
+        }
+    }
+
+    public boolean enabled() {
+        return !ttl.isZero();
+    }
+}
@@ -1,30 +1,91 @@
 package apu.saerok_admin.infra;
 
 import apu.saerok_admin.config.SocialLoginProperties;
+import apu.saerok_admin.infra.auth.TokenRefreshProps;
+import apu.saerok_admin.infra.concurrent.BackendFanOutProps;
+import apu.saerok_admin.infra.concurrent.BackendHedgingProps;
+import apu.saerok_admin.infra.health.HealthProbeProps;
+import apu.saerok_admin.infra.http.ConditionalGetProps;
+import apu.saerok_admin.infra.http.ListStreamingProps;
+import apu.saerok_admin.infra.http.SaerokHttpClientFactory;
+import apu.saerok_admin.infra.http.SaerokHttpClientProps;
+import apu.saerok_admin.infra.report.ReportQueueCounterProps;
+import apu.saerok_admin.infra.report.ReportBulkProps;
+import apu.saerok_admin.infra.report.ReportPrefetchProps;
+import apu.saerok_admin.infra.report.ReportSnapshotProps;
+import apu.saerok_admin.infra.resilience.BackendResilienceProps;
+import apu.saerok_admin.infra.stat.StatSeriesCacheProps;
 import java.time.Clock;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
+import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.web.client.RestClient;
 
 @Configuration
-@EnableConfigurationProperties({SaerokApiProps.class, SocialLoginProperties.class})
+@EnableConfigurationProperties({
+        SaerokApiProps.class,
+        SocialLoginProperties.class,
+        BackendFanOutProps.class,
+        SaerokHttpClientProps.class,
+        CurrentAdminProfileCacheProps.class,
+        StatSeriesCacheProps.class,
+        TokenRefreshProps.class,
+        BackendResilienceProps.class,
+        ConditionalGetProps.class,
+        ListStreamingProps.class,
+        BackendHedgingProps.class,
+        ReportQueueCounterProps.class,
+        HealthProbeProps.class,
+        ReportSnapshotProps.class,
+        ReportPrefetchProps.class,
+        ReportBulkProps.class
+})
 public class SaerokApiClientConfig {
 
+    @Bean
+    ClientHttpRequestFactory saerokClientHttpRequestFactory(SaerokHttpClientProps props) {
+        return SaerokHttpClientFactory.create(props);
+    }
+
     @Bean
     @Primary
-    RestClient saerokRestClient(SaerokApiProps props, ObjectProvider<ClientHttpRequestInterceptor> interceptors) {
-        RestClient.Builder builder = RestClient.builder().baseUrl(props.baseUrl());
+    RestClient saerokRestClient(
+            SaerokApiProps props,
+            ClientHttpRequestFactory saerokClientHttpRequestFactory,
+            ObjectProvider<ClientHttpRequestInterceptor> interceptors
+    ) {
+        RestClient.Builder builder = RestClient.builder()
+                .baseUrl(props.baseUrl())
+                .requestFactory(saerokClientHttpRequestFactory);
         interceptors.orderedStream().forEach(builder::requestInterceptor);
         return builder.build();
     }
 
     @Bean(name = "saerokAuthRestClient")
-    RestClient saerokAuthRestClient(SaerokApiProps props) {
-        return RestClient.builder().baseUrl(props.baseUrl()).build();
+    RestClient saerokAuthRestClient(SaerokApiProps props, ClientHttpRequestFactory saerokClientHttpRequestFactory) {
+        return RestClient.builder()
+                .baseUrl(props.baseUrl())
+                .requestFactory(saerokClientHttpRequestFactory)
+                .build();
+    }
+
+    /**
+     * 헬스 체크 전용 클라이언트. 인터셉터(토큰, 회로 차단기, 지표)를 거치지 않고 짧은 제한 시간만 둔다.
+     */
+    @Bean(name = "saerokHealthRestClient")
+    RestClient saerokHealthRestClient(SaerokApiProps props, HealthProbeProps healthProbeProps) {
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(healthProbeProps.connectTimeout());
+        requestFactory.setReadTimeout(healthProbeProps.readTimeout());
+        return RestClient.builder()
+                .baseUrl(props.baseUrl())
+                .requestFactory(requestFactory)
+                .build();
     }
 
     @Bean
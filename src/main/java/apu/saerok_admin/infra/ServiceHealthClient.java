@@ -3,6 +3,7 @@ package apu.saerok_admin.infra;
 import apu.saerok_admin.web.view.ServiceHealthStatus;
 import java.time.Clock;
 import java.time.LocalDateTime;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestClient;
@@ -14,7 +15,7 @@ public class ServiceHealthClient {
     private final RestClient saerokRestClient;
     private final Clock clock;
 
-    public ServiceHealthClient(RestClient saerokRestClient, Clock clock) {
+    public ServiceHealthClient(@Qualifier("saerokHealthRestClient") RestClient saerokRestClient, Clock clock) {
         this.saerokRestClient = saerokRestClient;
         this.clock = clock;
     }
@@ -1,6 +1,8 @@
 package apu.saerok_admin.infra.ad;
 
 import apu.saerok_admin.infra.SaerokApiProps;
+import apu.saerok_admin.infra.cache.BackendRequestMemo;
+import apu.saerok_admin.infra.cache.BackendSingleFlight;
 import apu.saerok_admin.infra.ad.dto.AdImagePresignResponse;
 import apu.saerok_admin.infra.ad.dto.AdminAdImagePresignRequest;
 import apu.saerok_admin.infra.ad.dto.AdminAdListResponse;
@@ -12,6 +14,7 @@ import apu.saerok_admin.infra.ad.dto.AdminSlotListResponse;
 import apu.saerok_admin.infra.ad.dto.AdminUpdateAdPlacementRequest;
 import apu.saerok_admin.infra.ad.dto.AdminUpdateAdRequest;
 import apu.saerok_admin.infra.ad.dto.AdminUpdateSlotRequest;
+import apu.saerok_admin.infra.metrics.BackendClientTag;
 import java.net.URI;
 import java.util.List;
 import org.springframework.http.HttpMethod;
@@ -23,14 +26,24 @@ import org.springframework.web.util.UriBuilder;
 public class AdminAdClient {
 
     private static final String[] ADMIN_AD_SEGMENTS = {"admin", "ad"};
+    private static final String MEMO_API = "ads";
 
     private final RestClient saerokRestClient;
     private final String[] missingPrefixSegments;
-
-    public AdminAdClient(RestClient saerokRestClient, SaerokApiProps saerokApiProps) {
-        this.saerokRestClient = saerokRestClient;
+    private final BackendRequestMemo backendRequestMemo;
+    private final BackendSingleFlight backendSingleFlight;
+
+    public AdminAdClient(
+            RestClient saerokRestClient,
+            SaerokApiProps saerokApiProps,
+            BackendRequestMemo backendRequestMemo,
+            BackendSingleFlight backendSingleFlight
+    ) {
+        this.saerokRestClient = BackendClientTag.tagged(saerokRestClient, AdminAdClient.class);
         List<String> missing = saerokApiProps.missingPrefixSegments();
         this.missingPrefixSegments = missing.toArray(new String[0]);
+        this.backendRequestMemo = backendRequestMemo;
+        this.backendSingleFlight = backendSingleFlight;
     }
 
     public AdminAdListResponse listAds() {
@@ -86,45 +99,66 @@ public class AdminAdClient {
     }
 
     private <T> T get(Class<T> responseType, String... segments) {
-        T response = saerokRestClient.get()
-                .uri(uriBuilder -> buildUri(uriBuilder, segments))
-                .retrieve()
-                .body(responseType);
-        if (response == null) {
-            throw new IllegalStateException("Empty response from admin ad API");
-        }
-        return response;
+        String key = String.join("/", segments);
+        return backendRequestMemo.memoize(MEMO_API, key, () -> backendSingleFlight.execute(MEMO_API, key, () -> {
+            T response = saerokRestClient.get()
+                    .uri(uriBuilder -> buildUri(uriBuilder, segments))
+                    .retrieve()
+                    .body(responseType);
+            if (response == null) {
+                throw new IllegalStateException("Empty response from admin ad API");
+            }
+            return response;
+        }));
     }
 
     private <T> T post(Class<T> responseType, Object body, String... segments) {
-        T response = saerokRestClient.post()
-                .uri(uriBuilder -> buildUri(uriBuilder, segments))
-                .body(body)
-                .retrieve()
-                .body(responseType);
-        if (response == null) {
-            throw new IllegalStateException("Empty response from admin ad API");
+        try {
+            T response = saerokRestClient.post()
+                    .uri(uriBuilder -> buildUri(uriBuilder, segments))
+                    .body(body)
+                    .retrieve()
+                    .body(responseType);
+            if (response == null) {
+                throw new IllegalStateException("Empty response from admin ad API");
+            }
+            return response;
+        } finally {
+            forgetReads();
         }
-        return response;
     }
 
     private <T> T put(Class<T> responseType, Object body, String... segments) {
-        T response = saerokRestClient.method(HttpMethod.PUT)
-                .uri(uriBuilder -> buildUri(uriBuilder, segments))
-                .body(body)
-                .retrieve()
-                .body(responseType);
-        if (response == null) {
-            throw new IllegalStateException("Empty response from admin ad API");
+        try {
+            T response = saerokRestClient.method(HttpMethod.PUT)
+                    .uri(uriBuilder -> buildUri(uriBuilder, segments))
+                    .body(body)
+                    .retrieve()
+                    .body(responseType);
+            if (response == null) {
+                throw new IllegalStateException("Empty response from admin ad API");
+            }
+            return response;
+        } finally {
+            forgetReads();
         }
-        return response;
     }
 
     private void delete(String... segments) {
-        saerokRestClient.delete()
-                .uri(uriBuilder -> buildUri(uriBuilder, segments))
-                .retrieve()
-                .toBodilessEntity();
+        try {
+            saerokRestClient.delete()
+                    .uri(uriBuilder -> buildUri(uriBuilder, segments))
+                    .retrieve()
+                    .toBodilessEntity();
+        } finally {
+            forgetReads();
+        }
+    }
+
+    // 쓰기가 끝난 뒤에 버려야 쓰기 도중 같은 요청에서 읽은 이전 값이 남지 않는다. 실패해도 반영됐을 수 있으므로 항상 버린다.
+    private void forgetReads() {
+        backendRequestMemo.invalidate(MEMO_API);
+        backendSingleFlight.forget(MEMO_API);
     }
 
     private URI buildUri(UriBuilder builder, String... segments) {
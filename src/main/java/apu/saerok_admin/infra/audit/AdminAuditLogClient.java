@@ -1,7 +1,9 @@
 package apu.saerok_admin.infra.audit;
 
 import apu.saerok_admin.infra.SaerokApiProps;
+import apu.saerok_admin.infra.cache.BackendSingleFlight;
 import apu.saerok_admin.infra.audit.dto.AdminAuditLogListResponse;
+import apu.saerok_admin.infra.metrics.BackendClientTag;
 import java.net.URI;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestClient;
@@ -12,26 +14,35 @@ public class AdminAuditLogClient {
 
     private static final String[] ADMIN_AUDIT_SEGMENTS = {"admin", "audit"};
     private static final String LOGS_SEGMENT = "logs";
+    private static final String SINGLE_FLIGHT_API = "audit";
 
     private final RestClient saerokRestClient;
     private final String[] missingPrefixSegments;
-
-    public AdminAuditLogClient(RestClient saerokRestClient, SaerokApiProps saerokApiProps) {
-        this.saerokRestClient = saerokRestClient;
+    private final BackendSingleFlight backendSingleFlight;
+
+    public AdminAuditLogClient(
+            RestClient saerokRestClient,
+            SaerokApiProps saerokApiProps,
+            BackendSingleFlight backendSingleFlight
+    ) {
+        this.saerokRestClient = BackendClientTag.tagged(saerokRestClient, AdminAuditLogClient.class);
         this.missingPrefixSegments = saerokApiProps.missingPrefixSegments().toArray(new String[0]);
+        this.backendSingleFlight = backendSingleFlight;
     }
 
     public AdminAuditLogListResponse listAuditLogs(Integer page, Integer size) {
-        AdminAuditLogListResponse response = saerokRestClient.get()
-                .uri(uriBuilder -> buildUri(uriBuilder, page, size))
-                .retrieve()
-                .body(AdminAuditLogListResponse.class);
-
-        if (response == null) {
-            throw new IllegalStateException("Empty response from admin audit log API");
-        }
-
-        return response;
+        return backendSingleFlight.execute(SINGLE_FLIGHT_API, "logs?page=" + page + "&size=" + size, () -> {
+            AdminAuditLogListResponse response = saerokRestClient.get()
+                    .uri(uriBuilder -> buildUri(uriBuilder, page, size))
+                    .retrieve()
+                    .body(AdminAuditLogListResponse.class);
+
+            if (response == null) {
+                throw new IllegalStateException("Empty response from admin audit log API");
+            }
+
+            return response;
+        });
     }
 
     private URI buildUri(UriBuilder builder, Integer page, Integer size) {
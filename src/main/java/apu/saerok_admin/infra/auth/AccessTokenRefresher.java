@@ -0,0 +1,184 @@
+package apu.saerok_admin.infra.auth;
+
+import apu.saerok_admin.security.BackendUnauthorizedException;
+import apu.saerok_admin.security.LoginSession;
+import apu.saerok_admin.security.LoginSessionManager;
+import java.time.Clock;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientResponseException;
+
+/**
+ * 로그인 세션별로 액세스 토큰 갱신을 한 번만 수행한다.
+ * <p>
+ * 같은 세션에서 만료된 토큰으로 401을 받은 요청들이 동시에 들어오면 첫 요청만 백엔드에 갱신을 요청하고,
+ * 나머지는 그 결과를 기다렸다가 새 토큰으로 재시도한다. 갱신이 끝난 뒤에도 {@code graceWindow} 동안은
+ * 결과를 남겨 두어, 늦게 401을 받은 요청이 이미 폐기된 리프레시 토큰으로 다시 갱신하지 않게 한다.
+ * <p>
+ * 토큰의 {@code exp} 를 알면 만료 {@code refreshAhead} 전부터 요청을 보내기 전에 미리 갱신한다.
+ * 미리 갱신이 실패해도 세션은 유지하고 기존 토큰으로 계속 진행한다. 실패한 결과는 {@code graceWindow} 동안
+ * 남겨 두어, 그동안 같은 세션의 요청들이 저마다 갱신 API 를 다시 부르지 않고 바로 기존 토큰으로 진행하게 한다.
+ * 401 을 받은 요청은 이 실패를 믿지 않고 직접 갱신한다.
+ */
+@Component
+public class AccessTokenRefresher {
+
+    private static final Logger log = LoggerFactory.getLogger(AccessTokenRefresher.class);
+
+    private final LoginSessionManager loginSessionManager;
+    private final BackendAuthClient backendAuthClient;
+    private final TokenRefreshProps props;
+    private final Clock clock;
+    private final ConcurrentMap<String, RefreshFlight> flights = new ConcurrentHashMap<>();
+
+    public AccessTokenRefresher(
+            LoginSessionManager loginSessionManager,
+            BackendAuthClient backendAuthClient,
+            TokenRefreshProps props,
+            Clock clock
+    ) {
+        this.loginSessionManager = loginSessionManager;
+        this.backendAuthClient = backendAuthClient;
+        this.props = props;
+        this.clock = clock;
+    }
+
+    /**
+     * 요청에 실을 액세스 토큰. 곧 만료될 토큰이면 먼저 갱신을 시도하고, 실패하면 기존 토큰을 그대로 돌려준다.
+     */
+    public Optional<String> currentAccessToken() {
+        Optional<LoginSession> session = loginSessionManager.currentSession();
+        if (session.isEmpty() || session.get().accessToken() == null) {
+            return Optional.empty();
+        }
+        LoginSession loginSession = session.get();
+        if (!loginSession.expiresWithin(props.refreshAhead(), clock.instant())) {
+            return Optional.of(loginSession.accessToken());
+        }
+        try {
+            return Optional.of(coordinate(loginSession.accessToken(), true));
+        } catch (BackendUnauthorizedException exception) {
+            log.warn("Proactive access token refresh failed, continuing with the current token.", exception);
+            return Optional.of(loginSession.accessToken());
+        }
+    }
+
+    /**
+     * {@code staleToken} 을 대체할 새 액세스 토큰을 돌려준다. 이미 다른 요청이 갱신했다면 그 토큰을 쓴다.
+     *
+     * @throws BackendUnauthorizedException 갱신에 실패해 세션을 정리한 경우
+     */
+    public String refresh(String staleToken) {
+        return coordinate(staleToken, false);
+    }
+
+    private String coordinate(String staleToken, boolean proactive) {
+        Optional<String> currentToken = loginSessionManager.currentAccessToken();
+        if (currentToken.isPresent() && !currentToken.get().equals(staleToken)) {
+            return currentToken.get();
+        }
+
+        Optional<String> sessionId = loginSessionManager.currentSessionId();
+        if (sessionId.isEmpty()) {
+            return performRefresh(new RefreshFlight(staleToken, proactive), proactive);
+        }
+
+        long now = System.nanoTime();
+        RefreshFlight candidate = new RefreshFlight(staleToken, proactive);
+        RefreshFlight flight = flights.compute(sessionId.get(), (id, existing) ->
+                existing != null
+                        && existing.canServe(staleToken, now, props.graceWindow().toNanos())
+                        && (proactive || !existing.failedProactively())
+                        ? existing
+                        : candidate
+        );
+        if (flight != candidate) {
+            return awaitRefresh(flight);
+        }
+
+        flights.entrySet().removeIf(entry -> entry.getValue() != candidate
+                && entry.getValue().isExpired(now, props.graceWindow().toNanos()));
+        return performRefresh(candidate, proactive);
+    }
+
+    private String performRefresh(RefreshFlight flight, boolean proactive) {
+        BackendAuthClient.LoginSuccess refreshedTokens;
+        try {
+            refreshedTokens = backendAuthClient.refreshAccessToken();
+        } catch (RestClientResponseException | ResourceAccessException | IllegalStateException ex) {
+            flight.fail(ex);
+            if (proactive) {
+                // 토큰이 아직 살아 있으므로 세션을 유지한다. 실패한 결과는 유예 시간 동안 남아 다음 사전 갱신을 막는다.
+                throw new BackendUnauthorizedException("토큰 사전 갱신에 실패했습니다.", ex);
+            }
+            loginSessionManager.clearCurrentSession();
+            throw new BackendUnauthorizedException("토큰 갱신에 실패했습니다.", ex);
+        } catch (RuntimeException ex) {
+            flight.fail(ex);
+            throw ex;
+        }
+
+        loginSessionManager.updateAccessToken(refreshedTokens.accessToken());
+        loginSessionManager.writeRefreshCookiesToResponse(refreshedTokens.refreshCookies());
+        flight.complete(refreshedTokens.accessToken());
+        return refreshedTokens.accessToken();
+    }
+
+    private String awaitRefresh(RefreshFlight flight) {
+        try {
+            return flight.result.get(props.waitTimeout().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException exception) {
+            throw new BackendUnauthorizedException("토큰 갱신에 실패했습니다.", exception.getCause());
+        } catch (TimeoutException exception) {
+            log.warn("Timed out waiting for a concurrent access token refresh.");
+            throw new BackendUnauthorizedException("토큰 갱신이 지연되고 있습니다. 다시 시도해주세요.", exception);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new BackendUnauthorizedException("토큰 갱신을 기다리는 중 중단되었습니다.", exception);
+        }
+    }
+
+    private static final class RefreshFlight {
+
+        private final String staleToken;
+        private final boolean proactive;
+        private final CompletableFuture<String> result = new CompletableFuture<>();
+        private volatile long completedAtNanos;
+
+        private RefreshFlight(String staleToken, boolean proactive) {
+            this.staleToken = staleToken;
+            this.proactive = proactive;
+        }
+
+        private boolean canServe(String token, long now, long graceNanos) {
+            return staleToken != null && staleToken.equals(token) && !isExpired(now, graceNanos);
+        }
+
+        private boolean failedProactively() {
+            return proactive && result.isCompletedExceptionally();
+        }
+
+        private boolean isExpired(long now, long graceNanos) {
+            return result.isDone() && now - completedAtNanos > graceNanos;
+        }
+
+        private void complete(String accessToken) {
+            completedAtNanos = System.nanoTime();
+            result.complete(accessToken);
+        }
+
+        private void fail(Throwable cause) {
+            completedAtNanos = System.nanoTime();
+            result.completeExceptionally(cause);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package apu.saerok_admin.infra.auth;
 
+import apu.saerok_admin.infra.metrics.BackendCallObservation;
 import apu.saerok_admin.security.BackendUnauthorizedException;
 import apu.saerok_admin.security.LoginSessionManager;
 import java.io.IOException;
@@ -12,18 +13,16 @@ import org.springframework.http.client.ClientHttpRequestInterceptor;
 import org.springframework.http.client.ClientHttpResponse;
 import org.springframework.http.client.support.HttpRequestWrapper;
 import org.springframework.stereotype.Component;
-import org.springframework.web.client.RestClientResponseException;
-import org.springframework.web.client.ResourceAccessException;
 
 @Component
 public class BackendAuthorizationInterceptor implements ClientHttpRequestInterceptor {
 
     private final LoginSessionManager loginSessionManager;
-    private final BackendAuthClient backendAuthClient;
+    private final AccessTokenRefresher accessTokenRefresher;
 
-    public BackendAuthorizationInterceptor(LoginSessionManager loginSessionManager, BackendAuthClient backendAuthClient) {
+    public BackendAuthorizationInterceptor(LoginSessionManager loginSessionManager, AccessTokenRefresher accessTokenRefresher) {
         this.loginSessionManager = loginSessionManager;
-        this.backendAuthClient = backendAuthClient;
+        this.accessTokenRefresher = accessTokenRefresher;
     }
 
     @Override
@@ -33,9 +32,16 @@ public class BackendAuthorizationInterceptor implements ClientHttpRequestInterce
             return execution.execute(request, body);
         }
 
+        Optional<String> delegatedToken = DelegatedAccessToken.current();
+        if (delegatedToken.isPresent()) {
+            HttpRequestWrapper delegatedRequest = wrapRequest(request);
+            delegatedRequest.getHeaders().setBearerAuth(delegatedToken.get());
+            return execution.execute(delegatedRequest, body);
+        }
+
         HttpRequestWrapper authorizedRequest = wrapRequest(request);
-        loginSessionManager.currentAccessToken()
-                .ifPresent(token -> authorizedRequest.getHeaders().setBearerAuth(token));
+        Optional<String> usedToken = accessTokenRefresher.currentAccessToken();
+        usedToken.ifPresent(token -> authorizedRequest.getHeaders().setBearerAuth(token));
 
         ClientHttpResponse response = execution.execute(authorizedRequest, body);
         if (response.getStatusCode() != HttpStatus.UNAUTHORIZED) {
@@ -43,33 +49,25 @@ public class BackendAuthorizationInterceptor implements ClientHttpRequestInterce
         }
 
         response.close();
-        return retryWithRefreshedToken(request, body, execution);
+        return retryWithRefreshedToken(request, body, execution, usedToken.orElse(null));
     }
 
     private ClientHttpResponse retryWithRefreshedToken(
             HttpRequest request,
             byte[] body,
-            ClientHttpRequestExecution execution
+            ClientHttpRequestExecution execution,
+            String usedToken
     ) throws IOException {
         Optional<String> currentToken = loginSessionManager.currentAccessToken();
         if (currentToken.isEmpty()) {
             return execution.execute(request, body);
         }
 
-        BackendAuthClient.LoginSuccess refreshedTokens;
-        try {
-            refreshedTokens = backendAuthClient.refreshAccessToken();
-        } catch (RestClientResponseException | ResourceAccessException | IllegalStateException ex) {
-            loginSessionManager.clearCurrentSession();
-            throw new BackendUnauthorizedException("토큰 갱신에 실패했습니다.", ex);
-        }
-
-        loginSessionManager.updateAccessToken(refreshedTokens.accessToken());
-        loginSessionManager.writeRefreshCookiesToResponse(refreshedTokens.refreshCookies());
+        String refreshedToken = accessTokenRefresher.refresh(usedToken);
+        BackendCallObservation.current().ifPresent(BackendCallObservation::markRefreshRetry);
 
         HttpRequestWrapper retryRequest = wrapRequest(request);
-        loginSessionManager.currentAccessToken()
-                .ifPresent(token -> retryRequest.getHeaders().setBearerAuth(token));
+        retryRequest.getHeaders().setBearerAuth(refreshedToken);
 
         ClientHttpResponse retryResponse = execution.execute(retryRequest, body);
         if (retryResponse.getStatusCode() == HttpStatus.UNAUTHORIZED) {
@@ -0,0 +1,97 @@
+package apu.saerok_admin.infra.auth;
+
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.function.Supplier;
+import org.springframework.util.StringUtils;
+
+/**
+ * 화면 요청 밖(백그라운드 작업)에서 백엔드를 부를 때 쓸 액세스 토큰.
+ * <p>
+ * {@link #callWith(String, Supplier)} 안에서 나간 호출은 세션 대신 이 토큰을 쓰고, 401 이 와도 토큰을 갱신하지 않는다.
+ * 인터셉터 체인은 호출한 스레드에서 동기로 돌기 때문에 스레드 로컬로 넘긴다.
+ * <p>
+ * 호출한 관리자의 캐시 범위({@link Scope})를 함께 넘기면 조건부 GET 캐시처럼 세션에서 범위를 읽는 쪽이 세션 없이도
+ * 같은 범위를 쓴다.
+ */
+public final class DelegatedAccessToken {
+
+    private static final ThreadLocal<Delegation> CURRENT = new ThreadLocal<>();
+
+    private DelegatedAccessToken() {
+    }
+
+    public static <T> T callWith(String accessToken, Supplier<T> call) {
+        return callWith(accessToken, null, call);
+    }
+
+    public static <T> T callWith(String accessToken, Scope scope, Supplier<T> call) {
+        Delegation previous = CURRENT.get();
+        CURRENT.set(new Delegation(accessToken, scope));
+        try {
+            return call.get();
+        } finally {
+            restore(previous);
+        }
+    }
+
+    /**
+     * 지금 스레드에 위임된 토큰이 있으면 다른 스레드에서 실행될 호출에도 같은 토큰을 쓰도록 감싼다.
+     */
+    public static <T> Callable<T> propagate(Callable<T> call) {
+        Delegation delegation = CURRENT.get();
+        if (delegation == null) {
+            return call;
+        }
+        return () -> {
+            Delegation previous = CURRENT.get();
+            CURRENT.set(delegation);
+            try {
+                return call.call();
+            } finally {
+                restore(previous);
+            }
+        };
+    }
+
+    /**
+     * 위임된 호출이면 토큰과 함께 넘어온 캐시 범위.
+     */
+    public static Optional<Scope> currentScope() {
+        return Optional.ofNullable(CURRENT.get()).map(Delegation::scope);
+    }
+
+    static Optional<String> current() {
+        return Optional.ofNullable(CURRENT.get()).map(Delegation::accessToken);
+    }
+
+    private static void restore(Delegation previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+
+    /**
+     * @param roleScope        호출한 관리자의 권한 조합. 모르면 null.
+     * @param tokenFingerprint 위임한 액세스 토큰의 지문. 모르면 null.
+     */
+    public record Scope(String roleScope, String tokenFingerprint) {
+
+        /**
+         * {@link apu.saerok_admin.security.LoginSessionManager#currentSharingScope()} 와 같은 형식의 공유 범위.
+         */
+        public Optional<String> sharingScope() {
+            if (StringUtils.hasText(roleScope)) {
+                return Optional.of("role:" + roleScope);
+            }
+            return Optional.ofNullable(tokenFingerprint)
+                    .filter(StringUtils::hasText)
+                    .map(value -> "token:" + value);
+        }
+    }
+
+    private record Delegation(String accessToken, Scope scope) {
+    }
+}
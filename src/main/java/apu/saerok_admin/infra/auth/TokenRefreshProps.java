@@ -0,0 +1,24 @@
+package apu.saerok_admin.infra.auth;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "saerok.api.token-refresh")
+public record TokenRefreshProps(Duration graceWindow, Duration waitTimeout, Duration refreshAhead) {
+
+    private static final Duration DEFAULT_GRACE_WINDOW = Duration.ofSeconds(10);
+    private static final Duration DEFAULT_WAIT_TIMEOUT = Duration.ofSeconds(5);
+    private static final Duration DEFAULT_REFRESH_AHEAD = Duration.ofSeconds(30);
+
+    public TokenRefreshProps {
+        if (graceWindow == null || graceWindow.isNegative()) {
+            graceWindow = DEFAULT_GRACE_WINDOW;
+        }
+        if (waitTimeout == null || waitTimeout.isNegative() || waitTimeout.isZero()) {
+            waitTimeout = DEFAULT_WAIT_TIMEOUT;
+        }
+        if (refreshAhead == null || refreshAhead.isNegative()) {
+            refreshAhead = DEFAULT_REFRESH_AHEAD;
+        }
+    }
+}
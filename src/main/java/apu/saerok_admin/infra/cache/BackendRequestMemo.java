@@ -0,0 +1,74 @@
+package apu.saerok_admin.infra.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * 하나의 서블릿 요청 안에서 같은 백엔드 GET 결과를 재사용한다.
+ * <p>
+ * 결과는 요청 속성에 저장되므로 요청이 끝나면 함께 사라진다. 같은 API 그룹에 대한 쓰기 요청이
+ * 일어나면 {@link #invalidate(String)} 로 해당 그룹의 결과를 버려야 이후 조회가 최신 값을 받는다.
+ */
+@Component
+public class BackendRequestMemo {
+
+    private static final String ATTRIBUTE_NAME = BackendRequestMemo.class.getName() + ".ENTRIES";
+    private static final String SAVED_CALLS_METRIC = "saerok.backend.memo.saved";
+
+    private final MeterRegistry meterRegistry;
+
+    public BackendRequestMemo(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T memoize(String api, String key, Supplier<T> loader) {
+        Map<String, Object> entries = currentEntries();
+        if (entries == null) {
+            return loader.get();
+        }
+
+        String entryKey = api + ":" + key;
+        Object cached = entries.get(entryKey);
+        if (cached != null) {
+            meterRegistry.counter(SAVED_CALLS_METRIC, "api", api).increment();
+            return (T) cached;
+        }
+
+        T value = loader.get();
+        if (value != null) {
+            entries.put(entryKey, value);
+        }
+        return value;
+    }
+
+    public void invalidate(String api) {
+        Map<String, Object> entries = currentEntries();
+        if (entries != null) {
+            String prefix = api + ":";
+            entries.keySet().removeIf(key -> key.startsWith(prefix));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> currentEntries() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+        synchronized (attributes) {
+            Object entries = attributes.getAttribute(ATTRIBUTE_NAME, RequestAttributes.SCOPE_REQUEST);
+            if (entries instanceof Map<?, ?> map) {
+                return (Map<String, Object>) map;
+            }
+            Map<String, Object> created = new ConcurrentHashMap<>();
+            attributes.setAttribute(ATTRIBUTE_NAME, created, RequestAttributes.SCOPE_REQUEST);
+            return created;
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package apu.saerok_admin.infra.cache;
+
+import apu.saerok_admin.infra.resilience.BackendApiGroup;
+import apu.saerok_admin.security.BackendUnauthorizedException;
+import apu.saerok_admin.security.LoginSessionManager;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.InterruptedIOException;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.client.RestClientResponseException;
+
+/**
+ * 동시에 들어온 같은 백엔드 조회를 하나의 호출로 합친다.
+ * <p>
+ * 먼저 도착한 요청이 실제로 호출하고, 그동안 같은 키로 들어온 요청은 그 결과(또는 예외)를 함께 받는다.
+ * 키에는 조건부 GET 캐시와 같은 범위가 들어간다. 같은 권한(role scope)의 관리자끼리는 응답이 같으므로 함께
+ * 합치고, 권한을 모르거나 {@code user/me} 처럼 사람마다 다른 응답은 액세스 토큰 지문으로 나눈다. 로그인 세션이
+ * 없으면 합치지 않고 바로 호출한다.
+ * <p>
+ * 같은 권한의 관리자끼리 합치므로 먼저 도착한 요청은 다른 세션일 수 있다. 그 요청이 자기 세션 때문에 실패했다면
+ * (401·403, 토큰 갱신 실패, 호출 제한 시간에 걸린 중단·타임아웃) 기다리던 요청은 그 실패를 받지 않고 자기 토큰으로
+ * 직접 다시 호출한다. 백엔드가 준 다른 오류는 모두에게 같으므로 그대로 함께 받는다.
+ */
+@Component
+public class BackendSingleFlight {
+
+    private static final String COALESCED_CALLS_METRIC = "saerok.backend.singleflight.coalesced";
+    private static final String RETRIED_CALLS_METRIC = "saerok.backend.singleflight.retried";
+    private static final Object RETRY_ALONE = new Object();
+
+    private final ConcurrentMap<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final LoginSessionManager loginSessionManager;
+    private final MeterRegistry meterRegistry;
+
+    public BackendSingleFlight(LoginSessionManager loginSessionManager, MeterRegistry meterRegistry) {
+        this.loginSessionManager = loginSessionManager;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String api, String key, Supplier<T> loader) {
+        Optional<String> scope = resolveScope(api);
+        if (scope.isEmpty()) {
+            return loader.get();
+        }
+
+        String flightKey = api + ":" + scope.get() + ":" + key;
+        CompletableFuture<Object> own = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(flightKey, own);
+        if (existing != null) {
+            meterRegistry.counter(COALESCED_CALLS_METRIC, "api", api).increment();
+            Object shared = await(existing);
+            if (shared == RETRY_ALONE) {
+                meterRegistry.counter(RETRIED_CALLS_METRIC, "api", api).increment();
+                return loader.get();
+            }
+            return (T) shared;
+        }
+
+        try {
+            T value = loader.get();
+            own.complete(value);
+            return value;
+        } catch (RuntimeException | Error exception) {
+            own.completeExceptionally(exception);
+            throw exception;
+        } finally {
+            inFlight.remove(flightKey, own);
+        }
+    }
+
+    /**
+     * 쓰기 요청 뒤에는 진행 중인 조회에 새로 합류하지 않도록 해당 API 그룹의 항목을 떼어낸다.
+     * 이미 기다리고 있는 요청은 원래 호출의 결과를 그대로 받는다.
+     */
+    public void forget(String api) {
+        String prefix = api + ":";
+        inFlight.keySet().removeIf(key -> key.startsWith(prefix));
+    }
+
+    private Optional<String> resolveScope(String api) {
+        Optional<String> tokenScope = loginSessionManager.currentAccessTokenFingerprint().map(value -> "token:" + value);
+        if (BackendApiGroup.USER_ME.tag().equals(api)) {
+            return tokenScope;
+        }
+        return loginSessionManager.currentRoleScope()
+                .filter(StringUtils::hasText)
+                .map(value -> "role:" + value)
+                .or(() -> tokenScope);
+    }
+
+    private Object await(CompletableFuture<Object> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a shared backend call", exception);
+        } catch (ExecutionException exception) {
+            Throwable cause = exception.getCause();
+            if (isSessionSpecific(cause)) {
+                return RETRY_ALONE;
+            }
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException("Shared backend call failed", cause);
+        }
+    }
+
+    // 먼저 호출한 요청의 토큰이나 그 요청에 걸린 제한 시간 때문에 난 실패인지 본다.
+    private static boolean isSessionSpecific(Throwable failure) {
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause instanceof BackendUnauthorizedException
+                    || cause instanceof InterruptedException
+                    || cause instanceof InterruptedIOException
+                    || cause instanceof TimeoutException) {
+                return true;
+            }
+            if (cause instanceof RestClientResponseException responseException
+                    && (responseException.getStatusCode().isSameCodeAs(HttpStatus.UNAUTHORIZED)
+                    || responseException.getStatusCode().isSameCodeAs(HttpStatus.FORBIDDEN))) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,240 @@
+package apu.saerok_admin.infra.concurrent;
+
+import apu.saerok_admin.infra.auth.DelegatedAccessToken;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * 한 페이지에서 여러 건의 백엔드 조회를 가상 스레드로 동시에 실행한다.
+ * <p>
+ * 동시 실행 수는 {@code parallelism} 으로 제한되고, 전체 작업은 {@code deadline} 안에,
+ * 개별 호출은 {@code callTimeout} 안에 끝나야 한다. 실패하거나 시간 안에 끝나지 않은 키는
+ * 결과에서 빠지므로 호출하는 쪽은 부분 결과를 그대로 렌더링하면 된다.
+ * <p>
+ * 종류가 다른 조회 몇 건을 나란히 보낼 때는 {@link #submit(Callable)} 로 띄워 두고 {@link #await(Future)} 로
+ * 하나씩 받는다. 이때 호출의 예외가 그대로 다시 던져지므로 기존의 호출별 예외 처리를 유지할 수 있다.
+ */
+@Component
+public class BackendFanOutExecutor implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(BackendFanOutExecutor.class);
+
+    private final ExecutorService workers;
+    private final ScheduledExecutorService watchdog;
+    private final int parallelism;
+    private final Duration deadline;
+    private final Duration callTimeout;
+
+    public BackendFanOutExecutor(BackendFanOutProps props) {
+        this.workers = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("backend-fan-out-", 0).factory());
+        this.watchdog = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("backend-fan-out-watchdog").daemon(true).factory()
+        );
+        this.parallelism = props.parallelism();
+        this.deadline = props.deadline();
+        this.callTimeout = props.callTimeout();
+    }
+
+    public <K, V> Map<K, V> fetchAll(Collection<K> keys, Function<? super K, ? extends V> loader) {
+        return fetchAll(keys, loader, parallelism, deadline);
+    }
+
+    /**
+     * {@link #fetchAll(Collection, Function)} 와 같지만 동시 호출 수와 전체 기한을 따로 지정한다.
+     * 일괄 처리처럼 키가 많아 기본 기한 안에 끝나기 어려운 작업에 쓴다.
+     */
+    public <K, V> Map<K, V> fetchAll(Collection<K> keys,
+                                     Function<? super K, ? extends V> loader,
+                                     int parallelism,
+                                     Duration deadline) {
+        return fetchAll(keys, loader, parallelism, deadline, callTimeout);
+    }
+
+    /**
+     * 개별 호출 제한 시간까지 따로 지정한다. 제한 시간이 지나면 작업 스레드를 인터럽트하므로, 조회보다 오래 걸릴 수
+     * 있고 도중에 끊으면 처리 여부를 알 수 없게 되는 쓰기 요청은 넉넉한 값을 넘겨야 한다.
+     */
+    public <K, V> Map<K, V> fetchAll(Collection<K> keys,
+                                     Function<? super K, ? extends V> loader,
+                                     int parallelism,
+                                     Duration deadline,
+                                     Duration callTimeout) {
+        if (keys == null || keys.isEmpty()) {
+            return Map.of();
+        }
+
+        long deadlineNanos = System.nanoTime() + deadline.toNanos();
+        Semaphore permits = new Semaphore(Math.max(parallelism, 1));
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        SecurityContext securityContext = SecurityContextHolder.getContext();
+
+        Map<K, Future<V>> futures = new LinkedHashMap<>();
+        for (K key : keys) {
+            if (key == null || futures.containsKey(key)) {
+                continue;
+            }
+            Callable<V> bounded = DelegatedAccessToken.propagate(
+                    () -> runBounded(key, loader, permits, deadlineNanos, callTimeout, requestAttributes, securityContext)
+            );
+            futures.put(key, workers.submit(bounded));
+        }
+
+        Map<K, V> results = new LinkedHashMap<>();
+        int failedCount = 0;
+        int timedOutCount = 0;
+        try {
+            for (Map.Entry<K, Future<V>> entry : futures.entrySet()) {
+                long remainingNanos = Math.max(deadlineNanos - System.nanoTime(), 0L);
+                try {
+                    V value = entry.getValue().get(remainingNanos, TimeUnit.NANOSECONDS);
+                    if (value != null) {
+                        results.put(entry.getKey(), value);
+                    }
+                } catch (TimeoutException | CancellationException exception) {
+                    timedOutCount++;
+                } catch (ExecutionException exception) {
+                    failedCount++;
+                    log.warn("Fan-out call failed for key {}.", entry.getKey(), exception.getCause());
+                } catch (InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+        } finally {
+            futures.values().forEach(future -> future.cancel(true));
+        }
+
+        if (failedCount > 0 || timedOutCount > 0) {
+            log.warn("Fan-out completed partially. requested={}, succeeded={}, failed={}, timedOut={}",
+                    futures.size(), results.size(), failedCount, timedOutCount);
+        }
+        return results;
+    }
+
+    public <T> Future<T> submit(Callable<T> call) {
+        return submit(call, callTimeout);
+    }
+
+    /**
+     * {@link #submit(Callable)} 와 같지만 개별 호출 제한 시간을 따로 지정한다.
+     */
+    public <T> Future<T> submit(Callable<T> call, Duration timeout) {
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        SecurityContext securityContext = SecurityContextHolder.getContext();
+        Callable<T> delegated = DelegatedAccessToken.propagate(call);
+        return workers.submit(() -> runWithContext(delegated, timeout, requestAttributes, securityContext));
+    }
+
+    /**
+     * 요청 컨텍스트(RequestAttributes, SecurityContext) 없이 호출을 띄운다. 위임된 토큰만 넘어간다.
+     * 화면 요청이 끝난 뒤에도 돌 수 있는 호출은 이것을 써야 이미 끝난 요청·응답 객체를 건드리지 않는다.
+     */
+    public <T> Future<T> submitDetached(Callable<T> call, Duration timeout) {
+        Callable<T> delegated = DelegatedAccessToken.propagate(call);
+        return workers.submit(() -> runWithContext(delegated, timeout, null, null));
+    }
+
+    /**
+     * {@link #submit(Callable)} 로 띄운 호출의 결과를 기다린다. 호출이 던진 런타임 예외는 그대로 다시 던지고,
+     * {@code deadline} 안에 끝나지 않으면 호출을 취소한 뒤 {@link IllegalStateException} 을 던진다.
+     */
+    public <T> T await(Future<T> future) {
+        return await(future, deadline);
+    }
+
+    /**
+     * {@link #await(Future)} 와 같지만 {@code deadline} 대신 주어진 시간만 기다린다.
+     */
+    public <T> T await(Future<T> future, Duration timeout) {
+        try {
+            return future.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException exception) {
+            future.cancel(true);
+            throw new IllegalStateException("Backend call did not finish within " + timeout, exception);
+        } catch (CancellationException exception) {
+            throw new IllegalStateException("Backend call was cancelled", exception);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new IllegalStateException("Interrupted while waiting for backend call", exception);
+        } catch (ExecutionException exception) {
+            Throwable cause = exception.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException("Backend call failed", cause);
+        }
+    }
+
+    private <K, V> V runBounded(
+            K key,
+            Function<? super K, ? extends V> loader,
+            Semaphore permits,
+            long deadlineNanos,
+            Duration callTimeout,
+            RequestAttributes requestAttributes,
+            SecurityContext securityContext
+    ) throws Exception {
+        long waitNanos = deadlineNanos - System.nanoTime();
+        if (waitNanos <= 0 || !permits.tryAcquire(waitNanos, TimeUnit.NANOSECONDS)) {
+            return null;
+        }
+        try {
+            return runWithContext(() -> loader.apply(key), callTimeout, requestAttributes, securityContext);
+        } finally {
+            permits.release();
+        }
+    }
+
+    private <T> T runWithContext(
+            Callable<T> call,
+            Duration timeout,
+            RequestAttributes requestAttributes,
+            SecurityContext securityContext
+    ) throws Exception {
+        Thread worker = Thread.currentThread();
+        ScheduledFuture<?> callTimer = watchdog.schedule(worker::interrupt, timeout.toNanos(), TimeUnit.NANOSECONDS);
+        RequestContextHolder.setRequestAttributes(requestAttributes);
+        if (securityContext != null) {
+            SecurityContextHolder.setContext(securityContext);
+        }
+        try {
+            return call.call();
+        } finally {
+            callTimer.cancel(false);
+            RequestContextHolder.resetRequestAttributes();
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        workers.shutdownNow();
+        watchdog.shutdownNow();
+    }
+}
@@ -0,0 +1,24 @@
+package apu.saerok_admin.infra.concurrent;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "saerok.api.fan-out")
+public record BackendFanOutProps(Integer parallelism, Duration deadline, Duration callTimeout) {
+
+    private static final int DEFAULT_PARALLELISM = 16;
+    private static final Duration DEFAULT_DEADLINE = Duration.ofSeconds(5);
+    private static final Duration DEFAULT_CALL_TIMEOUT = Duration.ofSeconds(3);
+
+    public BackendFanOutProps {
+        if (parallelism == null || parallelism < 1) {
+            parallelism = DEFAULT_PARALLELISM;
+        }
+        if (deadline == null || deadline.isNegative() || deadline.isZero()) {
+            deadline = DEFAULT_DEADLINE;
+        }
+        if (callTimeout == null || callTimeout.isNegative() || callTimeout.isZero()) {
+            callTimeout = DEFAULT_CALL_TIMEOUT;
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package apu.saerok_admin.infra.concurrent;
+
+import apu.saerok_admin.infra.auth.DelegatedAccessToken;
+import apu.saerok_admin.infra.metrics.BackendCallTrace;
+import apu.saerok_admin.security.LoginSessionManager;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.client.RestClientResponseException;
+
+/**
+ * 멱등 조회의 꼬리 지연을 줄이기 위한 헤지 요청.
+ * <p>
+ * 라우트별 최근 응답 시간의 백분위({@code percentile})를 넘도록 첫 시도가 끝나지 않으면 같은 호출을 한 번 더 보내고,
+ * 먼저 성공한 응답을 쓴다. 헤지는 {@link HedgeBudget} 이 허락할 때만 보내므로 추가 부하는 전체 호출의
+ * {@code budget-ratio} 정도로 묶인다. 표본이 모이기 전이거나 꺼져 있으면 호출 스레드에서 그대로 실행한다.
+ * <p>
+ * 경합에 들어간 시도는 화면 요청보다 오래 살 수 있으므로 요청 컨텍스트 없이 돌리고, 호출한 쪽의 액세스 토큰과
+ * 캐시 범위만 {@link DelegatedAccessToken} 으로 넘긴다. 그래서 시도 안에서는 토큰을 갱신하거나 쿠키를 쓰지 않지만
+ * 조건부 GET 은 호출한 관리자의 범위로 재검증한다. 시도가 401 로 끝나면 호출한 스레드에서 한 번 더 불러 평소처럼
+ * 토큰을 갱신하게 한다.
+ * <p>
+ * 시도마다 호출 기록을 따로 모아 두었다가, 돌려준 결과(또는 실패)를 낸 시도의 기록만 호출한 스레드에서 화면 요청의
+ * {@link BackendCallTrace} 에 옮긴다. 그래서 Server-Timing 과 호출 예산은 논리적 호출 한 건을 한 번으로 센다.
+ * <p>
+ * 진 쪽 시도는 이겼다고 바로 끊지 않고 결과만 버린다. 다만 어떤 시도든 {@code attemptTimeout} 이 지나면
+ * 다른 fan-out 호출과 같이 감시 타이머가 인터럽트한다. 인터럽트로 끝난 호출은 회로 차단기가 실패로 세지 않는다.
+ */
+@Component
+public class BackendHedger {
+
+    private static final String SENT_METRIC = "saerok.backend.hedge.sent";
+    private static final String WINS_METRIC = "saerok.backend.hedge.wins";
+    private static final String SKIPPED_METRIC = "saerok.backend.hedge.skipped";
+    private static final String PRIMARY = "primary";
+    private static final String HEDGE = "hedge";
+
+    private final BackendHedgingProps props;
+    private final BackendFanOutExecutor backendFanOutExecutor;
+    private final LoginSessionManager loginSessionManager;
+    private final MeterRegistry meterRegistry;
+    private final HedgeBudget budget;
+    private final ConcurrentMap<String, RouteLatencyWindow> windows = new ConcurrentHashMap<>();
+
+    public BackendHedger(
+            BackendHedgingProps props,
+            BackendFanOutExecutor backendFanOutExecutor,
+            LoginSessionManager loginSessionManager,
+            MeterRegistry meterRegistry
+    ) {
+        this.props = props;
+        this.backendFanOutExecutor = backendFanOutExecutor;
+        this.loginSessionManager = loginSessionManager;
+        this.meterRegistry = meterRegistry;
+        this.budget = new HedgeBudget(props.budgetRatio(), props.budgetBurst());
+    }
+
+    /**
+     * @param route 응답 시간을 모을 라우트 템플릿 (예: {@code admin/reports/collections/{id}})
+     */
+    public <T> T execute(String route, Supplier<T> call) {
+        if (!props.enabled()) {
+            return call.get();
+        }
+
+        RouteLatencyWindow window = windows.computeIfAbsent(route, key -> new RouteLatencyWindow(props.windowSize()));
+        budget.deposit();
+        OptionalLong threshold = window.percentile(props.percentile(), props.minSamples());
+        if (threshold.isEmpty()) {
+            long startedAt = System.nanoTime();
+            T value = call.get();
+            window.record(System.nanoTime() - startedAt);
+            return value;
+        }
+
+        long hedgeDelayNanos = Math.max(threshold.getAsLong(), props.minDelay().toNanos());
+        Optional<String> sessionToken = loginSessionManager.currentAccessToken().filter(StringUtils::hasText);
+        DelegatedAccessToken.Scope scope = new DelegatedAccessToken.Scope(
+                loginSessionManager.currentRoleScope().filter(StringUtils::hasText).orElse(null),
+                loginSessionManager.currentAccessTokenFingerprint().orElse(null)
+        );
+        Supplier<T> detachedCall = sessionToken.isPresent()
+                ? () -> DelegatedAccessToken.callWith(sessionToken.get(), scope, call)
+                : call;
+        Optional<BackendCallTrace> callerTrace = BackendCallTrace.current();
+        Race<T> race = new Race<>();
+        launch(race, PRIMARY, detachedCall, window);
+        try {
+            try {
+                return race.result.get(hedgeDelayNanos, TimeUnit.NANOSECONDS);
+            } catch (TimeoutException slowPrimary) {
+                if (!budget.tryWithdraw()) {
+                    meterRegistry.counter(SKIPPED_METRIC, "route", route, "reason", "budget").increment();
+                } else if (race.join()) {
+                    meterRegistry.counter(SENT_METRIC, "route", route).increment();
+                    launch(race, HEDGE, detachedCall, window);
+                    T value = race.result.get(props.attemptTimeout().toNanos(), TimeUnit.NANOSECONDS);
+                    meterRegistry.counter(WINS_METRIC, "route", route, "winner", race.winner.get()).increment();
+                    return value;
+                }
+                return race.result.get(props.attemptTimeout().toNanos(), TimeUnit.NANOSECONDS);
+            }
+        } catch (TimeoutException exception) {
+            throw new IllegalStateException("Backend call did not finish within " + props.attemptTimeout(), exception);
+        } catch (CancellationException exception) {
+            throw new IllegalStateException("Backend call was cancelled", exception);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for backend call", exception);
+        } catch (ExecutionException exception) {
+            Throwable cause = exception.getCause();
+            if (sessionToken.isPresent() && isUnauthorized(cause)) {
+                // 위임된 토큰으로는 갱신하지 않으므로, 요청 스레드에서 다시 불러 평소의 갱신 경로를 탄다.
+                return call.get();
+            }
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException("Backend call failed", cause);
+        } finally {
+            race.decidingTrace().ifPresent(trace -> callerTrace.ifPresent(caller -> caller.addAll(trace)));
+        }
+    }
+
+    private static boolean isUnauthorized(Throwable cause) {
+        return cause instanceof RestClientResponseException responseException
+                && responseException.getStatusCode().isSameCodeAs(HttpStatus.UNAUTHORIZED);
+    }
+
+    private <T> void launch(Race<T> race, String attempt, Supplier<T> call, RouteLatencyWindow window) {
+        backendFanOutExecutor.submitDetached(() -> {
+            BackendCallTrace trace = BackendCallTrace.detached();
+            long startedAt = System.nanoTime();
+            try {
+                T value = BackendCallTrace.callWith(trace, call);
+                window.record(System.nanoTime() - startedAt);
+                race.succeed(attempt, value, trace);
+            } catch (RuntimeException | Error exception) {
+                race.fail(exception, trace);
+            }
+            return null;
+        }, props.attemptTimeout());
+    }
+
+    /**
+     * 한 번의 논리적 호출에 대한 시도들의 경합. 모든 시도가 실패했을 때만 첫 번째 실패로 끝난다.
+     */
+    private static final class Race<T> {
+
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+        private final AtomicReference<String> winner = new AtomicReference<>();
+        private final AtomicReference<Throwable> firstFailure = new AtomicReference<>();
+        private final AtomicReference<BackendCallTrace> firstFailureTrace = new AtomicReference<>();
+        private final AtomicReference<BackendCallTrace> decidingTrace = new AtomicReference<>();
+        private final AtomicInteger pending = new AtomicInteger(1);
+
+        /**
+         * 시도를 하나 더 붙인다. 이미 모든 시도가 실패해 끝났다면 false.
+         */
+        boolean join() {
+            return pending.getAndUpdate(count -> count == 0 ? 0 : count + 1) > 0;
+        }
+
+        void succeed(String attempt, T value, BackendCallTrace trace) {
+            if (winner.compareAndSet(null, attempt)) {
+                decidingTrace.set(trace);
+                result.complete(value);
+            }
+        }
+
+        void fail(Throwable exception, BackendCallTrace trace) {
+            if (firstFailure.compareAndSet(null, exception)) {
+                firstFailureTrace.set(trace);
+            }
+            if (pending.decrementAndGet() == 0) {
+                decidingTrace.set(firstFailureTrace.get());
+                result.completeExceptionally(firstFailure.get());
+            }
+        }
+
+        /**
+         * 경합이 끝났으면 결과를 낸 시도의 호출 기록.
+         */
+        Optional<BackendCallTrace> decidingTrace() {
+            return result.isDone() ? Optional.ofNullable(decidingTrace.get()) : Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package apu.saerok_admin.infra.concurrent;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "saerok.api.hedging")
+public record BackendHedgingProps(
+        boolean enabled,
+        Double percentile,
+        Integer windowSize,
+        Integer minSamples,
+        Duration minDelay,
+        Double budgetRatio,
+        Integer budgetBurst,
+        Duration attemptTimeout
+) {
+
+    private static final double DEFAULT_PERCENTILE = 0.95;
+    private static final int DEFAULT_WINDOW_SIZE = 200;
+    private static final int DEFAULT_MIN_SAMPLES = 20;
+    private static final Duration DEFAULT_MIN_DELAY = Duration.ofMillis(50);
+    private static final double DEFAULT_BUDGET_RATIO = 0.1;
+    private static final int DEFAULT_BUDGET_BURST = 10;
+    private static final Duration DEFAULT_ATTEMPT_TIMEOUT = Duration.ofSeconds(10);
+
+    public BackendHedgingProps {
+        if (percentile == null || percentile <= 0 || percentile >= 1) {
+            percentile = DEFAULT_PERCENTILE;
+        }
+        if (windowSize == null || windowSize < 1) {
+            windowSize = DEFAULT_WINDOW_SIZE;
+        }
+        if (minSamples == null || minSamples < 1) {
+            minSamples = DEFAULT_MIN_SAMPLES;
+        }
+        minSamples = Math.min(minSamples, windowSize);
+        if (minDelay == null || minDelay.isNegative()) {
+            minDelay = DEFAULT_MIN_DELAY;
+        }
+        if (budgetRatio == null || budgetRatio < 0) {
+            budgetRatio = DEFAULT_BUDGET_RATIO;
+        }
+        if (budgetBurst == null || budgetBurst < 1) {
+            budgetBurst = DEFAULT_BUDGET_BURST;
+        }
+        if (attemptTimeout == null || attemptTimeout.isNegative() || attemptTimeout.isZero()) {
+            attemptTimeout = DEFAULT_ATTEMPT_TIMEOUT;
+        }
+    }
+}
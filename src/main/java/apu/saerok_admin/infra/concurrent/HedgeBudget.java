@@ -0,0 +1,29 @@
+package apu.saerok_admin.infra.concurrent;
+
+/**
+ * 헤지 요청 예산. 호출마다 {@code ratio} 만큼 쌓이고 헤지 한 번에 1을 쓴다.
+ * 쌓이는 양은 {@code burst} 에서 멈추므로 장기적으로 헤지는 전체 호출의 {@code ratio} 비율을 넘지 않는다.
+ */
+final class HedgeBudget {
+
+    private final double ratio;
+    private final double burst;
+    private double balance;
+
+    HedgeBudget(double ratio, int burst) {
+        this.ratio = ratio;
+        this.burst = burst;
+    }
+
+    synchronized void deposit() {
+        balance = Math.min(balance + ratio, burst);
+    }
+
+    synchronized boolean tryWithdraw() {
+        if (balance < 1) {
+            return false;
+        }
+        balance -= 1;
+        return true;
+    }
+}
@@ -0,0 +1,39 @@
+package apu.saerok_admin.infra.concurrent;
+
+import java.util.Arrays;
+import java.util.OptionalLong;
+
+/**
+ * 라우트 하나의 최근 응답 시간(나노초)을 고정 크기 링 버퍼에 모아 백분위를 계산한다.
+ */
+final class RouteLatencyWindow {
+
+    private final long[] samples;
+    private int next;
+    private int count;
+
+    RouteLatencyWindow(int size) {
+        this.samples = new long[size];
+    }
+
+    synchronized void record(long nanos) {
+        samples[next] = nanos;
+        next = (next + 1) % samples.length;
+        if (count < samples.length) {
+            count++;
+        }
+    }
+
+    /**
+     * 표본이 {@code minSamples} 보다 적으면 비어 있다.
+     */
+    synchronized OptionalLong percentile(double percentile, int minSamples) {
+        if (count < minSamples) {
+            return OptionalLong.empty();
+        }
+        long[] sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile * count) - 1;
+        return OptionalLong.of(sorted[Math.clamp(index, 0, count - 1)]);
+    }
+}
@@ -0,0 +1,103 @@
+package apu.saerok_admin.infra.health;
+
+import apu.saerok_admin.infra.ServiceHealthClient;
+import apu.saerok_admin.web.view.ServiceHealthStatus;
+import java.time.Clock;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+/**
+ * 백엔드 {@code /health} 를 일정 간격으로 찔러 보고 결과를 메모리에 남긴다.
+ * <p>
+ * 인터셉터(토큰 갱신, 회로 차단기 등)가 없는 전용 클라이언트로 짧은 제한 시간 안에 호출한다.
+ * 대시보드는 백엔드를 부르지 않고 여기 남은 마지막 상태와 응답 시간 이력만 그린다.
+ * <p>
+ * 관리자 API 는 살펴보지 않는다. 토큰 없이 부르면 백엔드 인증 필터가 핸들러 앞에서 거절하므로, 그 응답 시간은
+ * 해당 API 가 아니라 인증 필터의 것이다.
+ * <p>
+ * 주기 실행은 애플리케이션 컨텍스트의 생명주기를 따른다. 컨텍스트가 뜬 뒤 {@link #start()} 에서 시작하고
+ * 종료할 때 {@link #stop()} 에서 멈춘다. 꺼 두면 스레드를 만들지 않는다.
+ */
+@Component
+public class BackendHealthProber implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(BackendHealthProber.class);
+
+    private final ServiceHealthClient serviceHealthClient;
+    private final HealthProbeProps props;
+    private final Clock clock;
+    private final ProbeHistory history;
+    private ScheduledExecutorService scheduler;
+    private volatile ServiceHealthStatus latestHealth;
+
+    public BackendHealthProber(
+            ServiceHealthClient serviceHealthClient,
+            HealthProbeProps props,
+            Clock clock
+    ) {
+        this.serviceHealthClient = serviceHealthClient;
+        this.props = props;
+        this.clock = clock;
+        this.history = new ProbeHistory(props.historySize());
+    }
+
+    @Override
+    public synchronized void start() {
+        if (!props.enabled() || scheduler != null) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("backend-health-prober").daemon(true).factory()
+        );
+        scheduler.scheduleWithFixedDelay(this::probeHealth, 0, props.interval().toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return scheduler != null;
+    }
+
+    /**
+     * 마지막 {@code /health} 결과. 프로버를 껐다면 그 자리에서 한 번 확인한다.
+     */
+    public Optional<ServiceHealthStatus> latestHealth() {
+        if (!props.enabled()) {
+            return Optional.of(serviceHealthClient.checkHealth());
+        }
+        return Optional.ofNullable(latestHealth);
+    }
+
+    /**
+     * {@code /health} 응답 이력. 오래된 것부터.
+     */
+    public List<ProbeSample> history() {
+        return history.snapshot();
+    }
+
+    void probeHealth() {
+        try {
+            long startedAt = System.nanoTime();
+            ServiceHealthStatus status = serviceHealthClient.checkHealth();
+            long latencyMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+            history.add(new ProbeSample(clock.instant(), status.alive(), latencyMillis));
+            latestHealth = status;
+        } catch (RuntimeException exception) {
+            log.warn("Backend health probe failed unexpectedly.", exception);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package apu.saerok_admin.infra.health;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "saerok.api.health-probe")
+public record HealthProbeProps(
+        Boolean enabled,
+        Duration interval,
+        Duration connectTimeout,
+        Duration readTimeout,
+        Integer historySize
+) {
+
+    private static final Duration DEFAULT_INTERVAL = Duration.ofSeconds(30);
+    private static final Duration DEFAULT_CONNECT_TIMEOUT = Duration.ofSeconds(1);
+    private static final Duration DEFAULT_READ_TIMEOUT = Duration.ofSeconds(2);
+    private static final int DEFAULT_HISTORY_SIZE = 60;
+
+    public HealthProbeProps {
+        enabled = enabled == null || enabled;
+        if (interval == null || interval.isNegative() || interval.isZero()) {
+            interval = DEFAULT_INTERVAL;
+        }
+        if (connectTimeout == null || connectTimeout.isNegative() || connectTimeout.isZero()) {
+            connectTimeout = DEFAULT_CONNECT_TIMEOUT;
+        }
+        if (readTimeout == null || readTimeout.isNegative() || readTimeout.isZero()) {
+            readTimeout = DEFAULT_READ_TIMEOUT;
+        }
+        if (historySize == null || historySize < 2) {
+            historySize = DEFAULT_HISTORY_SIZE;
+        }
+    }
+}
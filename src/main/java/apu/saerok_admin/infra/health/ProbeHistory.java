@@ -0,0 +1,38 @@
+package apu.saerok_admin.infra.health;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 대상 하나의 최근 프로브 결과를 고정 크기 링 버퍼에 담는다.
+ */
+final class ProbeHistory {
+
+    private final ProbeSample[] samples;
+    private int next;
+    private int count;
+
+    ProbeHistory(int size) {
+        this.samples = new ProbeSample[size];
+    }
+
+    synchronized void add(ProbeSample sample) {
+        samples[next] = sample;
+        next = (next + 1) % samples.length;
+        if (count < samples.length) {
+            count++;
+        }
+    }
+
+    /**
+     * 오래된 것부터 시간순으로 돌려준다.
+     */
+    synchronized List<ProbeSample> snapshot() {
+        List<ProbeSample> ordered = new ArrayList<>(count);
+        int start = (next - count + samples.length) % samples.length;
+        for (int i = 0; i < count; i++) {
+            ordered.add(samples[(start + i) % samples.length]);
+        }
+        return List.copyOf(ordered);
+    }
+}
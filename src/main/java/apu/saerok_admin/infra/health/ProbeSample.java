@@ -0,0 +1,6 @@
+package apu.saerok_admin.infra.health;
+
+import java.time.Instant;
+
+public record ProbeSample(Instant probedAt, boolean up, long latencyMillis) {
+}
@@ -0,0 +1,251 @@
+package apu.saerok_admin.infra.http;
+
+import apu.saerok_admin.infra.auth.DelegatedAccessToken;
+import apu.saerok_admin.infra.metrics.BackendCallObservation;
+import apu.saerok_admin.infra.resilience.BackendApiGroup;
+import apu.saerok_admin.security.LoginSessionManager;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.support.HttpRequestWrapper;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+/**
+ * 백엔드 GET 응답을 ETag/Last-Modified 와 함께 저장해 두고, 다음 요청을 조건부 GET 으로 보낸다.
+ * <p>
+ * 백엔드가 304 로 답하면 저장한 본문을 그대로 돌려주므로 목록 전체를 다시 받지 않는다. 저장소는 URI와
+ * 관리자 권한 조합별로 나뉜다. 권한을 아직 모르면 액세스 토큰 지문을, 본인 정보(/user/me)는 항상 토큰
+ * 지문을 범위로 쓴다. 검증자가 없는 응답이나 {@code maxEntrySize} 를 넘는 응답은 저장하지 않는다.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 200)
+public class ConditionalGetInterceptor implements ClientHttpRequestInterceptor {
+
+    private static final String REQUESTS_METRIC = "saerok.backend.conditional.requests";
+    private static final String BYTES_SAVED_METRIC = "saerok.backend.conditional.bytes.saved";
+
+    private final ConditionalGetProps props;
+    private final LoginSessionManager loginSessionManager;
+    private final Map<String, StoredResponse> store;
+    private long storedBytes;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter bytesSaved;
+
+    public ConditionalGetInterceptor(
+            ConditionalGetProps props,
+            LoginSessionManager loginSessionManager,
+            MeterRegistry meterRegistry
+    ) {
+        this.props = props;
+        this.loginSessionManager = loginSessionManager;
+        this.store = new LinkedHashMap<>(16, 0.75f, true);
+        this.hits = meterRegistry.counter(REQUESTS_METRIC, "result", "hit");
+        this.misses = meterRegistry.counter(REQUESTS_METRIC, "result", "miss");
+        this.bytesSaved = Counter.builder(BYTES_SAVED_METRIC)
+                .baseUnit("bytes")
+                .description("Response bytes not transferred thanks to 304 Not Modified")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        if (!props.enabled() || request.getMethod() != HttpMethod.GET || request.getURI() == null) {
+            return execution.execute(request, body);
+        }
+        Optional<String> scope = resolveScope(request);
+        if (scope.isEmpty()) {
+            return execution.execute(request, body);
+        }
+
+        String key = scope.get() + " " + request.getURI();
+        StoredResponse stored = find(key);
+        HttpRequest outgoing = stored != null ? withValidators(request, stored) : request;
+
+        ClientHttpResponse response = execution.execute(outgoing, body);
+        if (stored != null && response.getStatusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED)) {
+            response.close();
+            hits.increment();
+            BackendCallObservation.current().ifPresent(observation -> observation.markCacheStatus("revalidated"));
+            bytesSaved.increment(stored.body().length);
+            return new BufferedClientHttpResponse(stored.statusCode(), stored.statusText(), stored.headers(), stored.body());
+        }
+
+        misses.increment();
+        if (!response.getStatusCode().isSameCodeAs(HttpStatus.OK) || !hasValidator(response.getHeaders())) {
+            if (stored != null) {
+                remove(key);
+            }
+            return response;
+        }
+        return bufferAndStore(key, response);
+    }
+
+    // 헤지 시도처럼 세션 없이 위임된 토큰으로 도는 호출은 토큰과 함께 넘어온 호출한 관리자의 범위를 쓴다.
+    private Optional<String> resolveScope(HttpRequest request) {
+        Optional<DelegatedAccessToken.Scope> delegated = DelegatedAccessToken.currentScope();
+        Optional<String> fingerprint = delegated.isPresent()
+                ? Optional.ofNullable(delegated.get().tokenFingerprint())
+                : loginSessionManager.currentAccessTokenFingerprint();
+        Optional<String> roleScope = delegated.isPresent()
+                ? Optional.ofNullable(delegated.get().roleScope())
+                : loginSessionManager.currentRoleScope();
+
+        Optional<String> tokenScope = fingerprint.map(value -> "token:" + value);
+        if (BackendApiGroup.resolve(request.getURI().getPath()) == BackendApiGroup.USER_ME) {
+            return tokenScope;
+        }
+        return roleScope
+                .filter(StringUtils::hasText)
+                .map(value -> "role:" + value)
+                .or(() -> tokenScope);
+    }
+
+    private HttpRequest withValidators(HttpRequest request, StoredResponse stored) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.putAll(request.getHeaders());
+        if (stored.etag() != null) {
+            headers.setIfNoneMatch(stored.etag());
+        }
+        if (stored.lastModified() >= 0) {
+            headers.setIfModifiedSince(stored.lastModified());
+        }
+        return new HttpRequestWrapper(request) {
+            @Override
+            public HttpHeaders getHeaders() {
+                return headers;
+            }
+        };
+    }
+
+    private ClientHttpResponse bufferAndStore(String key, ClientHttpResponse response) throws IOException {
+        long limit = props.maxEntrySize().toBytes();
+        long contentLength = response.getHeaders().getContentLength();
+        if (contentLength > limit) {
+            return response;
+        }
+
+        InputStream source = response.getBody();
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(contentLength > 0 ? (int) contentLength : 8192);
+        byte[] chunk = new byte[8192];
+        int read;
+        while ((read = source.read(chunk)) != -1) {
+            buffer.write(chunk, 0, read);
+            if (buffer.size() > limit) {
+                // 너무 크면 저장하지 않고, 이미 읽은 부분과 나머지를 이어서 그대로 넘긴다.
+                return new PartiallyReadResponse(response, buffer.toByteArray(), source);
+            }
+        }
+        response.close();
+
+        byte[] bytes = buffer.toByteArray();
+        HttpHeaders headers = new HttpHeaders();
+        headers.putAll(response.getHeaders());
+        StoredResponse stored = new StoredResponse(
+                response.getStatusCode(),
+                response.getStatusText(),
+                headers,
+                bytes,
+                response.getHeaders().getETag(),
+                response.getHeaders().getLastModified()
+        );
+        put(key, stored);
+        return new BufferedClientHttpResponse(stored.statusCode(), stored.statusText(), headers, bytes);
+    }
+
+    private boolean hasValidator(HttpHeaders headers) {
+        return headers.getETag() != null || headers.getLastModified() >= 0;
+    }
+
+    private synchronized StoredResponse find(String key) {
+        return store.get(key);
+    }
+
+    // 오래 쓰지 않은 항목부터 비워 항목 수와 전체 크기를 한도 안으로 유지한다.
+    private synchronized void put(String key, StoredResponse value) {
+        StoredResponse previous = store.put(key, value);
+        if (previous != null) {
+            storedBytes -= previous.body().length;
+        }
+        storedBytes += value.body().length;
+
+        Iterator<StoredResponse> eldest = store.values().iterator();
+        while ((store.size() > props.maxEntries() || storedBytes > props.maxTotalSize().toBytes()) && eldest.hasNext()) {
+            storedBytes -= eldest.next().body().length;
+            eldest.remove();
+        }
+    }
+
+    private synchronized void remove(String key) {
+        StoredResponse removed = store.remove(key);
+        if (removed != null) {
+            storedBytes -= removed.body().length;
+        }
+    }
+
+    private record StoredResponse(
+            HttpStatusCode statusCode,
+            String statusText,
+            HttpHeaders headers,
+            byte[] body,
+            String etag,
+            long lastModified
+    ) {
+    }
+
+    private static final class PartiallyReadResponse implements ClientHttpResponse {
+
+        private final ClientHttpResponse delegate;
+        private final InputStream body;
+
+        private PartiallyReadResponse(ClientHttpResponse delegate, byte[] head, InputStream rest) {
+            this.delegate = delegate;
+            this.body = new SequenceInputStream(new ByteArrayInputStream(head), rest);
+        }
+
+        @Override
+        public HttpStatusCode getStatusCode() throws IOException {
+            return delegate.getStatusCode();
+        }
+
+        @Override
+        public String getStatusText() throws IOException {
+            return delegate.getStatusText();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return delegate.getHeaders();
+        }
+
+        @Override
+        public InputStream getBody() {
+            return body;
+        }
+
+        @Override
+        public void close() {
+            delegate.close();
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package apu.saerok_admin.infra.http;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+@ConfigurationProperties(prefix = "saerok.api.conditional-get")
+public record ConditionalGetProps(Boolean enabled, Integer maxEntries, DataSize maxEntrySize, DataSize maxTotalSize) {
+
+    public ConditionalGetProps {
+        enabled = enabled == null || enabled;
+        maxEntries = maxEntries == null || maxEntries < 1 ? 200 : maxEntries;
+        maxEntrySize = maxEntrySize == null || maxEntrySize.isNegative() ? DataSize.ofMegabytes(1) : maxEntrySize;
+        maxTotalSize = maxTotalSize == null || maxTotalSize.isNegative() ? DataSize.ofMegabytes(32) : maxTotalSize;
+    }
+}
@@ -0,0 +1,160 @@
+package apu.saerok_admin.infra.http;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * 응답 본문의 JSON 배열을 원소 단위로 읽어 바로 매핑한다.
+ * <p>
+ * 응답 전체를 DTO 목록으로 만든 뒤 다시 변환하지 않고, 원소 하나를 읽을 때마다 매퍼를 적용한다.
+ * 매핑 결과가 {@code maxItems} 를 넘거나 본문이 {@code maxBytes} 를 넘으면 거기서 멈추고
+ * 그때까지 읽은 항목을 {@code truncated} 로 표시해 돌려준다.
+ */
+@Component
+public class JsonListStreamReader {
+
+    private static final Logger log = LoggerFactory.getLogger(JsonListStreamReader.class);
+
+    private final ObjectMapper objectMapper;
+    private final ListStreamingProps props;
+
+    public JsonListStreamReader(ObjectMapper objectMapper, ListStreamingProps props) {
+        this.objectMapper = objectMapper;
+        this.props = props;
+    }
+
+    /**
+     * @param arrayField 최상위 객체에서 배열이 담긴 필드 이름. null 이면 본문 자체를 배열로 본다.
+     */
+    public <E, T> StreamedList<T> read(
+            InputStream body,
+            String arrayField,
+            Class<E> elementType,
+            Function<? super E, ? extends T> mapper
+    ) throws IOException {
+        CappedInputStream capped = new CappedInputStream(body, props.maxBytes().toBytes());
+        List<T> items = new ArrayList<>();
+        int scanned = 0;
+        boolean truncated = false;
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(capped)) {
+            if (!moveToArray(parser, arrayField)) {
+                return new StreamedList<>(List.of(), 0, false);
+            }
+            JsonToken token;
+            while ((token = parser.nextToken()) != null && token != JsonToken.END_ARRAY) {
+                if (token == JsonToken.VALUE_NULL) {
+                    continue;
+                }
+                E element = objectMapper.readValue(parser, elementType);
+                scanned++;
+                T mapped = mapper.apply(element);
+                if (mapped == null) {
+                    continue;
+                }
+                if (items.size() >= props.maxItems()) {
+                    truncated = true;
+                    break;
+                }
+                items.add(mapped);
+            }
+        } catch (IOException exception) {
+            if (!capped.exceeded()) {
+                throw exception;
+            }
+            truncated = true;
+        }
+
+        if (truncated) {
+            log.warn("Stopped reading list payload at its limit. field={}, kept={}, scanned={}, maxItems={}, maxBytes={}",
+                    arrayField, items.size(), scanned, props.maxItems(), props.maxBytes());
+        }
+        return new StreamedList<>(items, scanned, truncated);
+    }
+
+    private boolean moveToArray(JsonParser parser, String arrayField) throws IOException {
+        JsonToken root = parser.nextToken();
+        if (arrayField == null) {
+            return root == JsonToken.START_ARRAY;
+        }
+        if (root != JsonToken.START_OBJECT) {
+            return false;
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if (arrayField.equals(field) && value == JsonToken.START_ARRAY) {
+                return true;
+            }
+            parser.skipChildren();
+        }
+        return false;
+    }
+
+    private static final class CappedInputStream extends FilterInputStream {
+
+        private final long maxBytes;
+        private long readBytes;
+        private boolean exceeded;
+
+        private CappedInputStream(InputStream in, long maxBytes) {
+            super(in);
+            this.maxBytes = maxBytes;
+        }
+
+        boolean exceeded() {
+            return exceeded;
+        }
+
+        // 한도까지는 그대로 읽히게 두고, 한도를 넘어 더 읽으려 할 때 실패시킨다.
+        // 그래야 파서가 한도 안에 온전히 들어온 원소까지는 처리할 수 있다.
+        @Override
+        public int read() throws IOException {
+            if (!ensureRemaining()) {
+                return -1;
+            }
+            int value = super.read();
+            if (value != -1) {
+                readBytes++;
+            }
+            return value;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            if (length == 0) {
+                return 0;
+            }
+            if (!ensureRemaining()) {
+                return -1;
+            }
+            int allowed = (int) Math.min(length, maxBytes - readBytes);
+            int read = super.read(buffer, offset, allowed);
+            if (read > 0) {
+                readBytes += read;
+            }
+            return read;
+        }
+
+        private boolean ensureRemaining() throws IOException {
+            if (readBytes < maxBytes) {
+                return true;
+            }
+            if (in.read() == -1) {
+                return false;
+            }
+            exceeded = true;
+            throw new IOException("Response body exceeded " + maxBytes + " bytes");
+        }
+    }
+}
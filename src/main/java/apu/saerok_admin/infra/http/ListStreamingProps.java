@@ -0,0 +1,13 @@
+package apu.saerok_admin.infra.http;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+@ConfigurationProperties(prefix = "saerok.api.list-streaming")
+public record ListStreamingProps(Integer maxItems, DataSize maxBytes) {
+
+    public ListStreamingProps {
+        maxItems = maxItems == null || maxItems < 1 ? 5000 : maxItems;
+        maxBytes = maxBytes == null || maxBytes.toBytes() < 1 ? DataSize.ofMegabytes(16) : maxBytes;
+    }
+}
@@ -0,0 +1,84 @@
+package apu.saerok_admin.infra.http;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+
+/**
+ * saerok.api.http.* 설정으로 백엔드 호출용 {@link ClientHttpRequestFactory} 를 만든다.
+ * <p>
+ * 쿠키 관리는 끈다. refresh 쿠키는 관리자별로 직접 전달하므로 공유 클라이언트에
+ * 쿠키가 남으면 다른 관리자의 요청에 섞일 수 있다.
+ */
+public final class SaerokHttpClientFactory {
+
+    private SaerokHttpClientFactory() {
+    }
+
+    public static ClientHttpRequestFactory create(SaerokHttpClientProps props) {
+        return switch (props.protocol()) {
+            case HTTP_1_1 -> pooledHttp11(props);
+            case HTTP_2 -> http2(props);
+        };
+    }
+
+    private static ClientHttpRequestFactory pooledHttp11(SaerokHttpClientProps props) {
+        ConnectionConfig connectionConfig = ConnectionConfig.custom()
+                .setConnectTimeout(toTimeout(props.connectTimeout()))
+                .setSocketTimeout(toTimeout(props.readTimeout()))
+                .setTimeToLive(toTimeValue(props.connectionTimeToLive()))
+                .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+                .build();
+
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(props.maxConnections())
+                .setMaxConnPerRoute(props.maxConnectionsPerRoute())
+                .setDefaultConnectionConfig(connectionConfig)
+                .build();
+
+        RequestConfig requestConfig = RequestConfig.custom()
+                .setConnectionRequestTimeout(toTimeout(props.connectionRequestTimeout()))
+                .setResponseTimeout(toTimeout(props.responseTimeout()))
+                .build();
+
+        CloseableHttpClient httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(requestConfig)
+                .evictExpiredConnections()
+                .evictIdleConnections(toTimeValue(props.idleTimeout()))
+                .disableCookieManagement()
+                .build();
+
+        return new HttpComponentsClientHttpRequestFactory(httpClient);
+    }
+
+    private static ClientHttpRequestFactory http2(SaerokHttpClientProps props) {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(props.connectTimeout())
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(props.responseTimeout());
+        return requestFactory;
+    }
+
+    private static Timeout toTimeout(Duration duration) {
+        return Timeout.ofMilliseconds(duration.toMillis());
+    }
+
+    private static TimeValue toTimeValue(Duration duration) {
+        return TimeValue.ofMilliseconds(duration.toMillis());
+    }
+}
@@ -0,0 +1,105 @@
+package apu.saerok_admin.infra.http;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 백엔드 호출용 HTTP 클라이언트 설정.
+ * <p>
+ * {@code read-timeout}, {@code connection-request-timeout}, {@code max-connections},
+ * {@code max-connections-per-route}, {@code idle-timeout}, {@code connection-time-to-live} 는 HTTP_1_1 의
+ * 커넥션 풀에만 적용된다. JDK HttpClient 를 쓰는 HTTP_2 에는 대응하는 설정이 없으므로, 이 모드에서 지정하면
+ * 조용히 무시하지 않고 시작을 실패시킨다.
+ */
+@ConfigurationProperties(prefix = "saerok.api.http")
+public record SaerokHttpClientProps(
+        Protocol protocol,
+        Duration connectTimeout,
+        Duration readTimeout,
+        Duration responseTimeout,
+        Duration connectionRequestTimeout,
+        Integer maxConnections,
+        Integer maxConnectionsPerRoute,
+        Duration idleTimeout,
+        Duration connectionTimeToLive
+) {
+
+    private static final Duration DEFAULT_CONNECT_TIMEOUT = Duration.ofSeconds(2);
+    private static final Duration DEFAULT_READ_TIMEOUT = Duration.ofSeconds(10);
+    private static final Duration DEFAULT_RESPONSE_TIMEOUT = Duration.ofSeconds(10);
+    private static final Duration DEFAULT_CONNECTION_REQUEST_TIMEOUT = Duration.ofSeconds(2);
+    private static final int DEFAULT_MAX_CONNECTIONS = 200;
+    private static final int DEFAULT_MAX_CONNECTIONS_PER_ROUTE = 50;
+    private static final Duration DEFAULT_IDLE_TIMEOUT = Duration.ofSeconds(30);
+    private static final Duration DEFAULT_CONNECTION_TIME_TO_LIVE = Duration.ofMinutes(5);
+
+    public SaerokHttpClientProps {
+        protocol = protocol != null ? protocol : Protocol.HTTP_1_1;
+        if (protocol == Protocol.HTTP_2) {
+            rejectPoolSettings(readTimeout, connectionRequestTimeout, maxConnections, maxConnectionsPerRoute,
+                    idleTimeout, connectionTimeToLive);
+        }
+        connectTimeout = positiveOrDefault(connectTimeout, DEFAULT_CONNECT_TIMEOUT);
+        readTimeout = positiveOrDefault(readTimeout, DEFAULT_READ_TIMEOUT);
+        responseTimeout = positiveOrDefault(responseTimeout, DEFAULT_RESPONSE_TIMEOUT);
+        connectionRequestTimeout = positiveOrDefault(connectionRequestTimeout, DEFAULT_CONNECTION_REQUEST_TIMEOUT);
+        maxConnections = maxConnections != null && maxConnections > 0 ? maxConnections : DEFAULT_MAX_CONNECTIONS;
+        maxConnectionsPerRoute = maxConnectionsPerRoute != null && maxConnectionsPerRoute > 0
+                ? Math.min(maxConnectionsPerRoute, maxConnections)
+                : Math.min(DEFAULT_MAX_CONNECTIONS_PER_ROUTE, maxConnections);
+        idleTimeout = positiveOrDefault(idleTimeout, DEFAULT_IDLE_TIMEOUT);
+        connectionTimeToLive = positiveOrDefault(connectionTimeToLive, DEFAULT_CONNECTION_TIME_TO_LIVE);
+    }
+
+    private static void rejectPoolSettings(
+            Duration readTimeout,
+            Duration connectionRequestTimeout,
+            Integer maxConnections,
+            Integer maxConnectionsPerRoute,
+            Duration idleTimeout,
+            Duration connectionTimeToLive
+    ) {
+        List<String> ignored = new ArrayList<>();
+        if (readTimeout != null) {
+            ignored.add("read-timeout");
+        }
+        if (connectionRequestTimeout != null) {
+            ignored.add("connection-request-timeout");
+        }
+        if (maxConnections != null) {
+            ignored.add("max-connections");
+        }
+        if (maxConnectionsPerRoute != null) {
+            ignored.add("max-connections-per-route");
+        }
+        if (idleTimeout != null) {
+            ignored.add("idle-timeout");
+        }
+        if (connectionTimeToLive != null) {
+            ignored.add("connection-time-to-live");
+        }
+        if (!ignored.isEmpty()) {
+            throw new IllegalArgumentException("saerok.api.http." + String.join(", saerok.api.http.", ignored)
+                    + " only apply to HTTP_1_1 and are not supported with protocol HTTP_2");
+        }
+    }
+
+    private static Duration positiveOrDefault(Duration value, Duration defaultValue) {
+        if (value == null || value.isNegative() || value.isZero()) {
+            return defaultValue;
+        }
+        return value;
+    }
+
+    public enum Protocol {
+        /** Apache HttpClient 커넥션 풀을 사용하는 keep-alive HTTP/1.1 */
+        HTTP_1_1,
+        /**
+         * JDK HttpClient 를 사용하며, 백엔드가 지원하면 HTTP/2 로 협상한다.
+         * connect-timeout 과 response-timeout 만 적용되고 풀 관련 설정은 받지 않는다.
+         */
+        HTTP_2
+    }
+}
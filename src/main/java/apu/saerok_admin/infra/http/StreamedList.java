@@ -0,0 +1,17 @@
+package apu.saerok_admin.infra.http;
+
+import java.util.List;
+
+/**
+ * 스트리밍으로 읽은 목록.
+ *
+ * @param items     매핑 결과 중 null 이 아닌 항목
+ * @param scanned   읽은 원소 수 (매핑 결과가 null 인 원소 포함)
+ * @param truncated 항목 수나 바이트 한도에 걸려 끝까지 읽지 못했으면 true
+ */
+public record StreamedList<T>(List<T> items, int scanned, boolean truncated) {
+
+    public StreamedList {
+        items = items != null ? List.copyOf(items) : List.of();
+    }
+}
@@ -0,0 +1,88 @@
+package apu.saerok_admin.infra.metrics;
+
+import apu.saerok_admin.infra.resilience.BackendUnavailableException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.springframework.boot.actuate.metrics.http.Outcome;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Component;
+
+/**
+ * 모든 백엔드 호출의 소요 시간을 클라이언트·라우트 템플릿·상태·결과·토큰 갱신 재시도 여부로 나눠 기록한다.
+ * <p>
+ * 회로 차단기에서 막힌 호출과 토큰 갱신 후 재시도까지 한 번의 논리적 호출로 재도록 가장 바깥 인터셉터로 등록한다.
+ * 응답 본문을 읽는 시간은 포함하지 않는다. 화면 요청에 {@link BackendCallTrace} 가 있으면 호출 내역도 거기에 남긴다.
+ * <p>
+ * 응답 없이 끝난 호출의 {@code status} 는 연결 오류면 {@code IO_ERROR}, 회로 차단기·bulkhead 에서 막혔으면
+ * {@code CIRCUIT_OPEN}/{@code BULKHEAD_FULL}, 그 밖의 예외는 예외 클래스 이름이다. 이때 {@code outcome} 은 UNKNOWN 이다.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class BackendCallMetricsInterceptor implements ClientHttpRequestInterceptor {
+
+    private static final String CALLS_METRIC = "saerok.backend.calls";
+    private static final String UNKNOWN_CLIENT = "unknown";
+
+    private final MeterRegistry meterRegistry;
+    private final BackendRouteTemplate routeTemplate;
+
+    public BackendCallMetricsInterceptor(MeterRegistry meterRegistry, BackendRouteTemplate routeTemplate) {
+        this.meterRegistry = meterRegistry;
+        this.routeTemplate = routeTemplate;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        BackendCallObservation observation = BackendCallObservation.open();
+        long startedAt = System.nanoTime();
+        String status = Outcome.UNKNOWN.name();
+        String outcome = Outcome.UNKNOWN.name();
+        try {
+            ClientHttpResponse response = execution.execute(request, body);
+            int statusCode = response.getStatusCode().value();
+            status = String.valueOf(statusCode);
+            outcome = Outcome.forStatus(statusCode).name();
+            return response;
+        } catch (IOException exception) {
+            status = "IO_ERROR";
+            throw exception;
+        } catch (BackendUnavailableException exception) {
+            status = exception.reason().name();
+            throw exception;
+        } catch (RuntimeException exception) {
+            status = exception.getClass().getSimpleName();
+            throw exception;
+        } finally {
+            BackendCallObservation.close();
+            long durationNanos = System.nanoTime() - startedAt;
+            String client = clientOf(request);
+            String route = routeTemplate.of(request.getURI());
+            Timer.builder(CALLS_METRIC)
+                    .description("Outbound calls to the saerok backend")
+                    .tag("client", client)
+                    .tag("route", route)
+                    .tag("method", request.getMethod().name())
+                    .tag("status", status)
+                    .tag("outcome", outcome)
+                    .tag("refresh_retry", String.valueOf(observation.refreshRetry()))
+                    .register(meterRegistry)
+                    .record(durationNanos, TimeUnit.NANOSECONDS);
+            BackendCallRecord call = new BackendCallRecord(client, request.getMethod().name(), route, status,
+                    durationNanos, observation.cacheStatus(), observation.refreshRetry());
+            BackendCallTrace.current().ifPresent(trace -> trace.add(call));
+        }
+    }
+
+    private static String clientOf(HttpRequest request) {
+        Object client = request.getAttributes().get(BackendClientTag.ATTRIBUTE);
+        return client instanceof String name ? name : UNKNOWN_CLIENT;
+    }
+}
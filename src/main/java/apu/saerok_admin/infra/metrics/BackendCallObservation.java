@@ -0,0 +1,56 @@
+package apu.saerok_admin.infra.metrics;
+
+import java.util.Optional;
+
+/**
+ * 진행 중인 백엔드 호출 하나에 대해 안쪽 인터셉터가 남기는 표시.
+ * <p>
+ * {@link BackendCallMetricsInterceptor} 가 호출을 시작할 때 현재 스레드에 열고 끝날 때 닫는다.
+ * 인터셉터 체인은 한 스레드에서 동기로 실행되므로 안쪽 인터셉터는 {@link #current()} 로 같은 객체를 본다.
+ */
+public final class BackendCallObservation {
+
+    private static final ThreadLocal<BackendCallObservation> CURRENT = new ThreadLocal<>();
+
+    private boolean refreshRetry;
+    private String cacheStatus;
+
+    private BackendCallObservation() {
+    }
+
+    public static Optional<BackendCallObservation> current() {
+        return Optional.ofNullable(CURRENT.get());
+    }
+
+    static BackendCallObservation open() {
+        BackendCallObservation observation = new BackendCallObservation();
+        CURRENT.set(observation);
+        return observation;
+    }
+
+    static void close() {
+        CURRENT.remove();
+    }
+
+    /**
+     * 액세스 토큰을 갱신한 뒤 다시 보낸 호출임을 표시한다.
+     */
+    public void markRefreshRetry() {
+        this.refreshRetry = true;
+    }
+
+    public boolean refreshRetry() {
+        return refreshRetry;
+    }
+
+    /**
+     * 응답을 캐시에서 내줬다면 그 방식을 표시한다 (예: {@code revalidated}).
+     */
+    public void markCacheStatus(String cacheStatus) {
+        this.cacheStatus = cacheStatus;
+    }
+
+    public String cacheStatus() {
+        return cacheStatus;
+    }
+}
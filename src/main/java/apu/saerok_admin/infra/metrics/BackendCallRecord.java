@@ -0,0 +1,21 @@
+package apu.saerok_admin.infra.metrics;
+
+/**
+ * 화면 요청 하나를 처리하는 동안 나간 백엔드 호출 한 건.
+ *
+ * @param cacheStatus 캐시에서 응답했으면 그 방식, 아니면 null
+ */
+public record BackendCallRecord(
+        String client,
+        String method,
+        String route,
+        String status,
+        long durationNanos,
+        String cacheStatus,
+        boolean refreshRetry
+) {
+
+    public double durationMillis() {
+        return durationNanos / 1_000_000.0;
+    }
+}
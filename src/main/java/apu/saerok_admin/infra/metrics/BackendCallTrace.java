@@ -0,0 +1,97 @@
+package apu.saerok_admin.infra.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * 화면 요청 하나에서 나간 백엔드 호출 목록.
+ * <p>
+ * 요청 속성에 담기므로 요청 컨텍스트를 넘겨받은 팬아웃 작업의 호출도 같은 목록에 쌓인다.
+ * 요청을 시작할 때 {@link #startIfAbsent(RequestAttributes)} 로 만든 경우에만 기록한다.
+ * <p>
+ * 헤지 시도처럼 요청 컨텍스트 없이 도는 호출은 {@link #detached()} 로 만든 목록에 {@link #callWith} 로 따로
+ * 모으고, 호출한 스레드가 쓸 결과를 낸 시도의 목록만 {@link #addAll(BackendCallTrace)} 로 옮겨 담는다.
+ */
+public final class BackendCallTrace {
+
+    private static final String ATTRIBUTE = BackendCallTrace.class.getName();
+    private static final ThreadLocal<BackendCallTrace> DETACHED = new ThreadLocal<>();
+
+    private final List<BackendCallRecord> calls = new ArrayList<>();
+
+    private BackendCallTrace() {
+    }
+
+    public static BackendCallTrace startIfAbsent(RequestAttributes requestAttributes) {
+        Object existing = requestAttributes.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (existing instanceof BackendCallTrace trace) {
+            return trace;
+        }
+        BackendCallTrace trace = new BackendCallTrace();
+        requestAttributes.setAttribute(ATTRIBUTE, trace, RequestAttributes.SCOPE_REQUEST);
+        return trace;
+    }
+
+    /**
+     * 요청 속성에 걸리지 않은 빈 목록.
+     */
+    public static BackendCallTrace detached() {
+        return new BackendCallTrace();
+    }
+
+    /**
+     * {@code call} 안에서 이 스레드가 보낸 호출을 요청 속성 대신 {@code trace} 에 남긴다.
+     */
+    public static <T> T callWith(BackendCallTrace trace, Supplier<T> call) {
+        BackendCallTrace previous = DETACHED.get();
+        DETACHED.set(trace);
+        try {
+            return call.get();
+        } finally {
+            if (previous == null) {
+                DETACHED.remove();
+            } else {
+                DETACHED.set(previous);
+            }
+        }
+    }
+
+    public static Optional<BackendCallTrace> current() {
+        BackendCallTrace detached = DETACHED.get();
+        if (detached != null) {
+            return Optional.of(detached);
+        }
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (requestAttributes == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.ofNullable((BackendCallTrace) requestAttributes.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST));
+        } catch (IllegalStateException exception) {
+            // 요청이 이미 끝난 뒤 늦게 돌아온 호출(헤지의 진 쪽 등)은 기록하지 않는다.
+            return Optional.empty();
+        }
+    }
+
+    public synchronized void add(BackendCallRecord call) {
+        calls.add(call);
+    }
+
+    public void addAll(BackendCallTrace other) {
+        if (other == this) {
+            return;
+        }
+        List<BackendCallRecord> records = other.calls();
+        synchronized (this) {
+            calls.addAll(records);
+        }
+    }
+
+    public synchronized List<BackendCallRecord> calls() {
+        return List.copyOf(calls);
+    }
+}
@@ -0,0 +1,25 @@
+package apu.saerok_admin.infra.metrics;
+
+import org.springframework.web.client.RestClient;
+
+/**
+ * 백엔드 호출 지표에 어느 클라이언트가 보낸 호출인지 남기기 위한 요청 속성.
+ */
+public final class BackendClientTag {
+
+    static final String ATTRIBUTE = BackendClientTag.class.getName() + ".client";
+
+    private BackendClientTag() {
+    }
+
+    /**
+     * 모든 요청에 클라이언트 클래스 이름을 속성으로 붙이는 {@link RestClient} 를 만든다.
+     * 인터셉터와 요청 팩토리는 원래 클라이언트의 것을 그대로 쓴다.
+     */
+    public static RestClient tagged(RestClient restClient, Class<?> clientType) {
+        String client = clientType.getSimpleName();
+        return restClient.mutate()
+                .defaultRequest(request -> request.attribute(ATTRIBUTE, client))
+                .build();
+    }
+}
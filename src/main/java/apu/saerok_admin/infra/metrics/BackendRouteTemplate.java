@@ -0,0 +1,47 @@
+package apu.saerok_admin.infra.metrics;
+
+import apu.saerok_admin.infra.SaerokApiProps;
+import java.net.URI;
+import java.util.Arrays;
+import java.util.StringJoiner;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+/**
+ * 백엔드 요청 경로를 지표 태그로 쓸 라우트 템플릿으로 바꾼다.
+ * <p>
+ * base-url 과 prefix 경로를 떼어 내고 숫자로만 된 세그먼트는 {@code {id}} 로 바꾼다.
+ * 예: {@code /api/v1/admin/reports/collections/12} → {@code admin/reports/collections/{id}}
+ */
+@Component
+public class BackendRouteTemplate {
+
+    private final int rootSegmentCount;
+
+    public BackendRouteTemplate(SaerokApiProps saerokApiProps) {
+        this.rootSegmentCount = segments(URI.create(saerokApiProps.baseUrl()).getPath()).length
+                + saerokApiProps.missingPrefixSegments().size();
+    }
+
+    public String of(URI uri) {
+        String[] segments = segments(uri != null ? uri.getPath() : null);
+        // /health 처럼 prefix 바깥에 있는 경로는 그대로 둔다.
+        int start = segments.length > rootSegmentCount ? rootSegmentCount : 0;
+        StringJoiner route = new StringJoiner("/");
+        for (int i = start; i < segments.length; i++) {
+            String segment = segments[i];
+            route.add(segment.chars().allMatch(Character::isDigit) ? "{id}" : segment);
+        }
+        String template = route.toString();
+        return template.isEmpty() ? "root" : template;
+    }
+
+    private static String[] segments(String path) {
+        if (!StringUtils.hasText(path)) {
+            return new String[0];
+        }
+        return Arrays.stream(path.split("/"))
+                .filter(StringUtils::hasText)
+                .toArray(String[]::new);
+    }
+}
@@ -1,14 +1,23 @@
 package apu.saerok_admin.infra.report;
 
 import apu.saerok_admin.infra.SaerokApiProps;
+import apu.saerok_admin.infra.cache.BackendRequestMemo;
+import apu.saerok_admin.infra.cache.BackendSingleFlight;
+import apu.saerok_admin.infra.concurrent.BackendHedger;
+import apu.saerok_admin.infra.http.JsonListStreamReader;
+import apu.saerok_admin.infra.http.StreamedList;
+import apu.saerok_admin.infra.metrics.BackendClientTag;
 import apu.saerok_admin.infra.report.dto.AdminDeleteReasonRequest;
 import apu.saerok_admin.infra.report.dto.ReportedCollectionDetailResponse;
 import apu.saerok_admin.infra.report.dto.ReportedCollectionListResponse;
 import apu.saerok_admin.infra.report.dto.ReportedCommentDetailResponse;
 import apu.saerok_admin.infra.report.dto.ReportedCommentListResponse;
 import java.net.URI;
+import java.util.StringJoiner;
+import java.util.function.Function;
 import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.DefaultResponseErrorHandler;
 import org.springframework.web.client.RestClient;
 import org.springframework.web.util.UriBuilder;
 
@@ -16,21 +25,52 @@ import org.springframework.web.util.UriBuilder;
 public class AdminReportClient {
 
     private static final String[] ADMIN_REPORTS_SEGMENTS = {"admin", "reports"};
+    private static final String MEMO_API = "reports";
+    private static final String LIST_ITEMS_FIELD = "items";
+    private static final DefaultResponseErrorHandler STREAM_ERROR_HANDLER = new DefaultResponseErrorHandler();
 
     private final RestClient saerokRestClient;
     private final String[] missingPrefixSegments;
-
-    public AdminReportClient(RestClient saerokRestClient, SaerokApiProps saerokApiProps) {
-        this.saerokRestClient = saerokRestClient;
+    private final BackendRequestMemo backendRequestMemo;
+    private final BackendSingleFlight backendSingleFlight;
+    private final JsonListStreamReader listStreamReader;
+    private final BackendHedger backendHedger;
+
+    public AdminReportClient(
+            RestClient saerokRestClient,
+            SaerokApiProps saerokApiProps,
+            BackendRequestMemo backendRequestMemo,
+            BackendSingleFlight backendSingleFlight,
+            JsonListStreamReader listStreamReader,
+            BackendHedger backendHedger
+    ) {
+        this.saerokRestClient = BackendClientTag.tagged(saerokRestClient, AdminReportClient.class);
         this.missingPrefixSegments = saerokApiProps.missingPrefixSegments().toArray(new String[0]);
+        this.backendRequestMemo = backendRequestMemo;
+        this.backendSingleFlight = backendSingleFlight;
+        this.listStreamReader = listStreamReader;
+        this.backendHedger = backendHedger;
     }
 
-    public ReportedCollectionListResponse listCollectionReports() {
-        return get(ReportedCollectionListResponse.class, "collections");
+    /**
+     * 신고 목록을 응답 전체를 만들지 않고 원소 단위로 읽으며 바로 매핑한다.
+     * 매퍼가 null 을 돌려준 원소는 개수({@link StreamedList#scanned()})에만 반영된다.
+     * <p>
+     * {@code view} 는 매퍼를 가리키는 이름이다. 같은 이름은 같은 매퍼로 불러야 하고, 동시에 들어온 같은 이름의
+     * 스트리밍은 single-flight 로 한 번만 받는다. 광고·감사 로그 목록은 페이지 단위이거나 작아서 스트리밍하지 않는다.
+     */
+    public <T> StreamedList<T> streamCollectionReports(
+            String view,
+            Function<? super ReportedCollectionListResponse.Item, ? extends T> mapper
+    ) {
+        return stream(view, ReportedCollectionListResponse.Item.class, mapper, "collections");
     }
 
-    public ReportedCommentListResponse listCommentReports() {
-        return get(ReportedCommentListResponse.class, "comments");
+    public <T> StreamedList<T> streamCommentReports(
+            String view,
+            Function<? super ReportedCommentListResponse.Item, ? extends T> mapper
+    ) {
+        return stream(view, ReportedCommentListResponse.Item.class, mapper, "comments");
     }
 
     public ReportedCollectionDetailResponse getCollectionReportDetail(Long reportId) {
@@ -64,29 +104,83 @@ public class AdminReportClient {
     }
 
     private <T> T get(Class<T> responseType, String... segments) {
-        T response = saerokRestClient.get()
-                .uri(uriBuilder -> buildUri(uriBuilder, segments))
-                .retrieve()
-                .body(responseType);
-        if (response == null) {
-            throw new IllegalStateException("Empty response from admin report API");
-        }
-        return response;
+        String key = String.join("/", segments);
+        return backendRequestMemo.memoize(MEMO_API, key, () -> backendSingleFlight.execute(MEMO_API, key,
+                () -> backendHedger.execute(routeOf(segments), () -> {
+                    T response = saerokRestClient.get()
+                            .uri(uriBuilder -> buildUri(uriBuilder, segments))
+                            .retrieve()
+                            .body(responseType);
+                    if (response == null) {
+                        throw new IllegalStateException("Empty response from admin report API");
+                    }
+                    return response;
+                })));
+    }
+
+    private <E, T> StreamedList<T> stream(
+            String view,
+            Class<E> elementType,
+            Function<? super E, ? extends T> mapper,
+            String... segments
+    ) {
+        // 결과가 매퍼에 따라 다르므로 요청 단위 memo 는 쓰지 않고, 매퍼 이름을 넣은 키로만 합친다.
+        String key = "stream:" + view + ":" + String.join("/", segments);
+        return backendSingleFlight.execute(MEMO_API, key, () -> {
+            StreamedList<T> result = saerokRestClient.get()
+                    .uri(uriBuilder -> buildUri(uriBuilder, segments))
+                    .exchange((request, response) -> {
+                        if (STREAM_ERROR_HANDLER.hasError(response)) {
+                            STREAM_ERROR_HANDLER.handleError(request.getURI(), request.getMethod(), response);
+                        }
+                        return listStreamReader.read(response.getBody(), LIST_ITEMS_FIELD, elementType, mapper);
+                    });
+            if (result == null) {
+                throw new IllegalStateException("Empty response from admin report API");
+            }
+            return result;
+        });
     }
 
     private void post(String... segments) {
-        saerokRestClient.post()
-                .uri(uriBuilder -> buildUri(uriBuilder, segments))
-                .retrieve()
-                .toBodilessEntity();
+        try {
+            saerokRestClient.post()
+                    .uri(uriBuilder -> buildUri(uriBuilder, segments))
+                    .retrieve()
+                    .toBodilessEntity();
+        } finally {
+            forgetReads();
+        }
     }
 
     private void deleteWithBody(Object body, String... segments) {
-        saerokRestClient.method(HttpMethod.DELETE)
-                .uri(uriBuilder -> buildUri(uriBuilder, segments))
-                .body(body)
-                .retrieve()
-                .toBodilessEntity();
+        try {
+            saerokRestClient.method(HttpMethod.DELETE)
+                    .uri(uriBuilder -> buildUri(uriBuilder, segments))
+                    .body(body)
+                    .retrieve()
+                    .toBodilessEntity();
+        } finally {
+            forgetReads();
+        }
+    }
+
+    // 쓰기가 끝난 뒤에 버려야 쓰기 도중 같은 요청에서 읽은 이전 값이 남지 않는다. 실패해도 반영됐을 수 있으므로 항상 버린다.
+    private void forgetReads() {
+        backendRequestMemo.invalidate(MEMO_API);
+        backendSingleFlight.forget(MEMO_API);
+    }
+
+    // 신고 ID 를 {id} 로 바꾼 라우트 템플릿. 응답 시간은 이 단위로 모은다.
+    private static String routeOf(String... segments) {
+        StringJoiner route = new StringJoiner("/");
+        for (String segment : ADMIN_REPORTS_SEGMENTS) {
+            route.add(segment);
+        }
+        for (String segment : segments) {
+            route.add(segment.chars().allMatch(Character::isDigit) ? "{id}" : segment);
+        }
+        return route.toString();
     }
 
     private URI buildUri(UriBuilder builder, String... segments) {
@@ -0,0 +1,39 @@
+package apu.saerok_admin.infra.report;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * @param maxItems     한 번에 처리할 수 있는 최대 신고 수
+ * @param parallelism  동시에 보낼 처리 요청 수
+ * @param deadline     일괄 처리 전체에 주는 시간. 넘은 항목은 결과를 모르는 것으로 알린다.
+ * @param writeTimeout 처리 요청 하나에 주는 시간. 조회용 {@code fan-out.call-timeout} 대신 쓰며, 넘어서 끊긴 요청도
+ *                     결과를 모르는 것으로 알린다.
+ */
+@ConfigurationProperties(prefix = "saerok.api.report-bulk")
+public record ReportBulkProps(Integer maxItems, Integer parallelism, Duration deadline, Duration writeTimeout) {
+
+    private static final int DEFAULT_MAX_ITEMS = 500;
+    private static final int DEFAULT_PARALLELISM = 8;
+    private static final Duration DEFAULT_DEADLINE = Duration.ofSeconds(60);
+    private static final Duration DEFAULT_WRITE_TIMEOUT = Duration.ofSeconds(30);
+
+    public ReportBulkProps {
+        if (maxItems == null || maxItems < 1) {
+            maxItems = DEFAULT_MAX_ITEMS;
+        }
+        if (parallelism == null || parallelism < 1) {
+            parallelism = DEFAULT_PARALLELISM;
+        }
+        if (deadline == null || deadline.isNegative() || deadline.isZero()) {
+            deadline = DEFAULT_DEADLINE;
+        }
+        if (writeTimeout == null || writeTimeout.isNegative() || writeTimeout.isZero()) {
+            writeTimeout = DEFAULT_WRITE_TIMEOUT;
+        }
+    }
+
+    public ReportBulkProps(Integer maxItems, Integer parallelism, Duration deadline) {
+        this(maxItems, parallelism, deadline, null);
+    }
+}
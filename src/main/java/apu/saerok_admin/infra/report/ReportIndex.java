@@ -0,0 +1,222 @@
+package apu.saerok_admin.infra.report;
+
+import apu.saerok_admin.infra.http.StreamedList;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.client.RestClientException;
+
+/**
+ * 신고 목록 하나를 reportId 로 찾을 수 있게 들고 있는 스냅샷.
+ * <p>
+ * 스냅샷은 통째로 새로 만들어 참조만 바꿔 끼우므로 읽는 쪽은 잠금 없이 한 시점의 목록을 본다.
+ * 쓰기가 일어나면 {@link #markDirty()} 로 세대(generation)를 올리고, 이전 세대에서 만든 스냅샷은
+ * 다음 조회 때 다시 받는다. 목록을 받는 도중 쓰기가 끼어들면 그 결과도 이미 낡은 것으로 취급된다.
+ * <p>
+ * 스냅샷의 시각({@code loadedAt})은 받기 시작한 때다. 여러 요청이 동시에 받으면 늦게 시작한 쪽의 결과만 남기므로,
+ * 느리게 끝난 이전 다운로드가 새 스냅샷을 덮어쓰거나 새 시각을 얻지 못한다.
+ */
+final class ReportIndex<T> {
+
+    private static final Logger log = LoggerFactory.getLogger(ReportIndex.class);
+
+    private final String name;
+    private final Supplier<StreamedList<T>> loader;
+    private final Function<T, Long> idOf;
+    private final Comparator<? super T> order;
+    private final ReportSnapshotProps props;
+    private final Clock clock;
+    private final AtomicReference<Snapshot<T>> current = new AtomicReference<>();
+    private final AtomicLong generation = new AtomicLong();
+    private final Object refreshLock = new Object();
+
+    ReportIndex(
+            String name,
+            Supplier<StreamedList<T>> loader,
+            Function<T, Long> idOf,
+            Comparator<? super T> order,
+            ReportSnapshotProps props,
+            Clock clock
+    ) {
+        this.name = name;
+        this.loader = loader;
+        this.idOf = idOf;
+        this.order = order;
+        this.props = props;
+        this.clock = clock;
+    }
+
+    /**
+     * 목록을 새로 받아 스냅샷을 바꾸고, 남은 스냅샷의 목록을 {@code order} 순서로 돌려준다.
+     * 받는 동안 더 늦게 시작한 다운로드가 먼저 끝났으면 그 결과가 남는다.
+     */
+    StreamedList<T> reload() {
+        return install(load()).list();
+    }
+
+    /**
+     * 목록을 새로 받아 그 목록에서 {@code reportIds} 를 찾는다. 받은 목록은 스냅샷에도 넣지만 결과는 스냅샷이
+     * 아니라 방금 받은 목록에서 고르므로, 처리할 신고를 고르는 쓰기 요청이 낡은 스냅샷을 믿지 않게 된다.
+     * 목록에 없는 신고는 결과에 들어가지 않는다.
+     */
+    Map<Long, T> reloadAndFind(Collection<Long> reportIds) {
+        Snapshot<T> loaded = load();
+        install(loaded);
+        Map<Long, T> found = new LinkedHashMap<>();
+        for (Long reportId : reportIds) {
+            T item = reportId != null ? loaded.items().get(reportId) : null;
+            if (item != null) {
+                found.put(reportId, item);
+            }
+        }
+        return found;
+    }
+
+    /**
+     * 스냅샷의 목록을 {@code order} 순서로 돌려준다. 낡았으면 먼저 다시 받는다.
+     */
+    StreamedList<T> list() {
+        if (!props.enabled()) {
+            return reload();
+        }
+        Snapshot<T> snapshot = current.get();
+        if (!isUsable(snapshot)) {
+            snapshot = refresh(snapshot);
+        }
+        return snapshot != null ? snapshot.list() : new StreamedList<>(List.of(), 0, false);
+    }
+
+    /**
+     * 스냅샷의 원소 수와 받기 시작한 시각. 낡았으면 먼저 다시 받고, 한 번도 받지 못했으면 비어 있다.
+     */
+    Optional<Tally> tally() {
+        Snapshot<T> snapshot;
+        if (!props.enabled()) {
+            snapshot = install(load());
+        } else {
+            snapshot = current.get();
+            if (!isUsable(snapshot)) {
+                snapshot = refresh(snapshot);
+            }
+        }
+        return Optional.ofNullable(snapshot)
+                .map(value -> new Tally(value.list().scanned(), value.list().truncated(), value.loadedAt()));
+    }
+
+    Optional<T> find(long reportId) {
+        if (!props.enabled()) {
+            return Optional.ofNullable(index(reload().items()).get(reportId));
+        }
+
+        Snapshot<T> snapshot = current.get();
+        if (!isUsable(snapshot)) {
+            snapshot = refresh(snapshot);
+        }
+        if (snapshot == null) {
+            return Optional.empty();
+        }
+
+        T item = snapshot.items().get(reportId);
+        if (item == null && age(snapshot).compareTo(props.missRefreshInterval()) >= 0) {
+            // 스냅샷 이후에 들어온 신고일 수 있다. 한 번만 다시 받아 본다.
+            Snapshot<T> refreshed = refresh(snapshot);
+            item = refreshed != null ? refreshed.items().get(reportId) : null;
+        }
+        return Optional.ofNullable(item);
+    }
+
+    void markDirty() {
+        generation.incrementAndGet();
+    }
+
+    /**
+     * 동시에 들어온 갱신은 하나만 목록을 받고 나머지는 그 결과를 쓴다.
+     * 받지 못하면 이전 스냅샷(없으면 null)을 돌려준다.
+     */
+    private Snapshot<T> refresh(Snapshot<T> observed) {
+        synchronized (refreshLock) {
+            Snapshot<T> latest = current.get();
+            if (latest != observed && isUsable(latest)) {
+                return latest;
+            }
+            try {
+                reload();
+                return current.get();
+            } catch (RestClientException | IllegalStateException exception) {
+                log.warn("Failed to refresh {} report snapshot.", name, exception);
+                return latest;
+            }
+        }
+    }
+
+    private Snapshot<T> load() {
+        long observedGeneration = generation.get();
+        Instant startedAt = clock.instant();
+        StreamedList<T> list = sorted(loader.get());
+        return new Snapshot<>(index(list.items()), list, observedGeneration, startedAt);
+    }
+
+    private Snapshot<T> install(Snapshot<T> candidate) {
+        return current.accumulateAndGet(candidate, (existing, offered) ->
+                existing == null || offered.isNewerThan(existing) ? offered : existing);
+    }
+
+    // 백엔드는 보통 이미 최신순으로 주므로 순서가 어긋난 경우에만 새 목록을 만든다.
+    private StreamedList<T> sorted(StreamedList<T> list) {
+        List<T> items = list.items();
+        for (int i = 1; i < items.size(); i++) {
+            if (order.compare(items.get(i - 1), items.get(i)) > 0) {
+                List<T> sorted = new ArrayList<>(items);
+                sorted.sort(order);
+                return new StreamedList<>(sorted, list.scanned(), list.truncated());
+            }
+        }
+        return list;
+    }
+
+    private Map<Long, T> index(List<T> items) {
+        return items.stream()
+                .filter(item -> idOf.apply(item) != null)
+                .collect(Collectors.toUnmodifiableMap(idOf, Function.identity(), (first, second) -> first));
+    }
+
+    private boolean isUsable(Snapshot<T> snapshot) {
+        return snapshot != null
+                && snapshot.generation() == generation.get()
+                && age(snapshot).compareTo(props.ttl()) < 0;
+    }
+
+    private Duration age(Snapshot<T> snapshot) {
+        return Duration.between(snapshot.loadedAt(), clock.instant());
+    }
+
+    /**
+     * @param truncated 목록 스트리밍 한도에 걸려 끝까지 받지 못했으면 true
+     */
+    record Tally(int count, boolean truncated, Instant loadedAt) {
+    }
+
+    private record Snapshot<T>(Map<Long, T> items, StreamedList<T> list, long generation, Instant loadedAt) {
+
+        boolean isNewerThan(Snapshot<T> other) {
+            if (generation != other.generation()) {
+                return generation > other.generation();
+            }
+            return !loadedAt.isBefore(other.loadedAt());
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package apu.saerok_admin.infra.report;
+
+import apu.saerok_admin.infra.auth.DelegatedAccessToken;
+import apu.saerok_admin.infra.report.dto.ReportedCollectionDetailResponse;
+import apu.saerok_admin.infra.report.dto.ReportedCommentDetailResponse;
+import apu.saerok_admin.security.LoginSessionManager;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+/**
+ * 순서대로 처리하는 화면에서 다음 신고의 상세(댓글 포함)를 미리 받아 두는 세션별 단기 저장소.
+ * <p>
+ * 미리 받기는 요청 스레드에서 세션 토큰을 잡아 두고 별도 가상 스레드에서 {@link DelegatedAccessToken} 으로
+ * 호출하므로, 상세 화면 응답을 기다리게 하지 않는다. 꺼내 간 항목은 바로 지워 같은 응답을 두 번 쓰지 않고,
+ * {@code ttl} 이 지난 항목이나 실패한 항목은 없는 것으로 보고 화면이 직접 다시 받는다.
+ */
+@Component
+public class ReportPrefetchCache implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(ReportPrefetchCache.class);
+    private static final String COLLECTION = "collections";
+    private static final String COMMENT = "comments";
+
+    private final AdminReportClient adminReportClient;
+    private final LoginSessionManager loginSessionManager;
+    private final ReportPrefetchProps props;
+    private final Clock clock;
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Semaphore permits;
+    private final ExecutorService workers;
+
+    public ReportPrefetchCache(
+            AdminReportClient adminReportClient,
+            LoginSessionManager loginSessionManager,
+            ReportPrefetchProps props,
+            Clock clock
+    ) {
+        this.adminReportClient = adminReportClient;
+        this.loginSessionManager = loginSessionManager;
+        this.props = props;
+        this.clock = clock;
+        this.permits = new Semaphore(props.maxConcurrent());
+        this.workers = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("report-prefetch-", 0).factory());
+    }
+
+    /**
+     * 현재 신고 다음으로 몇 건을 미리 받을지. 꺼져 있으면 0.
+     */
+    public int depth() {
+        return props.enabled() ? props.depth() : 0;
+    }
+
+    public void prefetchCollectionDetail(long reportId) {
+        prefetch(COLLECTION, reportId, () -> adminReportClient.getCollectionReportDetail(reportId));
+    }
+
+    public void prefetchCommentDetail(long reportId) {
+        prefetch(COMMENT, reportId, () -> adminReportClient.getCommentReportDetail(reportId));
+    }
+
+    public Optional<ReportedCollectionDetailResponse> takeCollectionDetail(long reportId) {
+        return take(COLLECTION, reportId, ReportedCollectionDetailResponse.class);
+    }
+
+    public Optional<ReportedCommentDetailResponse> takeCommentDetail(long reportId) {
+        return take(COMMENT, reportId, ReportedCommentDetailResponse.class);
+    }
+
+    /**
+     * 방금 처리한 신고처럼 더 이상 맞지 않게 된 항목을 지운다.
+     */
+    public void forgetCollectionDetail(long reportId) {
+        forget(COLLECTION, reportId);
+    }
+
+    public void forgetCommentDetail(long reportId) {
+        forget(COMMENT, reportId);
+    }
+
+    private void prefetch(String type, long reportId, Supplier<?> loader) {
+        if (!props.enabled()) {
+            return;
+        }
+        Optional<String> key = key(type, reportId);
+        Optional<String> accessToken = loginSessionManager.currentAccessToken().filter(StringUtils::hasText);
+        if (key.isEmpty() || accessToken.isEmpty()) {
+            return;
+        }
+
+        Instant now = clock.instant();
+        Entry existing = entries.get(key.get());
+        if (existing != null && !existing.isExpired(now)) {
+            return;
+        }
+        if (entries.size() >= props.maxEntries()) {
+            entries.values().removeIf(entry -> entry.isExpired(now));
+            if (entries.size() >= props.maxEntries()) {
+                return;
+            }
+        }
+        // 한도를 넘으면 미리 받지 않는다. 상세 화면이 직접 받으면 되므로 기다릴 이유가 없다.
+        if (!permits.tryAcquire()) {
+            return;
+        }
+
+        Entry entry = new Entry(new CompletableFuture<>(), now.plus(props.ttl()));
+        boolean installed = existing == null
+                ? entries.putIfAbsent(key.get(), entry) == null
+                : entries.replace(key.get(), existing, entry);
+        if (!installed) {
+            permits.release();
+            return;
+        }
+
+        try {
+            workers.execute(() -> load(type, reportId, accessToken.get(), loader, entry));
+        } catch (RejectedExecutionException exception) {
+            permits.release();
+            entries.remove(key.get(), entry);
+        }
+    }
+
+    private void load(String type, long reportId, String accessToken, Supplier<?> loader, Entry entry) {
+        try {
+            entry.result().complete(DelegatedAccessToken.callWith(accessToken, loader));
+        } catch (RuntimeException exception) {
+            log.debug("Failed to prefetch {} report {}.", type, reportId, exception);
+            entry.result().completeExceptionally(exception);
+        } finally {
+            permits.release();
+        }
+    }
+
+    private <T> Optional<T> take(String type, long reportId, Class<T> resultType) {
+        if (!props.enabled()) {
+            return Optional.empty();
+        }
+        Entry entry = key(type, reportId).map(entries::remove).orElse(null);
+        if (entry == null || entry.isExpired(clock.instant())) {
+            return Optional.empty();
+        }
+
+        try {
+            Object value = entry.result().get(props.waitTimeout().toNanos(), TimeUnit.NANOSECONDS);
+            return resultType.isInstance(value) ? Optional.of(resultType.cast(value)) : Optional.empty();
+        } catch (TimeoutException | ExecutionException exception) {
+            return Optional.empty();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            return Optional.empty();
+        }
+    }
+
+    private void forget(String type, long reportId) {
+        key(type, reportId).ifPresent(entries::remove);
+    }
+
+    private Optional<String> key(String type, long reportId) {
+        return loginSessionManager.currentSessionId().map(sessionId -> sessionId + ":" + type + ":" + reportId);
+    }
+
+    @Override
+    public void destroy() {
+        workers.shutdownNow();
+    }
+
+    private record Entry(CompletableFuture<Object> result, Instant expiresAt) {
+
+        boolean isExpired(Instant now) {
+            return !now.isBefore(expiresAt);
+        }
+    }
+}
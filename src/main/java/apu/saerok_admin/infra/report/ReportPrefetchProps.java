@@ -0,0 +1,46 @@
+package apu.saerok_admin.infra.report;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * @param depth         현재 신고 다음으로 미리 받아 둘 신고 수(1~2)
+ * @param ttl           미리 받은 상세를 쓰지 않고 버리기까지의 시간
+ * @param waitTimeout   아직 받는 중인 상세를 상세 화면이 기다리는 최대 시간. 넘으면 직접 다시 받는다.
+ * @param maxEntries    모든 세션을 합쳐 들고 있을 최대 항목 수
+ * @param maxConcurrent 동시에 진행할 미리 받기 요청 수
+ */
+@ConfigurationProperties(prefix = "saerok.api.report-prefetch")
+public record ReportPrefetchProps(
+        Boolean enabled,
+        Integer depth,
+        Duration ttl,
+        Duration waitTimeout,
+        Integer maxEntries,
+        Integer maxConcurrent
+) {
+
+    private static final int DEFAULT_DEPTH = 1;
+    private static final int MAX_DEPTH = 2;
+    private static final Duration DEFAULT_TTL = Duration.ofSeconds(30);
+    private static final Duration DEFAULT_WAIT_TIMEOUT = Duration.ofSeconds(2);
+    private static final int DEFAULT_MAX_ENTRIES = 200;
+    private static final int DEFAULT_MAX_CONCURRENT = 4;
+
+    public ReportPrefetchProps {
+        enabled = enabled == null || enabled;
+        depth = depth == null ? DEFAULT_DEPTH : Math.clamp(depth, 1, MAX_DEPTH);
+        if (ttl == null || ttl.isNegative() || ttl.isZero()) {
+            ttl = DEFAULT_TTL;
+        }
+        if (waitTimeout == null || waitTimeout.isNegative()) {
+            waitTimeout = DEFAULT_WAIT_TIMEOUT;
+        }
+        if (maxEntries == null || maxEntries <= 0) {
+            maxEntries = DEFAULT_MAX_ENTRIES;
+        }
+        if (maxConcurrent == null || maxConcurrent <= 0) {
+            maxConcurrent = DEFAULT_MAX_CONCURRENT;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package apu.saerok_admin.infra.report;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * @param enabled         꺼져 있으면 읽을 때마다 바로 센다
+ * @param refreshInterval 이보다 오래된 값은 다음 대시보드 방문 때 그 관리자의 토큰으로 뒤에서 다시 센다
+ * @param maxScopes       권한 조합(또는 토큰)별로 따로 들고 있을 값의 수. 넘으면 오래 쓰지 않은 것부터 버린다.
+ */
+@ConfigurationProperties(prefix = "saerok.api.report-counters")
+public record ReportQueueCounterProps(Boolean enabled, Duration refreshInterval, Integer maxScopes) {
+
+    private static final Duration DEFAULT_REFRESH_INTERVAL = Duration.ofSeconds(60);
+    private static final int DEFAULT_MAX_SCOPES = 32;
+
+    public ReportQueueCounterProps {
+        enabled = enabled == null || enabled;
+        if (refreshInterval == null || refreshInterval.isNegative() || refreshInterval.isZero()) {
+            refreshInterval = DEFAULT_REFRESH_INTERVAL;
+        }
+        if (maxScopes == null || maxScopes < 1) {
+            maxScopes = DEFAULT_MAX_SCOPES;
+        }
+    }
+
+    public ReportQueueCounterProps(Boolean enabled, Duration refreshInterval) {
+        this(enabled, refreshInterval, null);
+    }
+}
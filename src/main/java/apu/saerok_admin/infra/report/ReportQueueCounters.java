@@ -0,0 +1,170 @@
+package apu.saerok_admin.infra.report;
+
+import apu.saerok_admin.infra.auth.DelegatedAccessToken;
+import apu.saerok_admin.security.LoginSessionManager;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestClientResponseException;
+
+/**
+ * 처리 대기 중인 신고 수를 세어 두고, 대시보드에는 마지막 값을 바로 내준다.
+ * <p>
+ * 값이 {@code refreshInterval} 보다 오래되었으면 지금 대시보드를 보고 있는 관리자의 토큰으로 별도 가상 스레드에서
+ * 다시 세고, 그 요청에는 이전 값을 그대로 보여 준다. 토큰은 그 한 번의 갱신에만 쓰고 어디에도 남기지 않는다.
+ * 그래서 아무도 대시보드를 보지 않는 동안에는 값이 갱신되지 않고, 다음 방문에서 한 번 오래된 값을 보여 준 뒤
+ * 새 값으로 바뀐다. 로그아웃한 관리자의 토큰으로 계속 호출하거나, 다른 관리자의 이름으로 호출이 남는 일을
+ * 막기 위해 받아들인 제약이다. 아직 한 번도 세지 못한 값이 있으면 그 요청에서 바로 센다.
+ * <p>
+ * 값은 {@link ReportSnapshotCache} 처럼 관리자 권한 조합별로(모르면 액세스 토큰 지문별로) 따로 두고, 목록을 따로
+ * 내려받지 않고 그 범위의 신고 스냅샷에서 센다. 신고 목록 화면이 받아 둔 스냅샷이 아직 쓸 만하면 백엔드를
+ * 부르지 않는다. 로그인 세션이 없으면 값을 두지 않고 매번 센다.
+ */
+@Component
+public class ReportQueueCounters implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(ReportQueueCounters.class);
+
+    private final ReportSnapshotCache reportSnapshotCache;
+    private final LoginSessionManager loginSessionManager;
+    private final ReportQueueCounterProps props;
+    private final Clock clock;
+    private final Map<String, Counts> scopes = new LinkedHashMap<>(16, 0.75f, true);
+    private final ExecutorService workers;
+
+    public ReportQueueCounters(
+            ReportSnapshotCache reportSnapshotCache,
+            LoginSessionManager loginSessionManager,
+            ReportQueueCounterProps props,
+            Clock clock
+    ) {
+        this.reportSnapshotCache = reportSnapshotCache;
+        this.loginSessionManager = loginSessionManager;
+        this.props = props;
+        this.clock = clock;
+        this.workers = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("report-queue-counters-", 0).factory());
+    }
+
+    /**
+     * 현재 관리자의 범위에서 마지막으로 센 값을 돌려준다. 값이 오래되었으면 현재 요청의 토큰으로 뒤에서 다시 센다.
+     */
+    public Snapshot read() {
+        Optional<String> scope = loginSessionManager.currentSharingScope();
+        if (scope.isEmpty()) {
+            Counts counts = new Counts();
+            refresh(counts);
+            return counts.snapshot();
+        }
+
+        Counts counts = forScope(scope.get());
+        if (!props.enabled() || counts.collections.get() == null || counts.comments.get() == null) {
+            refresh(counts);
+        } else if (counts.isStale(clock.instant().minus(props.refreshInterval()))) {
+            refreshInBackground(counts);
+        }
+        return counts.snapshot();
+    }
+
+    private Counts forScope(String scope) {
+        synchronized (scopes) {
+            Counts counts = scopes.computeIfAbsent(scope, ignored -> new Counts());
+            if (scopes.size() > props.maxScopes()) {
+                scopes.values().iterator().remove();
+            }
+            return counts;
+        }
+    }
+
+    private void refreshInBackground(Counts counts) {
+        Optional<String> accessToken = loginSessionManager.currentAccessToken().filter(StringUtils::hasText);
+        if (accessToken.isEmpty() || !counts.refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        // 뒤에서 도는 스레드에는 세션이 없으므로 스냅샷을 고를 범위도 함께 넘긴다.
+        DelegatedAccessToken.Scope scope = new DelegatedAccessToken.Scope(
+                loginSessionManager.currentRoleScope().orElse(null),
+                loginSessionManager.currentAccessTokenFingerprint().orElse(null)
+        );
+        try {
+            workers.execute(() -> {
+                try {
+                    DelegatedAccessToken.callWith(accessToken.get(), scope, () -> {
+                        refresh(counts);
+                        return null;
+                    });
+                } catch (RuntimeException exception) {
+                    log.warn("Background report count refresh failed.", exception);
+                } finally {
+                    counts.refreshing.set(false);
+                }
+            });
+        } catch (RejectedExecutionException exception) {
+            counts.refreshing.set(false);
+        }
+    }
+
+    private void refresh(Counts counts) {
+        refresh(counts.collections, "collection", reportSnapshotCache::tallyCollectionReports);
+        refresh(counts.comments, "comment", reportSnapshotCache::tallyCommentReports);
+    }
+
+    private void refresh(AtomicReference<Count> target, String type, Supplier<Optional<ReportIndex.Tally>> tally) {
+        try {
+            // 스냅샷을 받지 못했으면 이전 값을 그대로 둔다.
+            tally.get().ifPresent(value -> target.set(new Count(value.count(), value.truncated(), value.loadedAt())));
+        } catch (RestClientResponseException exception) {
+            log.warn("Failed to count {} reports. status={}, body={}",
+                    type, exception.getStatusCode(), exception.getResponseBodyAsString(), exception);
+        } catch (RestClientException | IllegalStateException exception) {
+            log.warn("Failed to count {} reports.", type, exception);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        workers.shutdownNow();
+    }
+
+    private static final class Counts {
+
+        private final AtomicReference<Count> collections = new AtomicReference<>();
+        private final AtomicReference<Count> comments = new AtomicReference<>();
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+
+        private boolean isStale(Instant threshold) {
+            return !collections.get().refreshedAt().isAfter(threshold)
+                    || !comments.get().refreshedAt().isAfter(threshold);
+        }
+
+        private Snapshot snapshot() {
+            return new Snapshot(collections.get(), comments.get());
+        }
+    }
+
+    /**
+     * @param truncated   목록 스트리밍 한도에 걸려 실제 수보다 적게 셌을 수 있으면 true
+     * @param refreshedAt 센 목록을 받기 시작한 시각
+     */
+    public record Count(int value, boolean truncated, Instant refreshedAt) {
+    }
+
+    /**
+     * 아직 한 번도 세지 못한 값은 null 이다.
+     */
+    public record Snapshot(Count collections, Count comments) {
+    }
+}
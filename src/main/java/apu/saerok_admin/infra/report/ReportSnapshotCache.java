@@ -0,0 +1,172 @@
+package apu.saerok_admin.infra.report;
+
+import apu.saerok_admin.infra.auth.DelegatedAccessToken;
+import apu.saerok_admin.infra.http.StreamedList;
+import apu.saerok_admin.infra.report.dto.ReportedCollectionListResponse;
+import apu.saerok_admin.infra.report.dto.ReportedCommentListResponse;
+import apu.saerok_admin.security.LoginSessionManager;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.springframework.stereotype.Component;
+
+/**
+ * 새록/댓글 신고 목록을 reportId 로 바로 찾을 수 있게 들고 있는다.
+ * <p>
+ * 상세 화면은 신고자·신고 시각을 목록에서만 얻을 수 있어 매번 전체 목록을 받아 훑어야 했다. 이제는 목록
+ * 화면이나 직전 조회에서 받아 둔 스냅샷에서 찾는다. 신고 처리(무시/삭제) 뒤에는 {@link #markDirty()} 를
+ * 불러 다음 조회가 새 목록을 받도록 한다.
+ * <p>
+ * 스냅샷은 조건부 GET 캐시처럼 관리자 권한 조합별로(모르면 액세스 토큰 지문별로) 따로 둔다. 어떤 관리자도
+ * 자기 권한으로는 받을 수 없는 신고를 다른 관리자가 받아 둔 스냅샷에서 보지 않는다. 로그인 세션이 없으면
+ * 스냅샷을 두지 않고 매번 받는다. 세션 없이 위임된 호출은 위임한 관리자의 범위를 쓴다.
+ * <p>
+ * 목록 원소가 그대로 화면 행의 원본이므로 따로 옮겨 담지 않고, 스냅샷을 만들 때 한 번만 최신순으로 맞춰 둔다.
+ * 화면은 이 순서를 그대로 믿고 다시 정렬하지 않는다.
+ */
+@Component
+public class ReportSnapshotCache {
+
+    private static final String SNAPSHOT_VIEW = "snapshot";
+    private static final Comparator<LocalDateTime> LATEST_FIRST = Comparator.nullsLast(Comparator.reverseOrder());
+    private static final Comparator<Long> HIGHER_ID_FIRST = Comparator.nullsLast(Comparator.reverseOrder());
+
+    private final AdminReportClient adminReportClient;
+    private final LoginSessionManager loginSessionManager;
+    private final ReportSnapshotProps props;
+    private final Clock clock;
+    private final Map<String, Snapshots> scopes = new LinkedHashMap<>(16, 0.75f, true);
+
+    public ReportSnapshotCache(
+            AdminReportClient adminReportClient,
+            LoginSessionManager loginSessionManager,
+            ReportSnapshotProps props,
+            Clock clock
+    ) {
+        this.adminReportClient = adminReportClient;
+        this.loginSessionManager = loginSessionManager;
+        this.props = props;
+        this.clock = clock;
+    }
+
+    /**
+     * 새록 신고 목록을 새로 받아 스냅샷을 바꾼다. 목록 화면은 첫 페이지를 열 때만 이것을 부른다.
+     */
+    public StreamedList<ReportedCollectionListResponse.Item> loadCollectionReports() {
+        return current().collections().reload();
+    }
+
+    public StreamedList<ReportedCommentListResponse.Item> loadCommentReports() {
+        return current().comments().reload();
+    }
+
+    /**
+     * 스냅샷에 든 새록 신고를 최신순으로 돌려준다. 스냅샷이 낡았을 때만 다시 받는다.
+     */
+    public StreamedList<ReportedCollectionListResponse.Item> collectionReports() {
+        return current().collections().list();
+    }
+
+    public StreamedList<ReportedCommentListResponse.Item> commentReports() {
+        return current().comments().list();
+    }
+
+    public Optional<ReportedCollectionListResponse.Item> findCollectionReport(long reportId) {
+        return current().collections().find(reportId);
+    }
+
+    public Optional<ReportedCommentListResponse.Item> findCommentReport(long reportId) {
+        return current().comments().find(reportId);
+    }
+
+    /**
+     * 처리할 신고를 고를 때 쓴다. 스냅샷 대신 현재 관리자의 토큰으로 목록을 새로 받아 그 안에서 찾고,
+     * 받은 목록으로 이 범위의 스냅샷도 바꾼다. 목록에 없는 신고는 결과에 들어가지 않는다.
+     */
+    public Map<Long, ReportedCollectionListResponse.Item> reloadCollectionReports(Collection<Long> reportIds) {
+        return current().collections().reloadAndFind(reportIds);
+    }
+
+    public Map<Long, ReportedCommentListResponse.Item> reloadCommentReports(Collection<Long> reportIds) {
+        return current().comments().reloadAndFind(reportIds);
+    }
+
+    /**
+     * 신고 수는 스냅샷에서 센다. 스냅샷이 낡았을 때만 다시 받는다.
+     */
+    Optional<ReportIndex.Tally> tallyCollectionReports() {
+        return current().collections().tally();
+    }
+
+    Optional<ReportIndex.Tally> tallyCommentReports() {
+        return current().comments().tally();
+    }
+
+    /**
+     * 처리 결과는 모든 권한의 목록에 영향을 주므로 범위와 상관없이 모든 스냅샷을 낡은 것으로 표시한다.
+     */
+    public void markDirty() {
+        List<Snapshots> all;
+        synchronized (scopes) {
+            all = new ArrayList<>(scopes.values());
+        }
+        all.forEach(snapshots -> {
+            snapshots.collections().markDirty();
+            snapshots.comments().markDirty();
+        });
+    }
+
+    // 위임된 호출(뒤에서 도는 작업)은 세션 대신 위임한 관리자의 범위를 쓴다.
+    private Snapshots current() {
+        return DelegatedAccessToken.currentScope()
+                .flatMap(DelegatedAccessToken.Scope::sharingScope)
+                .or(loginSessionManager::currentSharingScope)
+                .map(this::forScope)
+                .orElseGet(this::newSnapshots);
+    }
+
+    private Snapshots forScope(String scope) {
+        synchronized (scopes) {
+            Snapshots snapshots = scopes.computeIfAbsent(scope, ignored -> newSnapshots());
+            if (scopes.size() > props.maxScopes()) {
+                scopes.values().iterator().remove();
+            }
+            return snapshots;
+        }
+    }
+
+    private Snapshots newSnapshots() {
+        return new Snapshots(
+                new ReportIndex<>(
+                        "collection",
+                        () -> adminReportClient.streamCollectionReports(SNAPSHOT_VIEW, item -> item),
+                        ReportedCollectionListResponse.Item::reportId,
+                        Comparator.comparing(ReportedCollectionListResponse.Item::reportedAt, LATEST_FIRST)
+                                .thenComparing(ReportedCollectionListResponse.Item::reportId, HIGHER_ID_FIRST),
+                        props,
+                        clock
+                ),
+                new ReportIndex<>(
+                        "comment",
+                        () -> adminReportClient.streamCommentReports(SNAPSHOT_VIEW, item -> item),
+                        ReportedCommentListResponse.Item::reportId,
+                        Comparator.comparing(ReportedCommentListResponse.Item::reportedAt, LATEST_FIRST)
+                                .thenComparing(ReportedCommentListResponse.Item::reportId, HIGHER_ID_FIRST),
+                        props,
+                        clock
+                )
+        );
+    }
+
+    private record Snapshots(
+            ReportIndex<ReportedCollectionListResponse.Item> collections,
+            ReportIndex<ReportedCommentListResponse.Item> comments
+    ) {
+    }
+}
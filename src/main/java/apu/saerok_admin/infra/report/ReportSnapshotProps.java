@@ -0,0 +1,34 @@
+package apu.saerok_admin.infra.report;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * @param ttl                 스냅샷을 다시 받지 않고 쓰는 시간
+ * @param missRefreshInterval 스냅샷에 없는 신고를 찾을 때 목록을 다시 받는 최소 간격
+ * @param maxScopes           권한 조합(또는 토큰)별로 따로 들고 있을 스냅샷 수. 넘으면 오래 쓰지 않은 것부터 버린다.
+ */
+@ConfigurationProperties(prefix = "saerok.api.report-snapshot")
+public record ReportSnapshotProps(Boolean enabled, Duration ttl, Duration missRefreshInterval, Integer maxScopes) {
+
+    private static final Duration DEFAULT_TTL = Duration.ofSeconds(30);
+    private static final Duration DEFAULT_MISS_REFRESH_INTERVAL = Duration.ofSeconds(5);
+    private static final int DEFAULT_MAX_SCOPES = 32;
+
+    public ReportSnapshotProps {
+        enabled = enabled == null || enabled;
+        if (ttl == null || ttl.isNegative() || ttl.isZero()) {
+            ttl = DEFAULT_TTL;
+        }
+        if (missRefreshInterval == null || missRefreshInterval.isNegative()) {
+            missRefreshInterval = DEFAULT_MISS_REFRESH_INTERVAL;
+        }
+        if (maxScopes == null || maxScopes < 1) {
+            maxScopes = DEFAULT_MAX_SCOPES;
+        }
+    }
+
+    public ReportSnapshotProps(Boolean enabled, Duration ttl, Duration missRefreshInterval) {
+        this(enabled, ttl, missRefreshInterval, null);
+    }
+}
@@ -0,0 +1,52 @@
+package apu.saerok_admin.infra.resilience;
+
+/**
+ * 백엔드 API를 장애 격리 단위로 나눈 그룹. 요청 경로로 판별한다.
+ */
+public enum BackendApiGroup {
+
+    REPORTS("reports", "/admin/reports"),
+    ADS("ads", "/admin/ad"),
+    STATS("stats", "/admin/stats"),
+    AUDIT("audit", "/admin/audit"),
+    USER_ME("user-me", "/user/me"),
+    HEALTH("health", "/health"),
+    OTHER("other", null);
+
+    private final String tag;
+    private final String pathMarker;
+
+    BackendApiGroup(String tag, String pathMarker) {
+        this.tag = tag;
+        this.pathMarker = pathMarker;
+    }
+
+    public String tag() {
+        return tag;
+    }
+
+    public static BackendApiGroup resolve(String path) {
+        if (path == null) {
+            return OTHER;
+        }
+        for (BackendApiGroup group : values()) {
+            if (group.pathMarker != null && matches(path, group.pathMarker)) {
+                return group;
+            }
+        }
+        return OTHER;
+    }
+
+    // "/admin/ad" 가 "/admin/audit" 같은 다른 경로의 앞부분에 걸리지 않도록 세그먼트 경계까지 확인한다.
+    private static boolean matches(String path, String marker) {
+        int index = path.indexOf(marker);
+        while (index >= 0) {
+            int end = index + marker.length();
+            if (end == path.length() || path.charAt(end) == '/') {
+                return true;
+            }
+            index = path.indexOf(marker, index + 1);
+        }
+        return false;
+    }
+}
@@ -0,0 +1,135 @@
+package apu.saerok_admin.infra.resilience;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Component;
+
+/**
+ * API 그룹별 회로 차단기와 동시 호출 제한(bulkhead).
+ * <p>
+ * 토큰 갱신·재시도를 포함한 한 번의 논리적 호출을 감싸도록 가장 바깥 인터셉터로 등록한다.
+ * 연결 오류와 5xx 응답만 실패로 센다. 4xx나 인증 만료는 백엔드가 응답한 것이므로 성공으로 본다.
+ * 막힌 호출은 {@link BackendUnavailableException} 으로 즉시 실패해 화면은 기존 부분 렌더링 경로를 탄다.
+ * 한도와 임계값은 그룹마다 {@link BackendResilienceProps#forGroup} 으로 정한다.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 100)
+public class BackendResilienceInterceptor implements ClientHttpRequestInterceptor {
+
+    private static final Logger log = LoggerFactory.getLogger(BackendResilienceInterceptor.class);
+    private static final String STATE_METRIC = "saerok.backend.circuit.state";
+    private static final String REJECTED_METRIC = "saerok.backend.circuit.rejected";
+    private static final String BULKHEAD_METRIC = "saerok.backend.bulkhead.available";
+
+    private final BackendResilienceProps props;
+    private final MeterRegistry meterRegistry;
+    private final Map<BackendApiGroup, CircuitBreaker> breakers = new EnumMap<>(BackendApiGroup.class);
+    private final Map<BackendApiGroup, Semaphore> bulkheads = new EnumMap<>(BackendApiGroup.class);
+    private final Map<BackendApiGroup, BackendResilienceProps> groupProps = new EnumMap<>(BackendApiGroup.class);
+
+    public BackendResilienceInterceptor(BackendResilienceProps props, MeterRegistry meterRegistry) {
+        this.props = props;
+        this.meterRegistry = meterRegistry;
+        for (BackendApiGroup group : BackendApiGroup.values()) {
+            BackendResilienceProps settings = props.forGroup(group);
+            CircuitBreaker breaker = new CircuitBreaker(settings);
+            Semaphore bulkhead = new Semaphore(settings.maxConcurrentCalls());
+            groupProps.put(group, settings);
+            breakers.put(group, breaker);
+            bulkheads.put(group, bulkhead);
+            Gauge.builder(STATE_METRIC, breaker, value -> value.state().code())
+                    .description("Circuit breaker state (0=closed, 1=open, 2=half-open)")
+                    .tag("group", group.tag())
+                    .register(meterRegistry);
+            Gauge.builder(BULKHEAD_METRIC, bulkhead, Semaphore::availablePermits)
+                    .description("Free concurrent call slots")
+                    .tag("group", group.tag())
+                    .register(meterRegistry);
+        }
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        if (!props.enabled()) {
+            return execution.execute(request, body);
+        }
+
+        BackendApiGroup group = BackendApiGroup.resolve(request.getURI() != null ? request.getURI().getPath() : null);
+        CircuitBreaker breaker = breakers.get(group);
+        if (!breaker.tryAcquire(System.nanoTime())) {
+            reject(group, "circuit_open");
+            throw new BackendUnavailableException(group, BackendUnavailableException.Reason.CIRCUIT_OPEN,
+                    "Backend API group '" + group.tag() + "' is temporarily unavailable");
+        }
+
+        Semaphore bulkhead = bulkheads.get(group);
+        boolean acquired;
+        try {
+            acquired = bulkhead.tryAcquire(groupProps.get(group).maxWait().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException exception) {
+            // 자리가 없어서가 아니라 호출한 쪽이 그만둔 것이므로 bulkhead_full 로 세지 않는다.
+            breaker.release();
+            Thread.currentThread().interrupt();
+            InterruptedIOException interrupted = new InterruptedIOException(
+                    "Interrupted while waiting for backend API group '" + group.tag() + "'");
+            interrupted.initCause(exception);
+            throw interrupted;
+        }
+        if (!acquired) {
+            breaker.release();
+            reject(group, "bulkhead_full");
+            throw new BackendUnavailableException(group, BackendUnavailableException.Reason.BULKHEAD_FULL,
+                    "Too many concurrent calls to backend API group '" + group.tag() + "'");
+        }
+
+        try {
+            ClientHttpResponse response = execution.execute(request, body);
+            if (response.getStatusCode().is5xxServerError()) {
+                onFailure(group, breaker);
+            } else {
+                breaker.onSuccess();
+            }
+            return response;
+        } catch (IOException exception) {
+            if (exception instanceof InterruptedIOException || Thread.currentThread().isInterrupted()) {
+                // 호출한 쪽이 시간 제한으로 끊은 것이라 백엔드 상태와는 관계없다. 결과로 세지 않는다.
+                breaker.release();
+            } else {
+                onFailure(group, breaker);
+            }
+            throw exception;
+        } catch (RuntimeException exception) {
+            breaker.onSuccess();
+            throw exception;
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    private void onFailure(BackendApiGroup group, CircuitBreaker breaker) {
+        CircuitBreaker.State before = breaker.state();
+        breaker.onFailure(System.nanoTime());
+        if (before != CircuitBreaker.State.OPEN && breaker.state() == CircuitBreaker.State.OPEN) {
+            log.warn("Circuit opened for backend API group {} for {}.", group.tag(), groupProps.get(group).openDuration());
+        }
+    }
+
+    private void reject(BackendApiGroup group, String reason) {
+        meterRegistry.counter(REJECTED_METRIC, "group", group.tag(), "reason", reason).increment();
+    }
+}
@@ -0,0 +1,71 @@
+package apu.saerok_admin.infra.resilience;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 회로 차단기·동시 호출 제한 설정. 위쪽 값이 모든 API 그룹의 기본값이고, {@code groups} 아래에 그룹 이름으로
+ * 필요한 값만 덮어쓴다.
+ * <p>
+ * {@code maxConcurrentCalls} 는 한 화면의 fan-out 병렬도({@code saerok.api.fan-out.parallelism})보다 넉넉해야 한다.
+ * 같으면 화면 하나가 그룹의 자리를 모두 차지해 동시에 열린 다른 화면의 호출이 곧바로 막힌다.
+ */
+@ConfigurationProperties(prefix = "saerok.api.resilience")
+public record BackendResilienceProps(
+        Boolean enabled,
+        Integer failureRateThreshold,
+        Integer slidingWindowSize,
+        Integer minimumCalls,
+        Duration openDuration,
+        Integer halfOpenCalls,
+        Integer maxConcurrentCalls,
+        Duration maxWait,
+        Map<BackendApiGroup, Group> groups
+) {
+
+    public BackendResilienceProps {
+        enabled = enabled == null || enabled;
+        failureRateThreshold = failureRateThreshold == null ? 50 : Math.min(Math.max(failureRateThreshold, 1), 100);
+        slidingWindowSize = slidingWindowSize == null || slidingWindowSize < 1 ? 20 : slidingWindowSize;
+        minimumCalls = minimumCalls == null || minimumCalls < 1 ? 10 : Math.min(minimumCalls, slidingWindowSize);
+        openDuration = openDuration == null || openDuration.isNegative() ? Duration.ofSeconds(30) : openDuration;
+        halfOpenCalls = halfOpenCalls == null || halfOpenCalls < 1 ? 2 : halfOpenCalls;
+        maxConcurrentCalls = maxConcurrentCalls == null || maxConcurrentCalls < 1 ? 48 : maxConcurrentCalls;
+        maxWait = maxWait == null || maxWait.isNegative() ? Duration.ofMillis(200) : maxWait;
+        groups = groups == null ? Map.of() : Map.copyOf(groups);
+    }
+
+    /**
+     * 그룹별 덮어쓰기를 반영한 설정. 덮어쓴 값이 없으면 자기 자신을 돌려준다.
+     */
+    public BackendResilienceProps forGroup(BackendApiGroup group) {
+        Group override = groups.get(group);
+        if (override == null) {
+            return this;
+        }
+        return new BackendResilienceProps(
+                enabled,
+                Objects.requireNonNullElse(override.failureRateThreshold(), failureRateThreshold),
+                Objects.requireNonNullElse(override.slidingWindowSize(), slidingWindowSize),
+                Objects.requireNonNullElse(override.minimumCalls(), minimumCalls),
+                Objects.requireNonNullElse(override.openDuration(), openDuration),
+                Objects.requireNonNullElse(override.halfOpenCalls(), halfOpenCalls),
+                Objects.requireNonNullElse(override.maxConcurrentCalls(), maxConcurrentCalls),
+                Objects.requireNonNullElse(override.maxWait(), maxWait),
+                Map.of()
+        );
+    }
+
+    public record Group(
+            Integer failureRateThreshold,
+            Integer slidingWindowSize,
+            Integer minimumCalls,
+            Duration openDuration,
+            Integer halfOpenCalls,
+            Integer maxConcurrentCalls,
+            Duration maxWait
+    ) {
+    }
+}
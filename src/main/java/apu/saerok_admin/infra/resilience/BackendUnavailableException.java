@@ -0,0 +1,32 @@
+package apu.saerok_admin.infra.resilience;
+
+import org.springframework.web.client.RestClientException;
+
+/**
+ * 서킷이 열려 있거나 동시 호출 한도가 차서 백엔드에 요청을 보내지 않은 경우.
+ * {@link RestClientException} 이므로 기존의 조회 실패 처리(부분 렌더링)로 그대로 이어진다.
+ */
+public class BackendUnavailableException extends RestClientException {
+
+    public enum Reason {
+        CIRCUIT_OPEN,
+        BULKHEAD_FULL
+    }
+
+    private final BackendApiGroup group;
+    private final Reason reason;
+
+    public BackendUnavailableException(BackendApiGroup group, Reason reason, String message) {
+        super(message);
+        this.group = group;
+        this.reason = reason;
+    }
+
+    public BackendApiGroup group() {
+        return group;
+    }
+
+    public Reason reason() {
+        return reason;
+    }
+}
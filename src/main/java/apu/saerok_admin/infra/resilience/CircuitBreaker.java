@@ -0,0 +1,133 @@
+package apu.saerok_admin.infra.resilience;
+
+import java.util.Arrays;
+
+/**
+ * 최근 {@code slidingWindowSize} 건의 결과로 실패율을 계산하는 회로 차단기.
+ * <p>
+ * 실패율이 기준을 넘으면 {@code openDuration} 동안 열려 호출을 막고, 그 뒤에는 {@code halfOpenCalls} 건만
+ * 시험 삼아 통과시킨다. 시험 호출이 모두 성공하면 닫히고, 하나라도 실패하면 다시 열린다.
+ */
+final class CircuitBreaker {
+
+    enum State {
+        CLOSED(0),
+        OPEN(1),
+        HALF_OPEN(2);
+
+        private final int code;
+
+        State(int code) {
+            this.code = code;
+        }
+
+        int code() {
+            return code;
+        }
+    }
+
+    private final int failureRateThreshold;
+    private final int minimumCalls;
+    private final long openNanos;
+    private final int halfOpenCalls;
+    private final boolean[] outcomes;
+
+    private State state = State.CLOSED;
+    private int nextIndex;
+    private int recordedCalls;
+    private int failedCalls;
+    private long openedAtNanos;
+    private int halfOpenPermits;
+    private int halfOpenSuccesses;
+
+    CircuitBreaker(BackendResilienceProps props) {
+        this.failureRateThreshold = props.failureRateThreshold();
+        this.minimumCalls = props.minimumCalls();
+        this.openNanos = props.openDuration().toNanos();
+        this.halfOpenCalls = props.halfOpenCalls();
+        this.outcomes = new boolean[props.slidingWindowSize()];
+    }
+
+    synchronized State state() {
+        return state;
+    }
+
+    synchronized boolean tryAcquire(long nowNanos) {
+        if (state == State.OPEN) {
+            if (nowNanos - openedAtNanos < openNanos) {
+                return false;
+            }
+            state = State.HALF_OPEN;
+            halfOpenPermits = halfOpenCalls;
+            halfOpenSuccesses = 0;
+        }
+        if (state == State.HALF_OPEN) {
+            if (halfOpenPermits == 0) {
+                return false;
+            }
+            halfOpenPermits--;
+        }
+        return true;
+    }
+
+    /**
+     * 허가를 받았지만 호출하지 않은 경우 반납한다.
+     */
+    synchronized void release() {
+        if (state == State.HALF_OPEN && halfOpenPermits < halfOpenCalls) {
+            halfOpenPermits++;
+        }
+    }
+
+    synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            halfOpenSuccesses++;
+            if (halfOpenSuccesses >= halfOpenCalls) {
+                close();
+            }
+            return;
+        }
+        record(false);
+    }
+
+    synchronized void onFailure(long nowNanos) {
+        if (state == State.HALF_OPEN) {
+            open(nowNanos);
+            return;
+        }
+        record(true);
+        if (state == State.CLOSED
+                && recordedCalls >= minimumCalls
+                && failedCalls * 100L >= (long) failureRateThreshold * recordedCalls) {
+            open(nowNanos);
+        }
+    }
+
+    private void record(boolean failed) {
+        if (recordedCalls == outcomes.length) {
+            if (outcomes[nextIndex]) {
+                failedCalls--;
+            }
+        } else {
+            recordedCalls++;
+        }
+        outcomes[nextIndex] = failed;
+        if (failed) {
+            failedCalls++;
+        }
+        nextIndex = (nextIndex + 1) % outcomes.length;
+    }
+
+    private void open(long nowNanos) {
+        state = State.OPEN;
+        openedAtNanos = nowNanos;
+    }
+
+    private void close() {
+        state = State.CLOSED;
+        nextIndex = 0;
+        recordedCalls = 0;
+        failedCalls = 0;
+        Arrays.fill(outcomes, false);
+    }
+}
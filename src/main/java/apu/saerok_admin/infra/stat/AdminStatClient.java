@@ -1,12 +1,16 @@
 package apu.saerok_admin.infra.stat;
 
 import apu.saerok_admin.infra.SaerokApiProps;
+import apu.saerok_admin.infra.cache.BackendSingleFlight;
+import apu.saerok_admin.infra.concurrent.BackendHedger;
+import apu.saerok_admin.infra.metrics.BackendClientTag;
 import apu.saerok_admin.infra.stat.dto.StatSeriesResponse;
 import java.net.URI;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.Collection;
 import java.util.Objects;
+import java.util.stream.Collectors;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestClient;
 import org.springframework.web.util.UriBuilder;
@@ -16,13 +20,24 @@ public class AdminStatClient {
 
     private static final String[] ADMIN_STATS_SEGMENTS = {"admin", "stats"};
     private static final String SERIES_SEGMENT = "series";
+    private static final String SINGLE_FLIGHT_API = "stats";
+    private static final String SERIES_ROUTE = "admin/stats/series";
 
     private final RestClient saerokRestClient;
     private final String[] missingPrefixSegments;
+    private final BackendSingleFlight backendSingleFlight;
+    private final BackendHedger backendHedger;
 
-    public AdminStatClient(RestClient saerokRestClient, SaerokApiProps saerokApiProps) {
-        this.saerokRestClient = saerokRestClient;
+    public AdminStatClient(
+            RestClient saerokRestClient,
+            SaerokApiProps saerokApiProps,
+            BackendSingleFlight backendSingleFlight,
+            BackendHedger backendHedger
+    ) {
+        this.saerokRestClient = BackendClientTag.tagged(saerokRestClient, AdminStatClient.class);
         this.missingPrefixSegments = saerokApiProps.missingPrefixSegments().toArray(new String[0]);
+        this.backendSingleFlight = backendSingleFlight;
+        this.backendHedger = backendHedger;
     }
 
     private static final DateTimeFormatter ISO_DATE = DateTimeFormatter.ISO_DATE;
@@ -32,16 +47,22 @@ public class AdminStatClient {
             throw new IllegalArgumentException("metrics must not be empty");
         }
 
-        StatSeriesResponse response = saerokRestClient.get()
-                .uri(uriBuilder -> buildSeriesUri(uriBuilder, metrics, startDate, endDate))
-                .retrieve()
-                .body(StatSeriesResponse.class);
+        String key = metrics.stream()
+                .filter(Objects::nonNull)
+                .map(Enum::name)
+                .collect(Collectors.joining(",")) + "@" + startDate + "~" + endDate;
+        return backendSingleFlight.execute(SINGLE_FLIGHT_API, key, () -> backendHedger.execute(SERIES_ROUTE, () -> {
+            StatSeriesResponse response = saerokRestClient.get()
+                    .uri(uriBuilder -> buildSeriesUri(uriBuilder, metrics, startDate, endDate))
+                    .retrieve()
+                    .body(StatSeriesResponse.class);
 
-        if (response == null) {
-            throw new IllegalStateException("Empty response from admin stats API");
-        }
+            if (response == null) {
+                throw new IllegalStateException("Empty response from admin stats API");
+            }
 
-        return response;
+            return response;
+        }));
     }
 
     private URI buildSeriesUri(UriBuilder builder, Collection<StatMetric> metrics, LocalDate startDate, LocalDate endDate) {
@@ -0,0 +1,306 @@
+package apu.saerok_admin.infra.stat;
+
+import apu.saerok_admin.infra.cache.BackendSingleFlight;
+import apu.saerok_admin.infra.stat.dto.StatSeriesResponse;
+import apu.saerok_admin.security.LoginSessionManager;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientException;
+
+/**
+ * 지표별·일자별로 나눈 통계 시계열 캐시.
+ * <p>
+ * 날이 끝나고 {@code settleMargin} 이 지난 뒤에 받은 값은 확정된 것으로 보고 계속 쓴다. 그 전에 받은 값은
+ * 나이와 상관없이 확정 시각이 지나면 다시 받고, 아직 끝나지 않은 날은 {@code openDayTtl} 마다 다시 받는다.
+ * 다시 받을 날짜와 비어 있는 날짜는 하나의 좁은 구간으로 묶어 조회하며, 재검증이 실패해도 구간 전체가 캐시에
+ * 있으면 이전 값으로 응답한다.
+ * <p>
+ * 통계 API 도 권한에 따라 응답이 다를 수 있으므로 캐시는 {@link BackendSingleFlight} 처럼 관리자 권한 조합별로
+ * (모르면 액세스 토큰 지문별로) 따로 둔다. 로그인 세션이 없으면 캐시를 쓰지 않고 바로 호출한다.
+ */
+@Component
+public class StatSeriesCache {
+
+    private static final Logger log = LoggerFactory.getLogger(StatSeriesCache.class);
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+    private final AdminStatClient adminStatClient;
+    private final LoginSessionManager loginSessionManager;
+    private final StatSeriesCacheProps props;
+    private final Clock clock;
+
+    private final Map<String, ScopedSeries> scopes = new LinkedHashMap<>(16, 0.75f, true);
+
+    public StatSeriesCache(
+            AdminStatClient adminStatClient,
+            LoginSessionManager loginSessionManager,
+            StatSeriesCacheProps props,
+            Clock clock
+    ) {
+        this.adminStatClient = adminStatClient;
+        this.loginSessionManager = loginSessionManager;
+        this.props = props;
+        this.clock = clock;
+    }
+
+    public StatSeriesResponse fetchSeries(Collection<StatMetric> metrics, LocalDate startDate, LocalDate endDate) {
+        List<StatMetric> requested = metrics == null
+                ? List.of()
+                : metrics.stream().filter(Objects::nonNull).distinct().toList();
+        Optional<String> scope = props.enabled() ? loginSessionManager.currentSharingScope() : Optional.empty();
+        if (scope.isEmpty() || requested.isEmpty()) {
+            return adminStatClient.fetchSeries(metrics, startDate, endDate);
+        }
+        ScopedSeries cached = forScope(scope.get());
+
+        LocalDate today = LocalDate.now(clock.withZone(ZONE));
+        LocalDate end = endDate == null || endDate.isAfter(today) ? today : endDate;
+        LocalDate start = startDate != null ? startDate : knownOrigin(cached, requested);
+        if (start == null) {
+            return loadUnbounded(cached, requested, endDate, end);
+        }
+        if (start.isAfter(end)) {
+            return adminStatClient.fetchSeries(requested, startDate, endDate);
+        }
+
+        Instant now = clock.instant();
+        DateRange refetchRange = findRefetchRange(cached, requested, start, end, now);
+        if (refetchRange != null) {
+            try {
+                StatSeriesResponse response = adminStatClient.fetchSeries(requested, refetchRange.start(), refetchRange.end());
+                store(cached, requested, response, refetchRange.start(), refetchRange.end(), now);
+            } catch (RestClientException | IllegalStateException exception) {
+                if (!isFullyCovered(cached, requested, start, end)) {
+                    throw exception;
+                }
+                log.warn("Failed to revalidate stat series, serving cached segments. range={}~{}",
+                        refetchRange.start(), refetchRange.end(), exception);
+            }
+        }
+        return stitch(cached, requested, start, end);
+    }
+
+    private synchronized ScopedSeries forScope(String scope) {
+        ScopedSeries cached = scopes.computeIfAbsent(scope, ignored -> new ScopedSeries());
+        if (scopes.size() > props.maxScopes()) {
+            scopes.values().iterator().remove();
+        }
+        return cached;
+    }
+
+    private StatSeriesResponse loadUnbounded(ScopedSeries cached, List<StatMetric> metrics, LocalDate endDate, LocalDate end) {
+        Instant now = clock.instant();
+        StatSeriesResponse response = adminStatClient.fetchSeries(metrics, null, endDate);
+        LocalDate earliest = earliestDate(response).filter(date -> !date.isAfter(end)).orElse(end);
+        store(cached, metrics, response, earliest, end, now);
+        synchronized (this) {
+            metrics.forEach(metric -> cached.origins().merge(metric, earliest, (left, right) -> left.isBefore(right) ? left : right));
+        }
+        return stitch(cached, metrics, earliest, end);
+    }
+
+    private synchronized LocalDate knownOrigin(ScopedSeries cached, List<StatMetric> metrics) {
+        LocalDate origin = null;
+        for (StatMetric metric : metrics) {
+            LocalDate metricOrigin = cached.origins().get(metric);
+            if (metricOrigin == null) {
+                return null;
+            }
+            if (origin == null || metricOrigin.isBefore(origin)) {
+                origin = metricOrigin;
+            }
+        }
+        return origin;
+    }
+
+    private synchronized DateRange findRefetchRange(
+            ScopedSeries cached,
+            List<StatMetric> metrics,
+            LocalDate start,
+            LocalDate end,
+            Instant now
+    ) {
+        LocalDate first = null;
+        LocalDate last = null;
+        for (StatMetric metric : metrics) {
+            NavigableMap<LocalDate, DaySegment> days = cached.segments().getOrDefault(metric, Collections.emptyNavigableMap());
+            for (LocalDate date = start; !date.isAfter(end); date = date.plusDays(1)) {
+                if (needsRefetch(days.get(date), date, now)) {
+                    first = first == null || date.isBefore(first) ? date : first;
+                    last = last == null || date.isAfter(last) ? date : last;
+                }
+            }
+        }
+        return first != null ? new DateRange(first, last) : null;
+    }
+
+    private boolean needsRefetch(DaySegment segment, LocalDate date, Instant now) {
+        if (segment == null) {
+            return true;
+        }
+        if (segment.settled()) {
+            return false;
+        }
+        // 확정 전에 받은 값은 확정 시각이 지나면 곧바로, 그 전에는 TTL 마다 다시 받는다.
+        return !now.isBefore(settledAt(date))
+                || !segment.fetchedAt().plus(props.openDayTtl()).isAfter(now);
+    }
+
+    /**
+     * 이 날짜의 집계가 더는 바뀌지 않는다고 보는 시각. {@code openDays} 만큼 날이 지난 뒤 {@code settleMargin} 을 더한다.
+     */
+    private Instant settledAt(LocalDate date) {
+        return date.plusDays(props.openDays()).atStartOfDay(ZONE).toInstant().plus(props.settleMargin());
+    }
+
+    private synchronized boolean isFullyCovered(ScopedSeries cached, List<StatMetric> metrics, LocalDate start, LocalDate end) {
+        for (StatMetric metric : metrics) {
+            NavigableMap<LocalDate, DaySegment> days = cached.segments().getOrDefault(metric, Collections.emptyNavigableMap());
+            for (LocalDate date = start; !date.isAfter(end); date = date.plusDays(1)) {
+                if (!days.containsKey(date)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private synchronized void store(
+            ScopedSeries cached,
+            List<StatMetric> metrics,
+            StatSeriesResponse response,
+            LocalDate from,
+            LocalDate to,
+            Instant fetchedAt
+    ) {
+        Map<String, StatSeriesResponse.Series> seriesByMetric = new HashMap<>();
+        Optional.ofNullable(response)
+                .map(StatSeriesResponse::series)
+                .orElseGet(List::of)
+                .stream()
+                .filter(series -> series != null && series.metric() != null)
+                .forEach(series -> seriesByMetric.put(series.metric(), series));
+
+        for (StatMetric metric : metrics) {
+            StatSeriesResponse.Series series = seriesByMetric.get(metric.name());
+            Map<LocalDate, Double> values = toValues(series != null ? series.points() : null);
+            Map<String, Map<LocalDate, Double>> componentValues = new LinkedHashMap<>();
+            if (series != null && series.components() != null) {
+                for (StatSeriesResponse.ComponentSeries component : series.components()) {
+                    if (component != null && component.key() != null) {
+                        componentValues.put(component.key(), toValues(component.points()));
+                    }
+                }
+            }
+
+            NavigableMap<LocalDate, DaySegment> days = cached.segments().computeIfAbsent(metric, key -> new TreeMap<>());
+            for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+                Map<String, Double> components = new LinkedHashMap<>();
+                for (Map.Entry<String, Map<LocalDate, Double>> entry : componentValues.entrySet()) {
+                    Double value = entry.getValue().get(date);
+                    if (value != null) {
+                        components.put(entry.getKey(), value);
+                    }
+                }
+                boolean settled = !fetchedAt.isBefore(settledAt(date));
+                days.put(date, new DaySegment(values.get(date), Collections.unmodifiableMap(components), fetchedAt, settled));
+            }
+        }
+    }
+
+    private synchronized StatSeriesResponse stitch(ScopedSeries cached, List<StatMetric> metrics, LocalDate start, LocalDate end) {
+        List<StatSeriesResponse.Series> series = new ArrayList<>(metrics.size());
+        for (StatMetric metric : metrics) {
+            List<StatSeriesResponse.Point> points = new ArrayList<>();
+            Map<String, List<StatSeriesResponse.Point>> componentPoints = new LinkedHashMap<>();
+            metric.componentLabels().keySet().forEach(key -> componentPoints.put(key, new ArrayList<>()));
+
+            cached.segments().getOrDefault(metric, Collections.emptyNavigableMap())
+                    .subMap(start, true, end, true)
+                    .forEach((date, segment) -> {
+                        if (segment.value() != null) {
+                            points.add(new StatSeriesResponse.Point(date, segment.value()));
+                        }
+                        segment.components().forEach((key, value) -> componentPoints
+                                .computeIfAbsent(key, ignored -> new ArrayList<>())
+                                .add(new StatSeriesResponse.Point(date, value)));
+                    });
+
+            List<StatSeriesResponse.ComponentSeries> components = componentPoints.entrySet().stream()
+                    .filter(entry -> !entry.getValue().isEmpty())
+                    .map(entry -> new StatSeriesResponse.ComponentSeries(entry.getKey(), List.copyOf(entry.getValue())))
+                    .toList();
+            series.add(new StatSeriesResponse.Series(metric.name(), List.copyOf(points), components));
+        }
+        return new StatSeriesResponse(series);
+    }
+
+    private Map<LocalDate, Double> toValues(List<StatSeriesResponse.Point> points) {
+        if (points == null || points.isEmpty()) {
+            return Map.of();
+        }
+        Map<LocalDate, Double> values = new HashMap<>();
+        for (StatSeriesResponse.Point point : points) {
+            if (point != null && point.date() != null && point.value() != null) {
+                values.put(point.date(), point.value().doubleValue());
+            }
+        }
+        return values;
+    }
+
+    private Optional<LocalDate> earliestDate(StatSeriesResponse response) {
+        if (response == null || response.series() == null) {
+            return Optional.empty();
+        }
+        return response.series().stream()
+                .filter(Objects::nonNull)
+                .flatMap(series -> {
+                    List<StatSeriesResponse.Point> all = new ArrayList<>();
+                    if (series.points() != null) {
+                        all.addAll(series.points());
+                    }
+                    if (series.components() != null) {
+                        series.components().stream()
+                                .filter(component -> component != null && component.points() != null)
+                                .forEach(component -> all.addAll(component.points()));
+                    }
+                    return all.stream();
+                })
+                .filter(point -> point != null && point.date() != null)
+                .map(StatSeriesResponse.Point::date)
+                .min(LocalDate::compareTo);
+    }
+
+    private record ScopedSeries(
+            Map<StatMetric, NavigableMap<LocalDate, DaySegment>> segments,
+            Map<StatMetric, LocalDate> origins
+    ) {
+
+        ScopedSeries() {
+            this(new EnumMap<>(StatMetric.class), new EnumMap<>(StatMetric.class));
+        }
+    }
+
+    private record DaySegment(Double value, Map<String, Double> components, Instant fetchedAt, boolean settled) {
+    }
+
+    private record DateRange(LocalDate start, LocalDate end) {
+    }
+}
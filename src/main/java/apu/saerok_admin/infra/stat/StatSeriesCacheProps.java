@@ -0,0 +1,42 @@
+package apu.saerok_admin.infra.stat;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * @param maxScopes 권한 조합(또는 토큰)별로 따로 들고 있을 캐시 수. 넘으면 오래 쓰지 않은 것부터 버린다.
+ */
+@ConfigurationProperties(prefix = "saerok.api.stat-cache")
+public record StatSeriesCacheProps(
+        Boolean enabled,
+        Duration openDayTtl,
+        Integer openDays,
+        Duration settleMargin,
+        Integer maxScopes
+) {
+
+    private static final Duration DEFAULT_OPEN_DAY_TTL = Duration.ofMinutes(5);
+    private static final int DEFAULT_OPEN_DAYS = 1;
+    private static final Duration DEFAULT_SETTLE_MARGIN = Duration.ofMinutes(10);
+    private static final int DEFAULT_MAX_SCOPES = 32;
+
+    public StatSeriesCacheProps {
+        enabled = enabled == null || enabled;
+        if (openDayTtl == null || openDayTtl.isNegative()) {
+            openDayTtl = DEFAULT_OPEN_DAY_TTL;
+        }
+        if (openDays == null || openDays < 1) {
+            openDays = DEFAULT_OPEN_DAYS;
+        }
+        if (settleMargin == null || settleMargin.isNegative()) {
+            settleMargin = DEFAULT_SETTLE_MARGIN;
+        }
+        if (maxScopes == null || maxScopes < 1) {
+            maxScopes = DEFAULT_MAX_SCOPES;
+        }
+    }
+
+    public StatSeriesCacheProps(Boolean enabled, Duration openDayTtl, Integer openDays, Duration settleMargin) {
+        this(enabled, openDayTtl, openDays, settleMargin, null);
+    }
+}
@@ -0,0 +1,42 @@
+package apu.saerok_admin.security;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Optional;
+import org.springframework.util.StringUtils;
+
+/**
+ * 백엔드가 발급한 JWT 액세스 토큰에서 만료 시각만 읽는다.
+ * <p>
+ * 서명은 검증하지 않는다. 토큰의 유효성은 백엔드가 판단하고, 여기서 읽은 값은 언제 미리 갱신할지 정하는
+ * 데에만 쓴다. JWT 형식이 아니거나 {@code exp} 클레임이 없으면 빈 값을 돌려준다.
+ */
+final class AccessTokenClaims {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private AccessTokenClaims() {
+    }
+
+    static Optional<Instant> expiresAt(String accessToken) {
+        if (!StringUtils.hasText(accessToken)) {
+            return Optional.empty();
+        }
+        String[] parts = accessToken.split("\\.");
+        if (parts.length < 2) {
+            return Optional.empty();
+        }
+        try {
+            JsonNode exp = OBJECT_MAPPER.readTree(Base64.getUrlDecoder().decode(parts[1])).get("exp");
+            if (exp == null || !exp.canConvertToLong()) {
+                return Optional.empty();
+            }
+            return Optional.of(Instant.ofEpochSecond(exp.asLong()));
+        } catch (IllegalArgumentException | IOException exception) {
+            return Optional.empty();
+        }
+    }
+}
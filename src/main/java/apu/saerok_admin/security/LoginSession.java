@@ -1,8 +1,21 @@
 package apu.saerok_admin.security;
 
 import java.io.Serializable;
+import java.time.Duration;
+import java.time.Instant;
 
-public record LoginSession(String accessToken) implements Serializable {
+public record LoginSession(String accessToken, Instant accessTokenExpiresAt) implements Serializable {
 
     public static final String ATTRIBUTE_NAME = "SAEROK_LOGIN_SESSION";
+
+    public LoginSession(String accessToken) {
+        this(accessToken, AccessTokenClaims.expiresAt(accessToken).orElse(null));
+    }
+
+    /**
+     * 만료 시각을 알고 있고, {@code now} 로부터 {@code window} 안에 만료되면 true.
+     */
+    public boolean expiresWithin(Duration window, Instant now) {
+        return accessTokenExpiresAt != null && !now.plus(window).isBefore(accessTokenExpiresAt);
+    }
 }
@@ -3,9 +3,16 @@ package apu.saerok_admin.security;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.servlet.http.HttpSession;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Duration;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.TreeSet;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseCookie;
 import org.springframework.security.core.Authentication;
@@ -21,9 +28,12 @@ import org.springframework.web.context.request.ServletRequestAttributes;
 public class LoginSessionManager {
 
     private static final String PRINCIPAL = "SaerokAdmin";
+    private static final String SESSION_VALUE_PREFIX = LoginSession.ATTRIBUTE_NAME + ".";
+    private static final String ROLE_SCOPE_KEY = "roleScope";
 
     public void establishSession(HttpServletRequest request, LoginSession loginSession) {
         HttpSession session = request.getSession(true);
+        removeSessionValues(session);
         session.setAttribute(LoginSession.ATTRIBUTE_NAME, loginSession);
 
         SaerokAdminAuthentication authentication = createAuthentication(loginSession);
@@ -65,6 +75,19 @@ public class LoginSessionManager {
         return currentSession().map(LoginSession::accessToken);
     }
 
+    public Optional<String> currentSessionId() {
+        return Optional.ofNullable(currentHttpSession()).map(HttpSession::getId);
+    }
+
+    /**
+     * 현재 액세스 토큰의 SHA-256 지문. 토큰 원문 대신 캐시 키나 공유 범위를 나누는 데 쓴다.
+     */
+    public Optional<String> currentAccessTokenFingerprint() {
+        return currentAccessToken()
+                .filter(StringUtils::hasText)
+                .map(LoginSessionManager::fingerprint);
+    }
+
     public void updateAccessToken(String accessToken) {
         if (!StringUtils.hasText(accessToken)) {
             clearCurrentSession();
@@ -80,6 +103,7 @@ public class LoginSessionManager {
             return;
         }
         LoginSession updatedSession = new LoginSession(accessToken);
+        removeSessionValues(session);
         session.setAttribute(LoginSession.ATTRIBUTE_NAME, updatedSession);
 
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
@@ -95,6 +119,7 @@ public class LoginSessionManager {
     public void clearSession(HttpServletRequest request) {
         HttpSession session = request.getSession(false);
         if (session != null) {
+            removeSessionValues(session);
             session.removeAttribute(LoginSession.ATTRIBUTE_NAME);
             session.removeAttribute(HttpSessionSecurityContextRepository.SPRING_SECURITY_CONTEXT_KEY);
         }
@@ -106,6 +131,7 @@ public class LoginSessionManager {
         if (attributes != null) {
             HttpSession session = attributes.getRequest().getSession(false);
             if (session != null) {
+                removeSessionValues(session);
                 session.removeAttribute(LoginSession.ATTRIBUTE_NAME);
                 session.removeAttribute(HttpSessionSecurityContextRepository.SPRING_SECURITY_CONTEXT_KEY);
             }
@@ -113,6 +139,72 @@ public class LoginSessionManager {
         SecurityContextHolder.clearContext();
     }
 
+    /**
+     * 현재 로그인 세션에 딸린 값을 조회한다.
+     * 이 값들은 액세스 토큰이 갱신되거나 세션이 정리될 때 함께 지워진다.
+     */
+    public <T> Optional<T> findSessionValue(String key, Class<T> type) {
+        HttpSession session = currentHttpSession();
+        if (session == null) {
+            return Optional.empty();
+        }
+        Object value = session.getAttribute(SESSION_VALUE_PREFIX + key);
+        return type.isInstance(value) ? Optional.of(type.cast(value)) : Optional.empty();
+    }
+
+    public void storeSessionValue(String key, Object value) {
+        HttpSession session = currentHttpSession();
+        if (session == null || session.getAttribute(LoginSession.ATTRIBUTE_NAME) == null) {
+            return;
+        }
+        session.setAttribute(SESSION_VALUE_PREFIX + key, value);
+    }
+
+    public void removeSessionValue(String key) {
+        HttpSession session = currentHttpSession();
+        if (session != null) {
+            session.removeAttribute(SESSION_VALUE_PREFIX + key);
+        }
+    }
+
+    /**
+     * 현재 관리자의 권한 조합. 권한별로 같은 응답을 공유해도 되는 캐시의 범위로 쓴다.
+     */
+    public Optional<String> currentRoleScope() {
+        return findSessionValue(ROLE_SCOPE_KEY, String.class);
+    }
+
+    /**
+     * 요청의 세션에 남은 권한 조합. 요청 스레드에 요청 컨텍스트가 아직(또는 더는) 없는 서블릿 필터에서 쓴다.
+     */
+    public Optional<String> findRoleScope(HttpServletRequest request) {
+        HttpSession session = request.getSession(false);
+        if (session == null) {
+            return Optional.empty();
+        }
+        Object value = session.getAttribute(SESSION_VALUE_PREFIX + ROLE_SCOPE_KEY);
+        return value instanceof String roleScope ? Optional.of(roleScope) : Optional.empty();
+    }
+
+    /**
+     * 같은 응답을 함께 써도 되는 범위. 권한 조합을 알면 권한별로, 모르면 액세스 토큰 지문으로 나눈다.
+     * 로그인 세션이 없으면 비어 있다.
+     */
+    public Optional<String> currentSharingScope() {
+        return currentRoleScope()
+                .filter(StringUtils::hasText)
+                .map(value -> "role:" + value)
+                .or(() -> currentAccessTokenFingerprint().map(value -> "token:" + value));
+    }
+
+    public void storeRoleScope(Collection<String> roleCodes) {
+        if (roleCodes == null || roleCodes.isEmpty()) {
+            removeSessionValue(ROLE_SCOPE_KEY);
+            return;
+        }
+        storeSessionValue(ROLE_SCOPE_KEY, String.join(",", new TreeSet<>(roleCodes)));
+    }
+
     public void writeRefreshCookiesToResponse(List<String> cookies) {
         if (cookies == null || cookies.isEmpty()) {
             return;
@@ -142,6 +234,30 @@ public class LoginSessionManager {
         return new SaerokAdminAuthentication(PRINCIPAL, loginSession);
     }
 
+    private HttpSession currentHttpSession() {
+        ServletRequestAttributes attributes = currentRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+        return attributes.getRequest().getSession(false);
+    }
+
+    private void removeSessionValues(HttpSession session) {
+        Collections.list(session.getAttributeNames()).stream()
+                .filter(name -> name.startsWith(SESSION_VALUE_PREFIX))
+                .forEach(session::removeAttribute);
+    }
+
+    private static String fingerprint(String accessToken) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(accessToken.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException("SHA-256 is not available", exception);
+        }
+    }
+
     private ServletRequestAttributes currentRequestAttributes() {
         return (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
     }
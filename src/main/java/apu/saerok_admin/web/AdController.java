@@ -13,6 +13,7 @@ import apu.saerok_admin.infra.ad.dto.AdminSlotListResponse;
 import apu.saerok_admin.infra.ad.dto.AdminUpdateAdPlacementRequest;
 import apu.saerok_admin.infra.ad.dto.AdminUpdateAdRequest;
 import apu.saerok_admin.infra.ad.dto.AdminUpdateSlotRequest;
+import apu.saerok_admin.infra.concurrent.BackendFanOutExecutor;
 import apu.saerok_admin.web.view.Breadcrumb;
 import apu.saerok_admin.web.view.CurrentAdminProfile;
 import apu.saerok_admin.web.view.ad.AdForm;
@@ -34,6 +35,7 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -60,10 +62,12 @@ public class AdController {
     private static final Logger log = LoggerFactory.getLogger(AdController.class);
 
     private final AdminAdClient adminAdClient;
+    private final BackendFanOutExecutor backendFanOutExecutor;
     private final Clock clock;
 
-    public AdController(AdminAdClient adminAdClient, Clock clock) {
+    public AdController(AdminAdClient adminAdClient, BackendFanOutExecutor backendFanOutExecutor, Clock clock) {
         this.adminAdClient = adminAdClient;
+        this.backendFanOutExecutor = backendFanOutExecutor;
         this.clock = clock;
     }
 
@@ -80,10 +84,15 @@ public class AdController {
 
         LocalDate today = LocalDate.now(clock);
 
+        // 세 목록은 서로 독립적이므로 한꺼번에 요청하고, 결과는 목록별로 받아 실패를 따로 처리한다.
+        Future<AdminAdListResponse> adsCall = backendFanOutExecutor.submit(adminAdClient::listAds);
+        Future<AdminAdPlacementListResponse> placementsCall = backendFanOutExecutor.submit(adminAdClient::listPlacements);
+        Future<AdminSlotListResponse> slotsCall = backendFanOutExecutor.submit(adminAdClient::listSlots);
+
         List<AdListItem> adItems = List.of();
         String adsLoadError = null;
         try {
-            AdminAdListResponse response = adminAdClient.listAds();
+            AdminAdListResponse response = backendFanOutExecutor.await(adsCall);
             List<AdminAdListResponse.Item> rawItems = Optional.ofNullable(response)
                     .map(AdminAdListResponse::items)
                     .orElseGet(List::of);
@@ -102,7 +111,7 @@ public class AdController {
         List<AdPlacementItem> placementItems = List.of();
         String placementsLoadError = null;
         try {
-            AdminAdPlacementListResponse placementResponse = adminAdClient.listPlacements();
+            AdminAdPlacementListResponse placementResponse = backendFanOutExecutor.await(placementsCall);
             List<AdminAdPlacementListResponse.Item> rawPlacements = Optional.ofNullable(placementResponse)
                     .map(AdminAdPlacementListResponse::items)
                     .orElseGet(List::of);
@@ -124,7 +133,7 @@ public class AdController {
         List<AdSlotListItem> slotItems = List.of();
         String slotsLoadError = null;
         try {
-            AdminSlotListResponse slotResponse = adminAdClient.listSlots();
+            AdminSlotListResponse slotResponse = backendFanOutExecutor.await(slotsCall);
             List<AdminSlotListResponse.Item> rawSlots = Optional.ofNullable(slotResponse)
                     .map(AdminSlotListResponse::items)
                     .orElseGet(List::of);
@@ -2,21 +2,64 @@ package apu.saerok_admin.web;
 
 import apu.saerok_admin.infra.CurrentAdminClient;
 import apu.saerok_admin.web.view.CurrentAdminProfile;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.http.HttpEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
 
 @ControllerAdvice
 public class CurrentAdminProfileAdvice {
 
+    private static final String ATTRIBUTE_NAME = "currentAdminProfile";
+    private static final String REQUESTED_WITH_HEADER = "X-Requested-With";
+    private static final String XML_HTTP_REQUEST = "XMLHttpRequest";
+
     private final CurrentAdminClient currentAdminClient;
 
     public CurrentAdminProfileAdvice(CurrentAdminClient currentAdminClient) {
         this.currentAdminClient = currentAdminClient;
     }
 
-    @ModelAttribute("currentAdminProfile")
-    public CurrentAdminProfile currentAdminProfile() {
+    @ModelAttribute(ATTRIBUTE_NAME)
+    public CurrentAdminProfile currentAdminProfile(HttpServletRequest request) {
+        if (isFragmentRequest(request) || isJsonHandlerWithoutProfile(request)) {
+            return CurrentAdminProfile.placeholder();
+        }
         return currentAdminClient.fetchCurrentAdminProfile()
                 .orElseGet(CurrentAdminProfile::placeholder);
     }
+
+    // 스크립트가 받아 가는 화면 조각(대시보드 카드, 목록 이어 붙이기)도 내비게이션 바를 그리지 않는다.
+    private boolean isFragmentRequest(HttpServletRequest request) {
+        return XML_HTTP_REQUEST.equalsIgnoreCase(request.getHeader(REQUESTED_WITH_HEADER));
+    }
+
+    // JSON 응답은 내비게이션 바를 그리지 않으므로, 핸들러가 프로필을 직접 받지 않는 한 /user/me 호출을 생략한다.
+    private boolean isJsonHandlerWithoutProfile(HttpServletRequest request) {
+        Object handler = request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE);
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return false;
+        }
+
+        boolean writesResponseBody = handlerMethod.hasMethodAnnotation(ResponseBody.class)
+                || AnnotatedElementUtils.hasAnnotation(handlerMethod.getBeanType(), ResponseBody.class)
+                || HttpEntity.class.isAssignableFrom(handlerMethod.getReturnType().getParameterType());
+        if (!writesResponseBody) {
+            return false;
+        }
+
+        for (MethodParameter parameter : handlerMethod.getMethodParameters()) {
+            ModelAttribute modelAttribute = parameter.getParameterAnnotation(ModelAttribute.class);
+            if (modelAttribute != null
+                    && (ATTRIBUTE_NAME.equals(modelAttribute.value()) || ATTRIBUTE_NAME.equals(modelAttribute.name()))) {
+                return false;
+            }
+        }
+        return true;
+    }
 }
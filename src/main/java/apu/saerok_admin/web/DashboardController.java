@@ -1,94 +1,128 @@
 package apu.saerok_admin.web;
 
-import apu.saerok_admin.infra.ServiceHealthClient;
-import apu.saerok_admin.infra.report.AdminReportClient;
-import apu.saerok_admin.infra.report.dto.ReportedCollectionListResponse;
-import apu.saerok_admin.infra.report.dto.ReportedCommentListResponse;
+import apu.saerok_admin.infra.concurrent.BackendFanOutExecutor;
+import apu.saerok_admin.infra.health.BackendHealthProber;
+import apu.saerok_admin.infra.health.ProbeSample;
+import apu.saerok_admin.web.dashboard.DashboardCard;
 import apu.saerok_admin.web.view.Breadcrumb;
+import apu.saerok_admin.web.view.DashboardCardSlot;
 import apu.saerok_admin.web.view.DashboardMetric;
+import apu.saerok_admin.web.view.HealthSparkline;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Optional;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Future;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
-import org.springframework.web.client.RestClientException;
-import org.springframework.web.client.RestClientResponseException;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.server.ResponseStatusException;
 
 @Controller
 public class DashboardController {
 
     private static final Logger log = LoggerFactory.getLogger(DashboardController.class);
+    private static final double SPARKLINE_WIDTH = 120;
+    private static final double SPARKLINE_HEIGHT = 28;
 
-    private final ServiceHealthClient serviceHealthClient;
-    private final AdminReportClient adminReportClient;
+    private final BackendHealthProber backendHealthProber;
+    private final BackendFanOutExecutor backendFanOutExecutor;
+    private final Map<String, DashboardCard> cards;
 
-    public DashboardController(ServiceHealthClient serviceHealthClient, AdminReportClient adminReportClient) {
-        this.serviceHealthClient = serviceHealthClient;
-        this.adminReportClient = adminReportClient;
+    public DashboardController(
+            BackendHealthProber backendHealthProber,
+            BackendFanOutExecutor backendFanOutExecutor,
+            List<DashboardCard> cards
+    ) {
+        this.backendHealthProber = backendHealthProber;
+        this.backendFanOutExecutor = backendFanOutExecutor;
+        this.cards = new LinkedHashMap<>();
+        cards.stream()
+                .sorted(Comparator.comparingInt(DashboardCard::order))
+                .forEach(card -> this.cards.put(card.id(), card));
     }
 
+    // 본문은 백엔드를 기다리지 않는다. 상태 정보는 프로버가 모아 둔 것을 쓰고, 카드는 뼈대만 그린다.
     @GetMapping("/")
     public String dashboard(Model model) {
         model.addAttribute("pageTitle", "대시보드");
         model.addAttribute("activeMenu", "dashboard");
         model.addAttribute("breadcrumbs", List.of(Breadcrumb.active("대시보드")));
         model.addAttribute("toastMessages", List.of());
-        model.addAttribute("serviceHealth", serviceHealthClient.checkHealth());
-
-        ReportCounts reportCounts = fetchReportCounts();
-        DashboardMetric reportMetric = reportCounts != null
-                ? new DashboardMetric(
-                "접수된 신고",
-                reportCounts.formattedTotal(),
-                "bi-flag",
-                "primary",
-                reportCounts.subtitle(),
-                "/reports"
-        )
-                : new DashboardMetric(
-                "접수된 신고",
-                "정보 없음",
-                "bi-flag",
-                "secondary",
-                "신고 데이터를 불러오지 못했습니다.",
-                "/reports"
-        );
-
-        model.addAttribute("metrics", List.of(reportMetric));
+        model.addAttribute("serviceHealth", backendHealthProber.latestHealth().orElse(null));
+        List<ProbeSample> healthSamples = backendHealthProber.history();
+        model.addAttribute("healthSparklines", healthSamples.isEmpty() ? List.of() : List.of(toSparkline(healthSamples)));
+        model.addAttribute("cardSlots", cards.values().stream()
+                .map(card -> new DashboardCardSlot(
+                        card.id(),
+                        card.label(),
+                        card.icon(),
+                        "/dashboard/cards/" + card.id(),
+                        card.timeout().toMillis()
+                ))
+                .toList());
         return "dashboard/index";
     }
 
-    private ReportCounts fetchReportCounts() {
-        try {
-            List<ReportedCollectionListResponse.Item> collectionItems = Optional.ofNullable(adminReportClient.listCollectionReports())
-                    .map(ReportedCollectionListResponse::items)
-                    .orElseGet(List::of);
-            List<ReportedCommentListResponse.Item> commentItems = Optional.ofNullable(adminReportClient.listCommentReports())
-                    .map(ReportedCommentListResponse::items)
-                    .orElseGet(List::of);
-            return new ReportCounts(collectionItems.size(), commentItems.size());
-        } catch (RestClientResponseException exception) {
-            log.warn("Failed to load report counts. status={}, body={}", exception.getStatusCode(), exception.getResponseBodyAsString(), exception);
-        } catch (RestClientException | IllegalStateException exception) {
-            log.warn("Failed to load report counts.", exception);
+    @GetMapping("/dashboard/cards/{cardId}")
+    public String card(@PathVariable String cardId, Model model) {
+        DashboardCard card = cards.get(cardId);
+        if (card == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND);
         }
-        return null;
+        model.addAttribute("metric", loadCard(card));
+        return "dashboard/cards :: metric-card";
     }
 
-    private record ReportCounts(int collectionCount, int commentCount) {
-
-        int total() {
-            return collectionCount + commentCount;
+    private DashboardMetric loadCard(DashboardCard card) {
+        Future<DashboardMetric> future = backendFanOutExecutor.submit(card::load, card.timeout());
+        try {
+            DashboardMetric metric = backendFanOutExecutor.await(future, card.timeout());
+            return metric != null ? metric : card.unavailable();
+        } catch (RuntimeException exception) {
+            log.warn("Failed to load dashboard card. card={}", card.id(), exception);
+            return card.unavailable();
         }
+    }
 
-        String formattedTotal() {
-            return total() + "건";
-        }
+    private HealthSparkline toSparkline(List<ProbeSample> samples) {
+        ProbeSample latest = samples.get(samples.size() - 1);
+        long maxLatency = samples.stream().mapToLong(ProbeSample::latencyMillis).max().orElse(0);
+        long upCount = samples.stream().filter(ProbeSample::up).count();
 
-        String subtitle() {
-            return "새록 " + collectionCount + "건 · 댓글 " + commentCount + "건";
+        // 가장 느린 표본을 위쪽 끝으로 맞추고, 장애 표본은 바닥이 아니라 위쪽 끝에 찍어 눈에 띄게 한다.
+        StringBuilder points = new StringBuilder();
+        if (samples.size() >= 2) {
+            double step = SPARKLINE_WIDTH / (samples.size() - 1);
+            for (int i = 0; i < samples.size(); i++) {
+                ProbeSample sample = samples.get(i);
+                double ratio;
+                if (!sample.up()) {
+                    ratio = 1;
+                } else {
+                    ratio = maxLatency == 0 ? 0 : (double) sample.latencyMillis() / maxLatency;
+                }
+                double y = SPARKLINE_HEIGHT - 1 - ratio * (SPARKLINE_HEIGHT - 2);
+                if (!points.isEmpty()) {
+                    points.append(' ');
+                }
+                points.append(String.format(Locale.ROOT, "%.1f,%.1f", i * step, y));
+            }
         }
+
+        return new HealthSparkline(
+                "/health",
+                latest.up(),
+                latest.up() ? latest.latencyMillis() : null,
+                maxLatency,
+                (int) Math.round(upCount * 100.0 / samples.size()),
+                samples.size(),
+                points.toString()
+        );
     }
 }
@@ -1,6 +1,11 @@
 package apu.saerok_admin.web;
 
+import apu.saerok_admin.infra.concurrent.BackendFanOutExecutor;
+import apu.saerok_admin.infra.http.StreamedList;
 import apu.saerok_admin.infra.report.AdminReportClient;
+import apu.saerok_admin.infra.report.ReportBulkProps;
+import apu.saerok_admin.infra.report.ReportPrefetchCache;
+import apu.saerok_admin.infra.report.ReportSnapshotCache;
 import apu.saerok_admin.infra.report.dto.CollectionCommentsResponse;
 import apu.saerok_admin.infra.report.dto.CollectionDetailResponse;
 import apu.saerok_admin.infra.report.dto.ReportedCollectionDetailResponse;
@@ -8,22 +13,28 @@ import apu.saerok_admin.infra.report.dto.ReportedCollectionListResponse;
 import apu.saerok_admin.infra.report.dto.ReportedCommentDetailResponse;
 import apu.saerok_admin.infra.report.dto.ReportedCommentListResponse;
 import apu.saerok_admin.web.view.Breadcrumb;
+import apu.saerok_admin.web.view.BulkModerationResult;
 import apu.saerok_admin.web.view.ReportDetail;
 import apu.saerok_admin.web.view.ReportListItem;
+import apu.saerok_admin.web.view.ReportTargetGroup;
 import apu.saerok_admin.web.view.ReportType;
+import java.io.InterruptedIOException;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.EnumSet;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
-import java.util.Optional;
+import java.util.Objects;
 import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
@@ -38,12 +49,29 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestClientResponseException;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
+import org.springframework.web.util.UriComponentsBuilder;
 
 @Controller
 @RequestMapping("/reports")
 public class ReportController {
 
     private static final Logger log = LoggerFactory.getLogger(ReportController.class);
+    private static final String GROUPED_VIEW = "grouped";
+    private static final String INFINITE_SCROLL = "infinite";
+    private static final String ROWS_FRAGMENT = "rows";
+    private static final String NEXT_FLOW = "next";
+    private static final String UNKNOWN_OUTCOME_MESSAGE = "제한 시간 안에 끝나지 않아 처리 여부를 확인하지 못했습니다.";
+    private static final String TARGET_CHECK_FAILURE_MESSAGE = "신고 목록을 확인하지 못해 처리하지 않았습니다. 잠시 후 다시 시도해주세요.";
+    private static final int DEFAULT_PAGE_SIZE = 30;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final List<Integer> PAGE_SIZE_OPTIONS = List.of(30, 50, 100);
+    private static final Comparator<LocalDateTime> LATEST_FIRST = Comparator.nullsLast(Comparator.reverseOrder());
+    private static final Comparator<TargetReport> TARGET_REPORT_ORDER = Comparator.comparing(TargetReport::reportedAt, LATEST_FIRST)
+            .thenComparing(TargetReport::reportId, Comparator.reverseOrder());
+    // 순서대로 처리할 때의 순서. 목록과 같은 최신순이고, 같은 시각이면 id 로 끊어 앞뒤가 항상 정해지게 한다.
+    private static final Comparator<ReportRow> FLOW_ORDER = Comparator.comparing(ReportRow::reportedAt, LATEST_FIRST)
+            .thenComparing(ReportRow::type)
+            .thenComparing(ReportRow::reportId, Comparator.nullsLast(Comparator.reverseOrder()));
     private static final Map<String, ReportType> TYPE_PARAM_MAP = Map.of(
             "collection", ReportType.COLLECTION,
             "collections", ReportType.COLLECTION,
@@ -52,13 +80,32 @@ public class ReportController {
     );
 
     private final AdminReportClient adminReportClient;
+    private final BackendFanOutExecutor backendFanOutExecutor;
+    private final ReportSnapshotCache reportSnapshotCache;
+    private final ReportPrefetchCache reportPrefetchCache;
+    private final ReportBulkProps reportBulkProps;
 
-    public ReportController(AdminReportClient adminReportClient) {
+    public ReportController(
+            AdminReportClient adminReportClient,
+            BackendFanOutExecutor backendFanOutExecutor,
+            ReportSnapshotCache reportSnapshotCache,
+            ReportPrefetchCache reportPrefetchCache,
+            ReportBulkProps reportBulkProps
+    ) {
         this.adminReportClient = adminReportClient;
+        this.backendFanOutExecutor = backendFanOutExecutor;
+        this.reportSnapshotCache = reportSnapshotCache;
+        this.reportPrefetchCache = reportPrefetchCache;
+        this.reportBulkProps = reportBulkProps;
     }
 
     @GetMapping
     public String list(@RequestParam(name = "type", required = false) List<String> types,
+                       @RequestParam(name = "view", required = false) String view,
+                       @RequestParam(name = "page", required = false) Integer page,
+                       @RequestParam(name = "size", required = false) Integer size,
+                       @RequestParam(name = "scroll", required = false) String scroll,
+                       @RequestParam(name = "fragment", required = false) String fragment,
                        Model model) {
         model.addAttribute("pageTitle", "신고 관리");
         model.addAttribute("activeMenu", "reports");
@@ -72,59 +119,77 @@ public class ReportController {
         model.addAttribute("collectionFilterActive", includeCollections);
         model.addAttribute("commentFilterActive", includeComments);
         model.addAttribute("selectedTypeParams", normalizedTypes);
+        boolean groupedView = GROUPED_VIEW.equalsIgnoreCase(view);
+        model.addAttribute("groupedView", groupedView);
 
+        int resolvedPage = page != null && page >= 1 ? page : 1;
+        int resolvedSize = size != null && size > 0 ? Math.min(size, MAX_PAGE_SIZE) : DEFAULT_PAGE_SIZE;
+        boolean infiniteScroll = INFINITE_SCROLL.equalsIgnoreCase(scroll);
+        ReportListQuery query = new ReportListQuery(normalizedTypes, groupedView, resolvedSize, infiniteScroll);
+        int offset = (resolvedPage - 1) * resolvedSize;
+
+        // 첫 페이지를 열 때만 목록을 새로 받는다. 다음 페이지와 이어 붙이는 행은 그때 만든 스냅샷에서 자르고,
+        // 스냅샷이 낡았을 때만 다시 받는다. 스냅샷은 이미 최신순이라 다시 정렬하거나 훑지 않는다.
+        boolean reload = resolvedPage == 1 && !ROWS_FRAGMENT.equalsIgnoreCase(fragment);
         try {
-            List<ReportedCollectionListResponse.Item> rawCollectionReports = Optional.ofNullable(adminReportClient.listCollectionReports())
-                    .map(ReportedCollectionListResponse::items)
-                    .orElseGet(List::of);
-            List<ReportedCommentListResponse.Item> rawCommentReports = Optional.ofNullable(adminReportClient.listCommentReports())
-                    .map(ReportedCommentListResponse::items)
-                    .orElseGet(List::of);
-
-            Map<Long, CollectionListSupplement> collectionSupplements = includeCollections
-                    ? loadCollectionSupplements(rawCollectionReports)
-                    : Map.of();
-
-            List<ReportListItem> collectionReports = rawCollectionReports.stream()
-                    .map(item -> toCollectionListItem(item, collectionSupplements.get(item.reportId())))
-                    .toList();
-            List<ReportListItem> commentReports = rawCommentReports.stream()
-                    .map(this::toCommentListItem)
-                    .toList();
-
-            List<ReportListItem> combined = Stream.concat(collectionReports.stream(), commentReports.stream())
-                    .sorted(Comparator.comparing(ReportListItem::reportedAt, Comparator.nullsLast(Comparator.reverseOrder())))
-                    .collect(Collectors.toCollection(ArrayList::new));
-
-            List<ReportListItem> filtered = combined;
-            if (!selectedTypes.isEmpty()) {
-                filtered = combined.stream()
-                        .filter(item -> selectedTypes.contains(item.type()))
-                        .toList();
-            }
-
-            model.addAttribute("reports", filtered);
-            model.addAttribute("totalCount", combined.size());
-            model.addAttribute("filteredCount", filtered.size());
-            model.addAttribute("collectionCount", collectionReports.size());
-            model.addAttribute("commentCount", commentReports.size());
+            StreamedList<ReportedCollectionListResponse.Item> collectionStream = reload
+                    ? reportSnapshotCache.loadCollectionReports()
+                    : reportSnapshotCache.collectionReports();
+            StreamedList<ReportedCommentListResponse.Item> commentStream = reload
+                    ? reportSnapshotCache.loadCommentReports()
+                    : reportSnapshotCache.commentReports();
+            List<ReportedCollectionListResponse.Item> collectionReports = includeCollections
+                    ? collectionStream.items()
+                    : List.of();
+            List<ReportedCommentListResponse.Item> commentReports = includeComments
+                    ? commentStream.items()
+                    : List.of();
+
+            int filteredCount;
+            int shownCount;
+            if (groupedView) {
+                List<ReportTargetGroup> groups = buildTargetGroups(collectionReports, commentReports);
+                List<ReportTargetGroup> pageGroups = groups.subList(
+                        Math.min(offset, groups.size()),
+                        Math.min(offset + resolvedSize, groups.size())
+                );
+                model.addAttribute("reports", List.of());
+                model.addAttribute("reportGroups", attachGroupSupplements(pageGroups));
+                filteredCount = groups.size();
+                shownCount = pageGroups.size();
+            } else {
+                List<ReportListItem> pageRows = loadReportPage(collectionReports, commentReports, offset, resolvedSize);
+                model.addAttribute("reports", pageRows);
+                model.addAttribute("reportGroups", List.of());
+                filteredCount = collectionReports.size() + commentReports.size();
+                shownCount = pageRows.size();
+            }
+
+            model.addAttribute("totalCount", collectionStream.items().size() + commentStream.items().size());
+            model.addAttribute("filteredCount", filteredCount);
+            model.addAttribute("collectionCount", collectionStream.items().size());
+            model.addAttribute("commentCount", commentStream.items().size());
+            model.addAttribute("reportsTruncated", collectionStream.truncated() || commentStream.truncated());
             model.addAttribute("loadErrorMessage", null);
+            attachPagination(model, query, resolvedPage, offset, shownCount, filteredCount);
         } catch (RestClientResponseException exception) {
             log.warn("Failed to load reports from backend. status={}, body={}",
                     exception.getStatusCode(), exception.getResponseBodyAsString(), exception);
-            model.addAttribute("reports", List.of());
-            model.addAttribute("loadErrorMessage", "신고 목록을 불러오지 못했습니다. 잠시 후 다시 시도해주세요.");
+            attachEmptyList(model, query, resolvedPage);
         } catch (RestClientException | IllegalStateException exception) {
             log.warn("Failed to load reports from backend.", exception);
-            model.addAttribute("reports", List.of());
-            model.addAttribute("loadErrorMessage", "신고 목록을 불러오지 못했습니다. 잠시 후 다시 시도해주세요.");
+            attachEmptyList(model, query, resolvedPage);
         }
 
+        if (ROWS_FRAGMENT.equalsIgnoreCase(fragment)) {
+            return "reports/list :: reportRows";
+        }
         return "reports/list";
     }
 
     @GetMapping("/collections/{reportId}")
     public String collectionDetail(@PathVariable long reportId,
+                                   @RequestParam(name = "flow", required = false) String flow,
                                    Model model,
                                    RedirectAttributes redirectAttributes) {
         model.addAttribute("pageTitle", "신고 상세");
@@ -132,8 +197,9 @@ public class ReportController {
         ensureToastMessages(model);
 
         try {
-            ReportedCollectionDetailResponse detailResponse = adminReportClient.getCollectionReportDetail(reportId);
-            ReportedCollectionListResponse.Item metadata = findCollectionReportMetadata(reportId);
+            ReportedCollectionDetailResponse detailResponse = reportPrefetchCache.takeCollectionDetail(reportId)
+                    .orElseGet(() -> adminReportClient.getCollectionReportDetail(reportId));
+            ReportedCollectionListResponse.Item metadata = reportSnapshotCache.findCollectionReport(reportId).orElse(null);
 
             ReportDetail detail = buildCollectionDetail(detailResponse, metadata);
             model.addAttribute("detail", detail);
@@ -142,6 +208,8 @@ public class ReportController {
                     Breadcrumb.of("신고 관리", "/reports"),
                     Breadcrumb.active("새록 신고 #" + reportId)
             ));
+            attachFlow(model, NEXT_FLOW.equalsIgnoreCase(flow),
+                    ReportRow.position(ReportType.COLLECTION, reportId, metadata != null ? metadata.reportedAt() : null));
             attachFlashDefaults(model);
             return "reports/detail";
         } catch (RestClientResponseException exception) {
@@ -160,6 +228,7 @@ public class ReportController {
 
     @GetMapping("/comments/{reportId}")
     public String commentDetail(@PathVariable long reportId,
+                                @RequestParam(name = "flow", required = false) String flow,
                                 Model model,
                                 RedirectAttributes redirectAttributes) {
         model.addAttribute("pageTitle", "신고 상세");
@@ -167,8 +236,9 @@ public class ReportController {
         ensureToastMessages(model);
 
         try {
-            ReportedCommentDetailResponse detailResponse = adminReportClient.getCommentReportDetail(reportId);
-            ReportedCommentListResponse.Item metadata = findCommentReportMetadata(reportId);
+            ReportedCommentDetailResponse detailResponse = reportPrefetchCache.takeCommentDetail(reportId)
+                    .orElseGet(() -> adminReportClient.getCommentReportDetail(reportId));
+            ReportedCommentListResponse.Item metadata = reportSnapshotCache.findCommentReport(reportId).orElse(null);
 
             ReportDetail detail = buildCommentDetail(detailResponse, metadata);
             model.addAttribute("detail", detail);
@@ -177,6 +247,8 @@ public class ReportController {
                     Breadcrumb.of("신고 관리", "/reports"),
                     Breadcrumb.active("댓글 신고 #" + reportId)
             ));
+            attachFlow(model, NEXT_FLOW.equalsIgnoreCase(flow),
+                    ReportRow.position(ReportType.COMMENT, reportId, metadata != null ? metadata.reportedAt() : null));
             attachFlashDefaults(model);
             return "reports/detail";
         } catch (RestClientResponseException exception) {
@@ -199,6 +271,7 @@ public class ReportController {
                                    @RequestParam(name = "returnType", required = false) List<String> returnTypes,
                                    RedirectAttributes redirectAttributes) {
         return performAction(() -> adminReportClient.ignoreCollectionReport(reportId),
+                ReportType.COLLECTION,
                 reportId,
                 "신고 #" + reportId + "을(를) 무시 처리했습니다.",
                 "신고 #" + reportId + " 무시 처리에 실패했습니다.",
@@ -222,6 +295,7 @@ public class ReportController {
         }
 
         return performAction(() -> adminReportClient.deleteCollectionByReport(reportId, trimmedReason),
+                ReportType.COLLECTION,
                 reportId,
                 "신고 대상 새록을 삭제했습니다.",
                 "신고 대상 새록 삭제에 실패했습니다.",
@@ -237,6 +311,7 @@ public class ReportController {
                                 @RequestParam(name = "returnType", required = false) List<String> returnTypes,
                                 RedirectAttributes redirectAttributes) {
         return performAction(() -> adminReportClient.ignoreCommentReport(reportId),
+                ReportType.COMMENT,
                 reportId,
                 "신고 #" + reportId + "을(를) 무시 처리했습니다.",
                 "신고 #" + reportId + " 무시 처리에 실패했습니다.",
@@ -260,6 +335,7 @@ public class ReportController {
         }
 
         return performAction(() -> adminReportClient.deleteCommentByReport(reportId, trimmedReason),
+                ReportType.COMMENT,
                 reportId,
                 "신고 대상 댓글을 삭제했습니다.",
                 "신고 대상 댓글 삭제에 실패했습니다.",
@@ -269,7 +345,399 @@ public class ReportController {
                 redirectAttributes);
     }
 
+    @PostMapping("/targets/collections/{collectionId}/ignore")
+    public String ignoreCollectionTarget(@PathVariable long collectionId,
+                                         @RequestParam(name = "reportId", required = false) List<Long> reportIds,
+                                         @RequestParam(name = "returnType", required = false) List<String> returnTypes,
+                                         RedirectAttributes redirectAttributes) {
+        return ignoreTarget(ReportType.COLLECTION, collectionId, reportIds, adminReportClient::ignoreCollectionReport,
+                "새록 #" + collectionId, returnTypes, redirectAttributes);
+    }
+
+    @PostMapping("/targets/collections/{collectionId}/delete")
+    public String deleteCollectionTarget(@PathVariable long collectionId,
+                                         @RequestParam(name = "reportId", required = false) List<Long> reportIds,
+                                         @RequestParam(name = "returnType", required = false) List<String> returnTypes,
+                                         @RequestParam(name = "reason", required = false) String reason,
+                                         RedirectAttributes redirectAttributes) {
+        return deleteTarget(ReportType.COLLECTION, collectionId, reportIds, reason,
+                adminReportClient::deleteCollectionByReport, returnTypes, redirectAttributes);
+    }
+
+    @PostMapping("/targets/comments/{commentId}/ignore")
+    public String ignoreCommentTarget(@PathVariable long commentId,
+                                      @RequestParam(name = "reportId", required = false) List<Long> reportIds,
+                                      @RequestParam(name = "returnType", required = false) List<String> returnTypes,
+                                      RedirectAttributes redirectAttributes) {
+        return ignoreTarget(ReportType.COMMENT, commentId, reportIds, adminReportClient::ignoreCommentReport,
+                "댓글 #" + commentId, returnTypes, redirectAttributes);
+    }
+
+    @PostMapping("/targets/comments/{commentId}/delete")
+    public String deleteCommentTarget(@PathVariable long commentId,
+                                      @RequestParam(name = "reportId", required = false) List<Long> reportIds,
+                                      @RequestParam(name = "returnType", required = false) List<String> returnTypes,
+                                      @RequestParam(name = "reason", required = false) String reason,
+                                      RedirectAttributes redirectAttributes) {
+        return deleteTarget(ReportType.COMMENT, commentId, reportIds, reason,
+                adminReportClient::deleteCommentByReport, returnTypes, redirectAttributes);
+    }
+
+    @PostMapping("/bulk/ignore")
+    public String ignoreSelected(@RequestParam(name = "report", required = false) List<String> reports,
+                                 @RequestParam(name = "returnType", required = false) List<String> returnTypes,
+                                 RedirectAttributes redirectAttributes) {
+        List<BulkItem> items = parseBulkItems(reports);
+        if (!validateBulkItems(items, redirectAttributes)) {
+            return determineRedirectUrl("list", returnTypes, null);
+        }
+
+        Map<BulkItem, List<BulkItem>> batches = new LinkedHashMap<>();
+        items.forEach(item -> batches.put(item, List.of(item)));
+        runBulk(batches, "무시", "무시 처리에 실패했습니다.", item -> {
+            if (item.type().isCollection()) {
+                adminReportClient.ignoreCollectionReport(item.reportId());
+            } else {
+                adminReportClient.ignoreCommentReport(item.reportId());
+            }
+        }, redirectAttributes);
+        return determineRedirectUrl("list", returnTypes, null);
+    }
+
+    @PostMapping("/bulk/delete")
+    public String deleteSelected(@RequestParam(name = "report", required = false) List<String> reports,
+                                 @RequestParam(name = "returnType", required = false) List<String> returnTypes,
+                                 @RequestParam(name = "reason", required = false) String reason,
+                                 RedirectAttributes redirectAttributes) {
+        List<BulkItem> items = parseBulkItems(reports);
+        String trimmedReason = reason != null ? reason.trim() : "";
+        if (!validateBulkItems(items, redirectAttributes)) {
+            return determineRedirectUrl("list", returnTypes, null);
+        }
+        if (!StringUtils.hasText(trimmedReason)) {
+            redirectAttributes.addFlashAttribute("flashStatus", "error");
+            redirectAttributes.addFlashAttribute("flashMessage", "삭제 사유를 입력해주세요.");
+            return determineRedirectUrl("list", returnTypes, null);
+        }
+
+        runBulk(groupByTarget(items), "삭제", "콘텐츠 삭제에 실패했습니다.", item -> {
+            if (item.type().isCollection()) {
+                adminReportClient.deleteCollectionByReport(item.reportId(), trimmedReason);
+            } else {
+                adminReportClient.deleteCommentByReport(item.reportId(), trimmedReason);
+            }
+        }, redirectAttributes);
+        return determineRedirectUrl("list", returnTypes, null);
+    }
+
+    // 선택한 신고를 동시 호출 수를 제한해 한꺼번에 처리하고, 항목별 결과를 목록 화면에 한 번에 넘긴다.
+    // batches 의 키마다 한 번씩 요청하고, 같은 묶음의 나머지 신고는 키의 결과를 그대로 따른다.
+    private void runBulk(Map<BulkItem, List<BulkItem>> batches,
+                         String actionLabel,
+                         String failureMessage,
+                         Consumer<BulkItem> action,
+                         RedirectAttributes redirectAttributes) {
+        Map<BulkItem, BulkOutcome> outcomes;
+        try {
+            outcomes = backendFanOutExecutor.fetchAll(batches.keySet(),
+                    item -> runBulkItem(item, action, failureMessage),
+                    reportBulkProps.parallelism(),
+                    reportBulkProps.deadline(),
+                    reportBulkProps.writeTimeout());
+        } finally {
+            reportSnapshotCache.markDirty();
+            batches.values().forEach(members -> members.forEach(item -> forgetPrefetched(item.type(), item.reportId())));
+        }
+
+        List<BulkModerationResult.Item> results = new ArrayList<>();
+        batches.forEach((representative, members) -> {
+            BulkOutcome outcome = outcomes.getOrDefault(representative, new BulkOutcome(false, UNKNOWN_OUTCOME_MESSAGE));
+            for (BulkItem member : members) {
+                String message = outcome.succeeded() && !member.equals(representative)
+                        ? "같은 대상의 신고 #" + representative.reportId() + "와(과) 함께 처리했습니다."
+                        : outcome.message();
+                results.add(new BulkModerationResult.Item(
+                        member.type(),
+                        member.reportId(),
+                        outcome.succeeded(),
+                        message,
+                        ReportRow.position(member.type(), member.reportId(), null).detailPath()
+                ));
+            }
+        });
+
+        BulkModerationResult result = new BulkModerationResult(actionLabel, results);
+        redirectAttributes.addFlashAttribute("bulkResult", result);
+        redirectAttributes.addFlashAttribute("flashStatus", result.hasFailures() ? "error" : "success");
+        redirectAttributes.addFlashAttribute("flashMessage", result.hasFailures()
+                ? "신고 " + result.requestedCount() + "건 중 " + result.succeededCount() + "건만 " + actionLabel + " 처리했습니다."
+                : "신고 " + result.requestedCount() + "건을 " + actionLabel + " 처리했습니다.");
+    }
+
+    private BulkOutcome runBulkItem(BulkItem item, Consumer<BulkItem> action, String failureMessage) {
+        try {
+            action.accept(item);
+            return new BulkOutcome(true, null);
+        } catch (RestClientResponseException exception) {
+            log.warn("Failed to process bulk report action for {} report {}. status={}, body={}",
+                    item.type(), item.reportId(), exception.getStatusCode(), exception.getResponseBodyAsString(), exception);
+            return new BulkOutcome(false, resolveFailureMessage(exception, failureMessage));
+        } catch (RestClientException | IllegalStateException exception) {
+            if (wasInterrupted(exception)) {
+                // 제한 시간에 걸려 끊긴 요청은 백엔드가 이미 처리했을 수 있다.
+                log.warn("Bulk report action for {} report {} was interrupted; outcome unknown.",
+                        item.type(), item.reportId(), exception);
+                return new BulkOutcome(false, UNKNOWN_OUTCOME_MESSAGE);
+            }
+            log.warn("Failed to process bulk report action for {} report {}.", item.type(), item.reportId(), exception);
+            return new BulkOutcome(false, failureMessage);
+        }
+    }
+
+    private boolean wasInterrupted(Throwable exception) {
+        if (Thread.currentThread().isInterrupted()) {
+            return true;
+        }
+        for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+            if (cause instanceof InterruptedException || cause instanceof InterruptedIOException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 콘텐츠 삭제는 대상 단위라 같은 새록(댓글)에 걸린 신고는 한 번만 요청한다. 어느 신고를 대표로 보낼지가
+    // 쓰기를 정하므로 대상은 현재 관리자의 토큰으로 새로 받은 목록에서 찾는다. 대상을 모르면 신고마다 따로 보낸다.
+    private Map<BulkItem, List<BulkItem>> groupByTarget(List<BulkItem> items) {
+        Map<Long, Long> collectionTargets = new HashMap<>();
+        Map<Long, Long> commentTargets = new HashMap<>();
+        List<Long> collectionIds = reportIdsOf(items, ReportType.COLLECTION);
+        List<Long> commentIds = reportIdsOf(items, ReportType.COMMENT);
+        try {
+            if (!collectionIds.isEmpty()) {
+                reportSnapshotCache.reloadCollectionReports(collectionIds).values().stream()
+                        .filter(item -> item.collectionId() != null)
+                        .forEach(item -> collectionTargets.put(item.reportId(), item.collectionId()));
+            }
+            if (!commentIds.isEmpty()) {
+                reportSnapshotCache.reloadCommentReports(commentIds).values().stream()
+                        .filter(item -> item.commentId() != null)
+                        .forEach(item -> commentTargets.put(item.reportId(), item.commentId()));
+            }
+        } catch (RestClientResponseException exception) {
+            log.warn("Failed to load reports to group bulk deletes by target. status={}, body={}",
+                    exception.getStatusCode(), exception.getResponseBodyAsString(), exception);
+        } catch (RestClientException | IllegalStateException exception) {
+            log.warn("Failed to load reports to group bulk deletes by target.", exception);
+        }
+
+        Map<String, List<BulkItem>> byTarget = new LinkedHashMap<>();
+        for (BulkItem item : items) {
+            Long targetId = item.type().isCollection()
+                    ? collectionTargets.get(item.reportId())
+                    : commentTargets.get(item.reportId());
+            String key = targetId != null
+                    ? item.type() + ":target:" + targetId
+                    : item.type() + ":report:" + item.reportId();
+            byTarget.computeIfAbsent(key, ignored -> new ArrayList<>()).add(item);
+        }
+        Map<BulkItem, List<BulkItem>> batches = new LinkedHashMap<>();
+        byTarget.values().forEach(members -> batches.put(members.get(0), List.copyOf(members)));
+        return batches;
+    }
+
+    private List<Long> reportIdsOf(List<BulkItem> items, ReportType type) {
+        return items.stream()
+                .filter(item -> item.type() == type)
+                .map(BulkItem::reportId)
+                .toList();
+    }
+
+    private List<BulkItem> parseBulkItems(List<String> values) {
+        if (values == null || values.isEmpty()) {
+            return List.of();
+        }
+        Set<BulkItem> items = new LinkedHashSet<>();
+        for (String value : values) {
+            if (!StringUtils.hasText(value)) {
+                continue;
+            }
+            int separator = value.indexOf(':');
+            ReportType type = separator > 0
+                    ? TYPE_PARAM_MAP.get(value.substring(0, separator).trim().toLowerCase(Locale.ROOT))
+                    : null;
+            if (type == null) {
+                continue;
+            }
+            try {
+                items.add(new BulkItem(type, Long.parseLong(value.substring(separator + 1).trim())));
+            } catch (NumberFormatException ignored) {
+                // 잘못된 값은 건너뛴다.
+            }
+        }
+        return List.copyOf(items);
+    }
+
+    private boolean validateBulkItems(List<BulkItem> items, RedirectAttributes redirectAttributes) {
+        if (items.isEmpty()) {
+            redirectAttributes.addFlashAttribute("flashStatus", "error");
+            redirectAttributes.addFlashAttribute("flashMessage", "처리할 신고를 선택해주세요.");
+            return false;
+        }
+        if (items.size() > reportBulkProps.maxItems()) {
+            redirectAttributes.addFlashAttribute("flashStatus", "error");
+            redirectAttributes.addFlashAttribute("flashMessage",
+                    "한 번에 최대 " + reportBulkProps.maxItems() + "건까지 처리할 수 있습니다.");
+            return false;
+        }
+        return true;
+    }
+
+    // 한 대상에 걸린 신고를 모두 무시한다. 일부가 실패해도 나머지는 처리하고 결과 건수를 알려준다.
+    private String ignoreTarget(ReportType type,
+                                long targetId,
+                                List<Long> reportIds,
+                                Consumer<Long> ignore,
+                                String targetLabel,
+                                List<String> returnTypes,
+                                RedirectAttributes redirectAttributes) {
+        List<TargetReport> reports = resolveTargetReports(type, targetId, reportIds, redirectAttributes);
+        if (reports == null) {
+            return determineRedirectUrl(GROUPED_VIEW, returnTypes, null);
+        }
+        List<BulkItem> items = reports.stream().map(report -> new BulkItem(type, report.reportId())).toList();
+
+        // 쓰기 요청이므로 일괄 처리와 같은 호출 제한 시간을 쓴다. 조회용 제한 시간에 끊기면 처리 여부를 알 수 없다.
+        Map<BulkItem, BulkOutcome> outcomes;
+        try {
+            outcomes = backendFanOutExecutor.fetchAll(items,
+                    item -> runBulkItem(item, target -> ignore.accept(target.reportId()), "무시 처리에 실패했습니다."),
+                    reportBulkProps.parallelism(),
+                    reportBulkProps.deadline(),
+                    reportBulkProps.writeTimeout());
+        } finally {
+            reportSnapshotCache.markDirty();
+            items.forEach(item -> forgetPrefetched(item.type(), item.reportId()));
+        }
+
+        long succeeded = outcomes.values().stream().filter(BulkOutcome::succeeded).count();
+        long unknown = items.stream()
+                .map(outcomes::get)
+                .filter(outcome -> outcome == null || UNKNOWN_OUTCOME_MESSAGE.equals(outcome.message()))
+                .count();
+        if (succeeded == items.size()) {
+            redirectAttributes.addFlashAttribute("flashStatus", "success");
+            redirectAttributes.addFlashAttribute("flashMessage",
+                    targetLabel + "에 대한 신고 " + items.size() + "건을 무시 처리했습니다.");
+        } else {
+            redirectAttributes.addFlashAttribute("flashStatus", "error");
+            redirectAttributes.addFlashAttribute("flashMessage",
+                    targetLabel + "에 대한 신고 " + items.size() + "건 중 " + succeeded + "건만 무시 처리했습니다."
+                            + (unknown > 0 ? " " + unknown + "건은 처리 여부를 확인하지 못했습니다." : ""));
+        }
+        return determineRedirectUrl(GROUPED_VIEW, returnTypes, null);
+    }
+
+    // 콘텐츠 삭제는 대상 하나에 대한 작업이므로 묶음의 가장 최근 신고로 한 번만 요청한다.
+    private String deleteTarget(ReportType type,
+                                long targetId,
+                                List<Long> reportIds,
+                                String reason,
+                                BiConsumer<Long, String> delete,
+                                List<String> returnTypes,
+                                RedirectAttributes redirectAttributes) {
+        String trimmedReason = reason != null ? reason.trim() : "";
+        if (!StringUtils.hasText(trimmedReason)) {
+            redirectAttributes.addFlashAttribute("flashStatus", "error");
+            redirectAttributes.addFlashAttribute("flashMessage", "삭제 사유를 입력해주세요.");
+            return determineRedirectUrl(GROUPED_VIEW, returnTypes, null);
+        }
+        List<TargetReport> reports = resolveTargetReports(type, targetId, reportIds, redirectAttributes);
+        if (reports == null) {
+            return determineRedirectUrl(GROUPED_VIEW, returnTypes, null);
+        }
+
+        long reportId = reports.get(0).reportId();
+        return performAction(() -> delete.accept(reportId, trimmedReason),
+                type,
+                reportId,
+                "신고 대상 " + type.targetNoun() + "을(를) 삭제했습니다.",
+                "신고 대상 " + type.targetNoun() + " 삭제에 실패했습니다.",
+                GROUPED_VIEW,
+                returnTypes,
+                null,
+                redirectAttributes);
+    }
+
+    // 폼으로 받은 신고 ID 가 경로의 대상에 걸린 신고인지 확인하고 최근 신고가 먼저 오게 돌려준다.
+    // 무엇을 처리할지 정하는 일이므로 공유 스냅샷 대신 현재 관리자의 토큰으로 목록을 새로 받아 확인한다.
+    // 하나라도 목록에 없거나 다른 대상의 신고이면 오래되었거나 조작된 폼으로 보고, 안내를 남긴 뒤 null 을 돌려준다.
+    private List<TargetReport> resolveTargetReports(ReportType type,
+                                                    long targetId,
+                                                    List<Long> reportIds,
+                                                    RedirectAttributes redirectAttributes) {
+        List<Long> ids = distinctIds(reportIds);
+        if (ids.isEmpty()) {
+            rejectTargetReports("처리할 신고가 없습니다.", redirectAttributes);
+            return null;
+        }
+
+        Map<Long, TargetReport> onTarget = new HashMap<>();
+        try {
+            if (type.isCollection()) {
+                reportSnapshotCache.reloadCollectionReports(ids).values().stream()
+                        .filter(item -> Objects.equals(item.collectionId(), targetId))
+                        .forEach(item -> onTarget.put(item.reportId(), TargetReport.of(item)));
+            } else {
+                reportSnapshotCache.reloadCommentReports(ids).values().stream()
+                        .filter(item -> Objects.equals(item.commentId(), targetId))
+                        .forEach(item -> onTarget.put(item.reportId(), TargetReport.of(item)));
+            }
+        } catch (RestClientResponseException exception) {
+            log.warn("Failed to load reports to check {} target {}. status={}, body={}",
+                    type, targetId, exception.getStatusCode(), exception.getResponseBodyAsString(), exception);
+            rejectTargetReports(resolveFailureMessage(exception, TARGET_CHECK_FAILURE_MESSAGE), redirectAttributes);
+            return null;
+        } catch (RestClientException | IllegalStateException exception) {
+            log.warn("Failed to load reports to check {} target {}.", type, targetId, exception);
+            rejectTargetReports(TARGET_CHECK_FAILURE_MESSAGE, redirectAttributes);
+            return null;
+        }
+
+        List<TargetReport> reports = new ArrayList<>();
+        for (Long reportId : ids) {
+            TargetReport report = onTarget.get(reportId);
+            if (report == null) {
+                log.warn("Rejected report {} for {} target {}: not a pending report on that target.",
+                        reportId, type, targetId);
+                rejectTargetReports(
+                        "이미 처리되었거나 이 대상에 대한 신고가 아닌 항목이 있습니다. 목록을 새로 고친 뒤 다시 시도해주세요.",
+                        redirectAttributes);
+                return null;
+            }
+            reports.add(report);
+        }
+        reports.sort(TARGET_REPORT_ORDER);
+        return reports;
+    }
+
+    private void rejectTargetReports(String message, RedirectAttributes redirectAttributes) {
+        redirectAttributes.addFlashAttribute("flashStatus", "error");
+        redirectAttributes.addFlashAttribute("flashMessage", message);
+    }
+
+    private List<Long> distinctIds(List<Long> reportIds) {
+        if (reportIds == null || reportIds.isEmpty()) {
+            return List.of();
+        }
+        return reportIds.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+    }
+
     private String performAction(Runnable action,
+                                 ReportType type,
                                  long reportId,
                                  String successMessage,
                                  String failureMessage,
@@ -277,8 +745,12 @@ public class ReportController {
                                  List<String> returnTypes,
                                  String detailPath,
                                  RedirectAttributes redirectAttributes) {
+        // 처리되면 목록에서 빠지므로 순서 안의 자리는 처리 전에 잡아 둔다.
+        ReportRow position = NEXT_FLOW.equalsIgnoreCase(redirect) ? flowPosition(type, reportId) : null;
+        boolean succeeded = false;
         try {
             action.run();
+            succeeded = true;
             redirectAttributes.addFlashAttribute("flashStatus", "success");
             redirectAttributes.addFlashAttribute("flashMessage", successMessage);
         } catch (RestClientResponseException exception) {
@@ -291,22 +763,111 @@ public class ReportController {
             log.warn("Failed to process report action.", exception);
             redirectAttributes.addFlashAttribute("flashStatus", "error");
             redirectAttributes.addFlashAttribute("flashMessage", failureMessage);
+        } finally {
+            // 실패한 요청도 백엔드에서는 처리됐을 수 있으므로 어느 쪽이든 스냅샷을 다시 받게 한다.
+            reportSnapshotCache.markDirty();
+            forgetPrefetched(type, reportId);
         }
 
+        if (position != null && succeeded) {
+            return nextInFlow(position, returnTypes);
+        }
         return determineRedirectUrl(redirect, returnTypes, detailPath);
     }
 
+    private ReportRow flowPosition(ReportType type, long reportId) {
+        LocalDateTime reportedAt = type.isCollection()
+                ? reportSnapshotCache.findCollectionReport(reportId).map(ReportedCollectionListResponse.Item::reportedAt).orElse(null)
+                : reportSnapshotCache.findCommentReport(reportId).map(ReportedCommentListResponse.Item::reportedAt).orElse(null);
+        return ReportRow.position(type, reportId, reportedAt);
+    }
+
+    private String nextInFlow(ReportRow position, List<String> returnTypes) {
+        try {
+            List<ReportRow> upcoming = upcomingReports(position, 1);
+            if (!upcoming.isEmpty()) {
+                return "redirect:" + upcoming.get(0).detailPath() + "?flow=" + NEXT_FLOW;
+            }
+        } catch (RestClientException | IllegalStateException exception) {
+            log.warn("Failed to resolve the next report to moderate.", exception);
+        }
+        return determineRedirectUrl("list", returnTypes, null);
+    }
+
+    // 순서대로 처리하는 중이면 다음 신고 경로를 내려주고, 그 다음 몇 건의 상세를 미리 받아 둔다.
+    private void attachFlow(Model model, boolean enabled, ReportRow current) {
+        model.addAttribute("flowMode", enabled);
+        model.addAttribute("nextReportPath", null);
+        if (!enabled) {
+            return;
+        }
+        try {
+            List<ReportRow> upcoming = upcomingReports(current, Math.max(reportPrefetchCache.depth(), 1));
+            if (!upcoming.isEmpty()) {
+                model.addAttribute("nextReportPath", upcoming.get(0).detailPath() + "?flow=" + NEXT_FLOW);
+            }
+            for (ReportRow row : upcoming.subList(0, Math.min(reportPrefetchCache.depth(), upcoming.size()))) {
+                if (row.type().isCollection()) {
+                    reportPrefetchCache.prefetchCollectionDetail(row.reportId());
+                } else {
+                    reportPrefetchCache.prefetchCommentDetail(row.reportId());
+                }
+            }
+        } catch (RestClientException | IllegalStateException exception) {
+            log.warn("Failed to resolve the next report to moderate.", exception);
+        }
+    }
+
+    // 두 신고 목록을 최신순으로 합쳐 current 뒤에 오는 신고를 count 건까지 고른다.
+    // current 의 신고 시각을 모르면 맨 앞부터 current 만 빼고 고른다. 스냅샷의 순서가 FLOW_ORDER 와 같으므로
+    // 필요한 만큼만 꺼내 읽는다.
+    private List<ReportRow> upcomingReports(ReportRow current, int count) {
+        Iterator<ReportRow> merged = SortedMerge.iterator(
+                List.of(
+                        reportSnapshotCache.collectionReports().items().stream().map(ReportRow::of).iterator(),
+                        reportSnapshotCache.commentReports().items().stream().map(ReportRow::of).iterator()
+                ),
+                FLOW_ORDER
+        );
+        List<ReportRow> upcoming = new ArrayList<>(count);
+        while (merged.hasNext() && upcoming.size() < count) {
+            ReportRow row = merged.next();
+            if (row.reportId() == null || row.isSameReport(current)) {
+                continue;
+            }
+            if (current.reportedAt() == null || FLOW_ORDER.compare(row, current) > 0) {
+                upcoming.add(row);
+            }
+        }
+        return upcoming;
+    }
+
+    private void forgetPrefetched(ReportType type, long reportId) {
+        if (type.isCollection()) {
+            reportPrefetchCache.forgetCollectionDetail(reportId);
+        } else {
+            reportPrefetchCache.forgetCommentDetail(reportId);
+        }
+    }
+
     private String determineRedirectUrl(String redirect,
                                         List<String> returnTypes,
                                         String detailPath) {
         if ("detail".equalsIgnoreCase(redirect)) {
             return "redirect:" + detailPath;
         }
+        if (NEXT_FLOW.equalsIgnoreCase(redirect) && detailPath != null) {
+            return "redirect:" + detailPath + "?flow=" + NEXT_FLOW;
+        }
 
         StringBuilder url = new StringBuilder("redirect:/reports");
+        String separator = "?";
+        if (GROUPED_VIEW.equalsIgnoreCase(redirect)) {
+            url.append(separator).append("view=").append(GROUPED_VIEW);
+            separator = "&";
+        }
         List<String> normalized = normalizeTypeParams(returnTypes);
         if (!normalized.isEmpty() && normalized.size() < ReportType.values().length) {
-            String separator = "?";
             for (String value : normalized) {
                 url.append(separator).append("type=").append(value);
                 separator = "&";
@@ -404,28 +965,195 @@ public class ReportController {
         );
     }
 
+    // 두 목록은 각각 최신순이므로 한 페이지를 채울 만큼만 병합하고, 보충 정보도 그 페이지의 새록만 받는다.
+    private List<ReportListItem> loadReportPage(List<ReportedCollectionListResponse.Item> collectionReports,
+                                                List<ReportedCommentListResponse.Item> commentReports,
+                                                int offset,
+                                                int size) {
+        List<ReportRow> rows = SortedMerge.slice(
+                List.of(
+                        collectionReports.stream().map(ReportRow::of).iterator(),
+                        commentReports.stream().map(ReportRow::of).iterator()
+                ),
+                Comparator.comparing(ReportRow::reportedAt, LATEST_FIRST),
+                offset,
+                size
+        );
+
+        List<ReportedCollectionListResponse.Item> pageCollections = rows.stream()
+                .map(ReportRow::collection)
+                .filter(Objects::nonNull)
+                .toList();
+        Map<Long, CollectionListSupplement> supplements = loadCollectionSupplements(pageCollections);
+
+        return rows.stream()
+                .map(row -> row.collection() != null
+                        ? toCollectionListItem(row.collection(),
+                        row.collection().collectionId() != null ? supplements.get(row.collection().collectionId()) : null)
+                        : toCommentListItem(row.comment()))
+                .toList();
+    }
+
+    private List<ReportTargetGroup> attachGroupSupplements(List<ReportTargetGroup> groups) {
+        Map<Long, Long> representativeReportIds = new LinkedHashMap<>();
+        for (ReportTargetGroup group : groups) {
+            if (group.type().isCollection() && !group.reportIds().isEmpty()) {
+                representativeReportIds.putIfAbsent(group.targetId(), group.reportIds().get(0));
+            }
+        }
+        if (representativeReportIds.isEmpty()) {
+            return groups;
+        }
+        Map<Long, CollectionListSupplement> supplements = backendFanOutExecutor.fetchAll(representativeReportIds.keySet(),
+                collectionId -> fetchCollectionSupplement(representativeReportIds.get(collectionId)));
+        return groups.stream()
+                .map(group -> {
+                    CollectionListSupplement supplement = group.type().isCollection()
+                            ? supplements.get(group.targetId())
+                            : null;
+                    return supplement != null
+                            ? group.withPreview(abbreviate(supplement.note(), 80), supplement.imageUrl())
+                            : group;
+                })
+                .toList();
+    }
+
+    private void attachPagination(Model model,
+                                  ReportListQuery query,
+                                  int page,
+                                  int offset,
+                                  int shownCount,
+                                  int filteredCount) {
+        boolean hasNext = offset + shownCount < filteredCount;
+        model.addAttribute("page", page);
+        model.addAttribute("size", query.size());
+        model.addAttribute("pageSizeOptions", PAGE_SIZE_OPTIONS);
+        model.addAttribute("totalPages", Math.max((filteredCount + query.size() - 1) / query.size(), 1));
+        model.addAttribute("hasPrevious", page > 1);
+        model.addAttribute("hasNext", hasNext);
+        model.addAttribute("rangeStart", shownCount == 0 ? 0 : offset + 1);
+        model.addAttribute("rangeEnd", offset + shownCount);
+        model.addAttribute("infiniteScroll", query.infiniteScroll());
+        model.addAttribute("previousPageUrl", page > 1 ? query.url(page - 1, false) : null);
+        model.addAttribute("nextPageUrl", hasNext ? query.url(page + 1, false) : null);
+        model.addAttribute("nextRowsUrl", hasNext && query.infiniteScroll() ? query.url(page + 1, true) : null);
+        model.addAttribute("infiniteScrollUrl", query.withInfiniteScroll(true).url(1, false));
+        model.addAttribute("pagedListUrl", query.withInfiniteScroll(false).url(1, false));
+    }
+
+    private void attachEmptyList(Model model, ReportListQuery query, int page) {
+        model.addAttribute("reports", List.of());
+        model.addAttribute("reportGroups", List.of());
+        model.addAttribute("loadErrorMessage", "신고 목록을 불러오지 못했습니다. 잠시 후 다시 시도해주세요.");
+        attachPagination(model, query, page, 0, 0, 0);
+    }
+
+    // 같은 새록에 신고가 여러 건이어도 상세는 새록마다 한 번만 받는다. 결과는 collectionId 로 찾는다.
     private Map<Long, CollectionListSupplement> loadCollectionSupplements(List<ReportedCollectionListResponse.Item> reports) {
-        Map<Long, CollectionListSupplement> details = new HashMap<>();
+        Map<Long, Long> representativeReportIds = new LinkedHashMap<>();
         for (ReportedCollectionListResponse.Item item : reports) {
-            if (item == null || item.reportId() == null) {
+            if (item != null && item.collectionId() != null && item.reportId() != null) {
+                representativeReportIds.putIfAbsent(item.collectionId(), item.reportId());
+            }
+        }
+        return backendFanOutExecutor.fetchAll(representativeReportIds.keySet(),
+                collectionId -> fetchCollectionSupplement(representativeReportIds.get(collectionId)));
+    }
+
+    // 한 줄 평과 사진은 페이지에 들어간 묶음만 attachGroupSupplements 에서 채운다.
+    private List<ReportTargetGroup> buildTargetGroups(List<ReportedCollectionListResponse.Item> collectionReports,
+                                                      List<ReportedCommentListResponse.Item> commentReports) {
+        List<ReportTargetGroup> groups = new ArrayList<>();
+
+        Map<Long, List<TargetReport>> collectionTargets = new LinkedHashMap<>();
+        for (ReportedCollectionListResponse.Item item : collectionReports) {
+            if (item == null || item.collectionId() == null || item.reportId() == null) {
                 continue;
             }
-            try {
-                ReportedCollectionDetailResponse detail = adminReportClient.getCollectionReportDetail(item.reportId());
-                if (detail != null && detail.collection() != null) {
-                    details.put(item.reportId(), new CollectionListSupplement(
-                            detail.collection().note(),
-                            detail.collection().imageUrl()
-                    ));
-                }
-            } catch (RestClientResponseException ex) {
-                log.warn("Failed to fetch collection note for report {}. status={}, body={}",
-                        item.reportId(), ex.getStatusCode(), ex.getResponseBodyAsString(), ex);
-            } catch (RestClientException | IllegalStateException ex) {
-                log.warn("Failed to fetch collection note for report {}.", item.reportId(), ex);
+            collectionTargets.computeIfAbsent(item.collectionId(), key -> new ArrayList<>()).add(TargetReport.of(item));
+        }
+        collectionTargets.forEach((collectionId, reports) -> groups.add(
+                toTargetGroup(ReportType.COLLECTION, collectionId, "새록 #" + collectionId, null, null, reports)));
+
+        Map<Long, List<TargetReport>> commentTargets = new LinkedHashMap<>();
+        Map<Long, ReportedCommentListResponse.Item> commentSamples = new LinkedHashMap<>();
+        for (ReportedCommentListResponse.Item item : commentReports) {
+            if (item == null || item.commentId() == null || item.reportId() == null) {
+                continue;
             }
+            commentSamples.putIfAbsent(item.commentId(), item);
+            commentTargets.computeIfAbsent(item.commentId(), key -> new ArrayList<>()).add(TargetReport.of(item));
         }
-        return details;
+        commentTargets.forEach((commentId, reports) -> {
+            ReportedCommentListResponse.Item sample = commentSamples.get(commentId);
+            groups.add(toTargetGroup(ReportType.COMMENT, commentId,
+                    "댓글 #" + commentId + " (새록 #" + sample.collectionId() + ")",
+                    abbreviate(sample.contentPreview(), 80),
+                    null,
+                    reports));
+        });
+
+        groups.sort(Comparator.comparing(ReportTargetGroup::lastReportedAt, Comparator.nullsLast(Comparator.reverseOrder()))
+                .thenComparing(ReportTargetGroup::reportCount, Comparator.reverseOrder()));
+        return groups;
+    }
+
+    private ReportTargetGroup toTargetGroup(ReportType type,
+                                            long targetId,
+                                            String targetSummary,
+                                            String contentPreview,
+                                            String imageUrl,
+                                            List<TargetReport> reports) {
+        List<TargetReport> sorted = reports.stream()
+                .sorted(TARGET_REPORT_ORDER)
+                .toList();
+        TargetReport latest = sorted.get(0);
+        LocalDateTime first = sorted.stream()
+                .map(TargetReport::reportedAt)
+                .filter(Objects::nonNull)
+                .min(Comparator.naturalOrder())
+                .orElse(null);
+        int distinctReporters = (int) sorted.stream()
+                .map(TargetReport::reporterId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .count();
+        String segment = type.isCollection() ? "collections" : "comments";
+        String targetPath = "/reports/targets/" + segment + "/" + targetId;
+        return new ReportTargetGroup(
+                type,
+                targetId,
+                targetSummary,
+                contentPreview,
+                imageUrl,
+                latest.reportedUserNickname() != null ? latest.reportedUserNickname() : "-",
+                sorted.size(),
+                distinctReporters,
+                first,
+                latest.reportedAt(),
+                sorted.stream().map(TargetReport::reportId).toList(),
+                "/reports/" + segment + "/" + latest.reportId(),
+                targetPath + "/ignore",
+                targetPath + "/delete"
+        );
+    }
+
+    private CollectionListSupplement fetchCollectionSupplement(Long reportId) {
+        try {
+            ReportedCollectionDetailResponse detail = adminReportClient.getCollectionReportDetail(reportId);
+            if (detail != null && detail.collection() != null) {
+                return new CollectionListSupplement(
+                        detail.collection().note(),
+                        detail.collection().imageUrl()
+                );
+            }
+        } catch (RestClientResponseException ex) {
+            log.warn("Failed to fetch collection note for report {}. status={}, body={}",
+                    reportId, ex.getStatusCode(), ex.getResponseBodyAsString(), ex);
+        } catch (RestClientException | IllegalStateException ex) {
+            log.warn("Failed to fetch collection note for report {}.", reportId, ex);
+        }
+        return null;
     }
 
     private ReportDetail buildCollectionDetail(ReportedCollectionDetailResponse detailResponse,
@@ -537,26 +1265,6 @@ public class ReportController {
                 .collect(Collectors.toCollection(ArrayList::new));
     }
 
-    private ReportedCollectionListResponse.Item findCollectionReportMetadata(long reportId) {
-        return Optional.ofNullable(adminReportClient.listCollectionReports())
-                .map(ReportedCollectionListResponse::items)
-                .orElse(List.of())
-                .stream()
-                .filter(item -> item.reportId() != null && item.reportId() == reportId)
-                .findFirst()
-                .orElse(null);
-    }
-
-    private ReportedCommentListResponse.Item findCommentReportMetadata(long reportId) {
-        return Optional.ofNullable(adminReportClient.listCommentReports())
-                .map(ReportedCommentListResponse::items)
-                .orElse(List.of())
-                .stream()
-                .filter(item -> item.reportId() != null && item.reportId() == reportId)
-                .findFirst()
-                .orElse(null);
-    }
-
     private String abbreviate(String value, int maxLength) {
         if (!StringUtils.hasText(value)) {
             return null;
@@ -595,4 +1303,86 @@ public class ReportController {
 
     private record CollectionListSupplement(String note, String imageUrl) {
     }
+
+    private record ReportRow(
+            LocalDateTime reportedAt,
+            ReportType type,
+            Long reportId,
+            ReportedCollectionListResponse.Item collection,
+            ReportedCommentListResponse.Item comment
+    ) {
+
+        static ReportRow of(ReportedCollectionListResponse.Item item) {
+            return new ReportRow(item.reportedAt(), ReportType.COLLECTION, item.reportId(), item, null);
+        }
+
+        static ReportRow of(ReportedCommentListResponse.Item item) {
+            return new ReportRow(item.reportedAt(), ReportType.COMMENT, item.reportId(), null, item);
+        }
+
+        // 목록 항목 없이 순서 안의 자리만 나타낸다. 처리된 뒤 목록에서 빠진 신고의 다음을 찾을 때 쓴다.
+        static ReportRow position(ReportType type, long reportId, LocalDateTime reportedAt) {
+            return new ReportRow(reportedAt, type, reportId, null, null);
+        }
+
+        boolean isSameReport(ReportRow other) {
+            return type == other.type() && Objects.equals(reportId, other.reportId());
+        }
+
+        String detailPath() {
+            return (type.isCollection() ? "/reports/collections/" : "/reports/comments/") + reportId;
+        }
+    }
+
+    private record ReportListQuery(List<String> types, boolean grouped, int size, boolean infiniteScroll) {
+
+        ReportListQuery withInfiniteScroll(boolean enabled) {
+            return new ReportListQuery(types, grouped, size, enabled);
+        }
+
+        String url(int page, boolean rowsOnly) {
+            UriComponentsBuilder builder = UriComponentsBuilder.fromPath("/reports");
+            if (grouped) {
+                builder.queryParam("view", GROUPED_VIEW);
+            }
+            if (!types.isEmpty() && types.size() < ReportType.values().length) {
+                builder.queryParam("type", types.toArray());
+            }
+            builder.queryParam("page", page).queryParam("size", size);
+            if (infiniteScroll) {
+                builder.queryParam("scroll", INFINITE_SCROLL);
+            }
+            if (rowsOnly) {
+                builder.queryParam("fragment", ROWS_FRAGMENT);
+            }
+            return builder.build().toUriString();
+        }
+    }
+
+    private record BulkItem(ReportType type, long reportId) {
+    }
+
+    private record BulkOutcome(boolean succeeded, String message) {
+    }
+
+    private record TargetReport(long reportId, LocalDateTime reportedAt, Long reporterId, String reportedUserNickname) {
+
+        static TargetReport of(ReportedCollectionListResponse.Item item) {
+            return new TargetReport(
+                    item.reportId(),
+                    item.reportedAt(),
+                    item.reporter() != null ? item.reporter().userId() : null,
+                    item.reportedUser() != null ? item.reportedUser().nickname() : null
+            );
+        }
+
+        static TargetReport of(ReportedCommentListResponse.Item item) {
+            return new TargetReport(
+                    item.reportId(),
+                    item.reportedAt(),
+                    item.reporter() != null ? item.reporter().userId() : null,
+                    item.reportedUser() != null ? item.reportedUser().nickname() : null
+            );
+        }
+    }
 }
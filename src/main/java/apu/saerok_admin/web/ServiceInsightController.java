@@ -3,6 +3,7 @@ package apu.saerok_admin.web;
 import apu.saerok_admin.web.serviceinsight.ServiceInsightAjaxResponse;
 import apu.saerok_admin.web.serviceinsight.ServiceInsightQuery;
 import apu.saerok_admin.web.serviceinsight.ServiceInsightRangePreset;
+import apu.saerok_admin.web.serviceinsight.ServiceInsightSeriesFormat;
 import apu.saerok_admin.web.serviceinsight.ServiceInsightService;
 import apu.saerok_admin.web.view.Breadcrumb;
 import apu.saerok_admin.web.view.ServiceInsightViewModel;
@@ -63,7 +64,7 @@ public class ServiceInsightController {
         ));
         ensureToastMessages(model);
 
-        PageData pageData = loadPageData(rangeParam, startDate, endDate);
+        PageData pageData = loadPageData(rangeParam, startDate, endDate, ServiceInsightSeriesFormat.COLUMNS);
         ServiceInsightViewModel viewModel = pageData.viewModel();
         RangeSelection rangeSelection = pageData.rangeSelection();
         if (pageData.hadError()) {
@@ -90,9 +91,12 @@ public class ServiceInsightController {
             @RequestParam(value = "startDate", required = false)
             @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
             @RequestParam(value = "endDate", required = false)
-            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(value = "format", required = false) String formatParam
     ) {
-        PageData pageData = loadPageData(rangeParam, startDate, endDate);
+        ServiceInsightSeriesFormat format = ServiceInsightSeriesFormat.fromParameter(formatParam)
+                .orElse(ServiceInsightSeriesFormat.COLUMNS);
+        PageData pageData = loadPageData(rangeParam, startDate, endDate, format);
         RangeSelection rangeSelection = pageData.rangeSelection();
 
         ServiceInsightAjaxResponse response = new ServiceInsightAjaxResponse(
@@ -113,11 +117,16 @@ public class ServiceInsightController {
         }
     }
 
-    private PageData loadPageData(String rangeParam, LocalDate startDate, LocalDate endDate) {
+    private PageData loadPageData(
+            String rangeParam,
+            LocalDate startDate,
+            LocalDate endDate,
+            ServiceInsightSeriesFormat format
+    ) {
         RangeSelection rangeSelection = resolveRange(rangeParam, startDate, endDate);
 
         try {
-            ServiceInsightViewModel viewModel = serviceInsightService.loadViewModel(rangeSelection.query());
+            ServiceInsightViewModel viewModel = serviceInsightService.loadViewModel(rangeSelection.query(), format);
             log.info("Successfully loaded service insight view model with {} metrics (range: {} - {}, preset: {})",
                     viewModel.metricOptions().size(),
                     rangeSelection.query().startDate(),
@@ -135,7 +144,7 @@ public class ServiceInsightController {
             log.warn("Failed to load service insight stats.", exception);
         }
 
-        ServiceInsightViewModel fallback = serviceInsightService.defaultViewModel();
+        ServiceInsightViewModel fallback = serviceInsightService.defaultViewModel(format);
         return new PageData(rangeSelection, fallback, true);
     }
 
@@ -0,0 +1,76 @@
+package apu.saerok_admin.web;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+
+/**
+ * 이미 정렬된 여러 목록을 하나의 순서로 합치되, 필요한 구간까지만 꺼낸다.
+ * <p>
+ * 각 목록의 맨 앞 원소만 힙에 올려 두고 하나씩 꺼내므로 {@code offset + limit} 개를 넘겨 읽지 않는다.
+ * 같은 순위의 원소는 앞쪽 목록의 것이 먼저 나온다.
+ */
+final class SortedMerge {
+
+    private SortedMerge() {
+    }
+
+    static <T> List<T> slice(List<? extends Iterator<? extends T>> sources,
+                             Comparator<? super T> order,
+                             int offset,
+                             int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        Iterator<T> merged = iterator(sources, order);
+        for (int skipped = 0; skipped < offset && merged.hasNext(); skipped++) {
+            merged.next();
+        }
+        List<T> page = new ArrayList<>(limit);
+        while (merged.hasNext() && page.size() < limit) {
+            page.add(merged.next());
+        }
+        return page;
+    }
+
+    /**
+     * 합친 순서대로 하나씩 꺼내는 반복자. 꺼낸 만큼만 원래 목록을 읽는다.
+     */
+    static <T> Iterator<T> iterator(List<? extends Iterator<? extends T>> sources, Comparator<? super T> order) {
+        PriorityQueue<Head<T>> heads = new PriorityQueue<>(Math.max(sources.size(), 1), (left, right) -> {
+            int compared = order.compare(left.value(), right.value());
+            return compared != 0 ? compared : Integer.compare(left.sourceIndex(), right.sourceIndex());
+        });
+        for (int i = 0; i < sources.size(); i++) {
+            advance(heads, sources.get(i), i);
+        }
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return !heads.isEmpty();
+            }
+
+            @Override
+            public T next() {
+                Head<T> head = heads.poll();
+                if (head == null) {
+                    throw new NoSuchElementException();
+                }
+                advance(heads, head.source(), head.sourceIndex());
+                return head.value();
+            }
+        };
+    }
+
+    private static <T> void advance(PriorityQueue<Head<T>> heads, Iterator<? extends T> source, int sourceIndex) {
+        if (source.hasNext()) {
+            heads.add(new Head<>(source.next(), source, sourceIndex));
+        }
+    }
+
+    private record Head<T>(T value, Iterator<? extends T> source, int sourceIndex) {
+    }
+}
@@ -0,0 +1,11 @@
+package apu.saerok_admin.web.callbudget;
+
+/**
+ * strict 모드에서 백엔드 호출 예산을 넘었거나 N+1 패턴이 보일 때 던진다.
+ */
+public class BackendCallBudgetExceededException extends IllegalStateException {
+
+    public BackendCallBudgetExceededException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,159 @@
+package apu.saerok_admin.web.callbudget;
+
+import apu.saerok_admin.infra.metrics.BackendCallRecord;
+import apu.saerok_admin.infra.metrics.BackendCallTrace;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.ModelAndView;
+
+/**
+ * 화면 요청마다 백엔드 호출 수를 예산과 비교하고, ID 만 다른 같은 라우트를 반복 호출하는 N+1 패턴을 찾는다.
+ * <p>
+ * 백엔드에 묶음 조회가 없어 항목마다 부를 수밖에 없는 라우트는 경로 예산의 {@code fan-out} 으로 따로 적고,
+ * 그 호출은 라우트별 상한으로만 센다. 적지 않은 라우트의 반복만 N+1 로 본다.
+ * <p>
+ * 보통은 경고 로그(호출 순서 포함)와 지표만 남긴다. strict 모드에서는 뷰 렌더링 전에
+ * {@link BackendCallBudgetExceededException} 을 던져 테스트가 실패하도록 한다.
+ */
+class BackendCallBudgetInterceptor implements HandlerInterceptor {
+
+    private static final Logger log = LoggerFactory.getLogger(BackendCallBudgetInterceptor.class);
+    private static final String EXCEEDED_METRIC = "saerok.backend.budget.exceeded";
+    private static final String N_PLUS_ONE_METRIC = "saerok.backend.budget.nplusone";
+    private static final String CHECKED = BackendCallBudgetInterceptor.class.getName() + ".checked";
+    private static final String ID_PLACEHOLDER = "{id}";
+
+    private final BackendCallBudgetProps props;
+    private final MeterRegistry meterRegistry;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    BackendCallBudgetInterceptor(BackendCallBudgetProps props, MeterRegistry meterRegistry) {
+        this.props = props;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (props.enabled()) {
+            BackendCallTrace.startIfAbsent(RequestContextHolder.currentRequestAttributes());
+        }
+        return true;
+    }
+
+    @Override
+    public void postHandle(HttpServletRequest request, HttpServletResponse response, Object handler,
+                           ModelAndView modelAndView) {
+        if (props.enabled() && props.strict()) {
+            List<String> violations = check(request);
+            if (!violations.isEmpty()) {
+                throw new BackendCallBudgetExceededException(String.join("; ", violations));
+            }
+        }
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception exception) {
+        if (props.enabled()) {
+            check(request);
+        }
+    }
+
+    private List<String> check(HttpServletRequest request) {
+        if (request.getAttribute(CHECKED) != null) {
+            return List.of();
+        }
+        request.setAttribute(CHECKED, Boolean.TRUE);
+        List<BackendCallRecord> calls = BackendCallTrace.current().map(BackendCallTrace::calls).orElse(List.of());
+        String path = lookupPath(request);
+        PathLimit limit = limitFor(path);
+
+        List<BackendCallRecord> counted = new ArrayList<>();
+        Map<String, Long> fanOutCounts = new LinkedHashMap<>();
+        for (BackendCallRecord call : calls) {
+            String route = routeKey(call);
+            if (limit.fanOut().containsKey(route)) {
+                fanOutCounts.merge(route, 1L, Long::sum);
+            } else {
+                counted.add(call);
+            }
+        }
+
+        List<String> violations = new ArrayList<>();
+        if (counted.size() > limit.maxCalls()) {
+            meterRegistry.counter(EXCEEDED_METRIC, "path", limit.pattern()).increment();
+            String violation = "Backend call budget exceeded for " + request.getMethod() + " " + path
+                    + ": " + counted.size() + " calls (budget " + limit.maxCalls() + ")";
+            log.warn("{}. sequence={}", violation, sequence(calls));
+            violations.add(violation);
+        }
+
+        for (Map.Entry<String, Long> fanOut : fanOutCounts.entrySet()) {
+            int maxCalls = limit.fanOut().get(fanOut.getKey());
+            if (fanOut.getValue() > maxCalls) {
+                meterRegistry.counter(EXCEEDED_METRIC, "path", limit.pattern()).increment();
+                String violation = "Backend fan-out budget exceeded for " + request.getMethod() + " " + path
+                        + ": " + fanOut.getKey() + " called " + fanOut.getValue() + " times (budget " + maxCalls + ")";
+                log.warn("{}. sequence={}", violation, sequence(calls));
+                violations.add(violation);
+            }
+        }
+
+        for (Map.Entry<String, Long> repeated : repeatedIdRoutes(counted).entrySet()) {
+            meterRegistry.counter(N_PLUS_ONE_METRIC, "path", limit.pattern(), "route", repeated.getKey()).increment();
+            String violation = "Possible N+1 on " + request.getMethod() + " " + path + ": "
+                    + repeated.getKey() + " called " + repeated.getValue() + " times";
+            log.warn("{}. sequence={}", violation, sequence(calls));
+            violations.add(violation);
+        }
+        return violations;
+    }
+
+    private Map<String, Long> repeatedIdRoutes(List<BackendCallRecord> calls) {
+        Map<String, Long> counts = calls.stream()
+                .filter(call -> call.route().contains(ID_PLACEHOLDER))
+                .collect(Collectors.groupingBy(BackendCallBudgetInterceptor::routeKey, LinkedHashMap::new,
+                        Collectors.counting()));
+        counts.values().removeIf(count -> count < props.nPlusOneThreshold());
+        return counts;
+    }
+
+    private PathLimit limitFor(String path) {
+        for (BackendCallBudgetProps.PathBudget budget : props.paths()) {
+            if (budget.pattern() != null && pathMatcher.match(budget.pattern(), path)) {
+                Map<String, Integer> fanOut = new LinkedHashMap<>();
+                budget.fanOut().forEach(entry -> fanOut.put(entry.route(), entry.maxCalls()));
+                return new PathLimit(budget.pattern(), budget.maxCalls(), fanOut);
+            }
+        }
+        return new PathLimit("default", props.defaultMaxCalls(), Map.of());
+    }
+
+    private static String routeKey(BackendCallRecord call) {
+        return call.method() + " " + call.route();
+    }
+
+    private static String lookupPath(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+
+    private static String sequence(List<BackendCallRecord> calls) {
+        return calls.stream()
+                .map(call -> call.method() + " " + call.route() + " " + call.status())
+                .collect(Collectors.joining(", ", "[", "]"));
+    }
+
+    private record PathLimit(String pattern, int maxCalls, Map<String, Integer> fanOut) {
+    }
+}
@@ -0,0 +1,55 @@
+package apu.saerok_admin.web.callbudget;
+
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 화면 요청 하나가 백엔드를 몇 번까지 호출해도 되는지.
+ *
+ * @param strict             예산을 넘거나 N+1 패턴이 보이면 요청을 실패시킨다. 테스트에서 켠다.
+ * @param defaultMaxCalls    {@code paths} 에 맞는 항목이 없을 때의 예산
+ * @param nPlusOneThreshold  ID 만 다른 같은 라우트 호출이 이 횟수 이상이면 N+1 로 본다
+ * @param paths              경로 패턴(Ant)별 예산. 앞에 있는 항목이 먼저 적용된다.
+ */
+@ConfigurationProperties(prefix = "saerok.call-budget")
+public record BackendCallBudgetProps(
+        Boolean enabled,
+        boolean strict,
+        Integer defaultMaxCalls,
+        Integer nPlusOneThreshold,
+        List<PathBudget> paths
+) {
+
+    public BackendCallBudgetProps {
+        enabled = enabled == null || enabled;
+        if (defaultMaxCalls == null || defaultMaxCalls < 0) {
+            defaultMaxCalls = 20;
+        }
+        if (nPlusOneThreshold == null || nPlusOneThreshold < 2) {
+            nPlusOneThreshold = 3;
+        }
+        paths = paths != null ? List.copyOf(paths) : List.of();
+    }
+
+    /**
+     * @param fanOut 화면이 항목마다 한 번씩 부르도록 정해 둔 라우트({@code "GET admin/reports/collections/{id}"} 꼴).
+     *               이 호출은 {@code maxCalls} 와 N+1 검사에서 빼고 라우트별 상한으로만 센다.
+     */
+    public record PathBudget(String pattern, int maxCalls, List<FanOut> fanOut) {
+
+        public PathBudget {
+            fanOut = fanOut != null ? List.copyOf(fanOut) : List.of();
+        }
+
+        public PathBudget(String pattern, int maxCalls) {
+            this(pattern, maxCalls, List.of());
+        }
+    }
+
+    /**
+     * @param route    메서드와 라우트 템플릿. 예: {@code "GET admin/reports/collections/{id}"}
+     * @param maxCalls 이 라우트를 요청 하나에서 부를 수 있는 최대 횟수. 보통 페이지 크기나 일괄 처리 한도와 같다.
+     */
+    public record FanOut(String route, int maxCalls) {
+    }
+}
@@ -0,0 +1,26 @@
+package apu.saerok_admin.web.callbudget;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@EnableConfigurationProperties(BackendCallBudgetProps.class)
+public class BackendCallBudgetWebConfig implements WebMvcConfigurer {
+
+    private final BackendCallBudgetProps props;
+    private final MeterRegistry meterRegistry;
+
+    public BackendCallBudgetWebConfig(BackendCallBudgetProps props, MeterRegistry meterRegistry) {
+        this.props = props;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new BackendCallBudgetInterceptor(props, meterRegistry))
+                .excludePathPatterns("/css/**", "/js/**", "/images/**", "/error");
+    }
+}
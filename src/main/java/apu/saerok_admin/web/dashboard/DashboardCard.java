@@ -0,0 +1,49 @@
+package apu.saerok_admin.web.dashboard;
+
+import apu.saerok_admin.web.view.DashboardMetric;
+import java.time.Duration;
+
+/**
+ * 대시보드에 올라가는 지표 카드 하나.
+ * <p>
+ * 대시보드 본문은 카드 자리만 뼈대로 그려 바로 내려보내고, 각 카드는 브라우저가
+ * {@code /dashboard/cards/{id}} 로 따로 불러온다. 새 카드는 이 인터페이스를 구현한 빈을 추가하면
+ * {@link #order()} 순서대로 대시보드에 붙는다.
+ */
+public interface DashboardCard {
+
+    Duration DEFAULT_TIMEOUT = Duration.ofSeconds(3);
+
+    /**
+     * URL 경로에 쓰이는 식별자. 영문 소문자와 하이픈만 쓴다.
+     */
+    String id();
+
+    String label();
+
+    String icon();
+
+    /**
+     * 카드를 눌렀을 때 이동할 경로. 없으면 null.
+     */
+    default String linkHref() {
+        return null;
+    }
+
+    default int order() {
+        return 0;
+    }
+
+    /**
+     * 이 시간 안에 {@link #load()} 가 끝나지 않으면 {@link #unavailable()} 을 보여준다.
+     */
+    default Duration timeout() {
+        return DEFAULT_TIMEOUT;
+    }
+
+    DashboardMetric load();
+
+    default DashboardMetric unavailable() {
+        return new DashboardMetric(label(), "정보 없음", icon(), "secondary", "데이터를 불러오지 못했습니다.", linkHref());
+    }
+}
@@ -0,0 +1,83 @@
+package apu.saerok_admin.web.dashboard;
+
+import apu.saerok_admin.infra.report.ReportQueueCounters;
+import apu.saerok_admin.web.view.DashboardMetric;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ReportQueueDashboardCard implements DashboardCard {
+
+    private final ReportQueueCounters reportQueueCounters;
+    private final Clock clock;
+
+    public ReportQueueDashboardCard(ReportQueueCounters reportQueueCounters, Clock clock) {
+        this.reportQueueCounters = reportQueueCounters;
+        this.clock = clock;
+    }
+
+    @Override
+    public String id() {
+        return "report-queue";
+    }
+
+    @Override
+    public String label() {
+        return "접수된 신고";
+    }
+
+    @Override
+    public String icon() {
+        return "bi-flag";
+    }
+
+    @Override
+    public String linkHref() {
+        return "/reports";
+    }
+
+    @Override
+    public DashboardMetric load() {
+        ReportQueueCounters.Snapshot snapshot = reportQueueCounters.read();
+        if (snapshot.collections() == null && snapshot.comments() == null) {
+            return new DashboardMetric(label(), "정보 없음", icon(), "secondary", "신고 데이터를 불러오지 못했습니다.", linkHref());
+        }
+        ReportCounts counts = new ReportCounts(snapshot.collections(), snapshot.comments(), clock.instant());
+        return new DashboardMetric(label(), counts.formattedTotal(), icon(), "primary", counts.subtitle(), linkHref());
+    }
+
+    private record ReportCounts(ReportQueueCounters.Count collections, ReportQueueCounters.Count comments, Instant now) {
+
+        String formattedTotal() {
+            if (collections == null || comments == null) {
+                return "정보 없음";
+            }
+            boolean truncated = collections.truncated() || comments.truncated();
+            return (collections.value() + comments.value()) + (truncated ? "건 이상" : "건");
+        }
+
+        String subtitle() {
+            return "새록 " + describe(collections) + " · 댓글 " + describe(comments);
+        }
+
+        private String describe(ReportQueueCounters.Count count) {
+            if (count == null) {
+                return "정보 없음";
+            }
+            return count.value() + "건(" + age(count.refreshedAt()) + ")";
+        }
+
+        private String age(Instant refreshedAt) {
+            long seconds = Math.max(Duration.between(refreshedAt, now).toSeconds(), 0);
+            if (seconds < 60) {
+                return "방금 전";
+            }
+            if (seconds < 3600) {
+                return (seconds / 60) + "분 전";
+            }
+            return (seconds / 3600) + "시간 전";
+        }
+    }
+}
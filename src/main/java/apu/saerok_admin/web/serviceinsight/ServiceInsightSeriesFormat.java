@@ -0,0 +1,35 @@
+package apu.saerok_admin.web.serviceinsight;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * 차트 시계열을 내려주는 모양. 기본은 날짜 축 + 값 배열이고, 예전 {@code {date, value}} 점 목록은
+ * {@code format=points} 로 계속 받을 수 있다.
+ */
+public enum ServiceInsightSeriesFormat {
+
+    COLUMNS("columns"),
+    POINTS("points");
+
+    private final String paramValue;
+
+    ServiceInsightSeriesFormat(String paramValue) {
+        this.paramValue = paramValue;
+    }
+
+    public String paramValue() {
+        return paramValue;
+    }
+
+    public static Optional<ServiceInsightSeriesFormat> fromParameter(String parameter) {
+        if (parameter == null || parameter.isBlank()) {
+            return Optional.empty();
+        }
+        String normalized = parameter.trim().toLowerCase(Locale.ROOT);
+        return Arrays.stream(values())
+                .filter(format -> format.paramValue.equals(normalized))
+                .findFirst();
+    }
+}
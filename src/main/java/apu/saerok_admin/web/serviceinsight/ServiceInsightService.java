@@ -1,30 +1,34 @@
 package apu.saerok_admin.web.serviceinsight;
 
-import apu.saerok_admin.infra.stat.AdminStatClient;
 import apu.saerok_admin.infra.stat.StatMetric;
+import apu.saerok_admin.infra.stat.StatSeriesCache;
 import apu.saerok_admin.infra.stat.dto.StatSeriesResponse;
 import apu.saerok_admin.web.view.ServiceInsightViewModel;
 import apu.saerok_admin.web.view.ServiceInsightViewModel.ComponentSeries;
+import apu.saerok_admin.web.view.ServiceInsightViewModel.DateAxis;
 import apu.saerok_admin.web.view.ServiceInsightViewModel.MetricOption;
 import apu.saerok_admin.web.view.ServiceInsightViewModel.Point;
 import apu.saerok_admin.web.view.ServiceInsightViewModel.Series;
 import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 import org.springframework.stereotype.Service;
 
 @Service
 public class ServiceInsightService {
 
-    private final AdminStatClient adminStatClient;
+    private final StatSeriesCache statSeriesCache;
 
-    public ServiceInsightService(AdminStatClient adminStatClient) {
-        this.adminStatClient = adminStatClient;
+    public ServiceInsightService(StatSeriesCache statSeriesCache) {
+        this.statSeriesCache = statSeriesCache;
     }
 
     public ServiceInsightViewModel loadViewModel() {
@@ -32,17 +36,25 @@ public class ServiceInsightService {
     }
 
     public ServiceInsightViewModel loadViewModel(ServiceInsightQuery query) {
+        return loadViewModel(query, ServiceInsightSeriesFormat.COLUMNS);
+    }
+
+    public ServiceInsightViewModel loadViewModel(ServiceInsightQuery query, ServiceInsightSeriesFormat format) {
         LocalDate startDate = query != null ? query.startDate() : null;
         LocalDate endDate = query != null ? query.endDate() : null;
-        StatSeriesResponse response = adminStatClient.fetchSeries(List.of(StatMetric.values()), startDate, endDate);
-        return buildViewModel(response);
+        StatSeriesResponse response = statSeriesCache.fetchSeries(List.of(StatMetric.values()), startDate, endDate);
+        return buildViewModel(response, format);
     }
 
     public ServiceInsightViewModel defaultViewModel() {
-        return buildViewModel(null);
+        return defaultViewModel(ServiceInsightSeriesFormat.COLUMNS);
+    }
+
+    public ServiceInsightViewModel defaultViewModel(ServiceInsightSeriesFormat format) {
+        return buildViewModel(null, format);
     }
 
-    private ServiceInsightViewModel buildViewModel(StatSeriesResponse response) {
+    private ServiceInsightViewModel buildViewModel(StatSeriesResponse response, ServiceInsightSeriesFormat format) {
         Map<String, StatSeriesResponse.Series> responseMap = Optional.ofNullable(response)
                 .map(StatSeriesResponse::series)
                 .orElseGet(List::of)
@@ -61,7 +73,7 @@ public class ServiceInsightService {
 
         for (StatMetric metric : StatMetric.values()) {
             metricOptions.add(toMetricOption(metric));
-            chartSeries.add(toSeries(metric, responseMap.get(metric.name())));
+            chartSeries.add(toSeries(metric, responseMap.get(metric.name()), format));
             if (metric.multiSeries()) {
                 componentLabels.put(metric.name(), metric.componentLabels());
             }
@@ -81,42 +93,100 @@ public class ServiceInsightService {
         );
     }
 
-    private Series toSeries(StatMetric metric, StatSeriesResponse.Series source) {
-        List<Point> points = new ArrayList<>();
-        List<ComponentSeries> components = new ArrayList<>();
+    private Series toSeries(StatMetric metric, StatSeriesResponse.Series source, ServiceInsightSeriesFormat format) {
+        Map<LocalDate, Double> values = new TreeMap<>();
+        Map<String, Map<LocalDate, Double>> componentValues = new LinkedHashMap<>();
 
         if (source != null) {
-            if (source.points() != null) {
-                for (StatSeriesResponse.Point point : source.points()) {
-                    if (point == null || point.date() == null || point.value() == null) {
-                        continue;
-                    }
-                    points.add(new Point(point.date(), point.value().doubleValue()));
-                }
-            }
-            if (source.components() != null) {
+            collectValues(source.points(), values);
+            if (metric.multiSeries() && source.components() != null) {
                 for (StatSeriesResponse.ComponentSeries component : source.components()) {
                     if (component == null || component.key() == null) {
                         continue;
                     }
-                    List<Point> componentPoints = new ArrayList<>();
-                    if (component.points() != null) {
-                        for (StatSeriesResponse.Point point : component.points()) {
-                            if (point == null || point.date() == null || point.value() == null) {
-                                continue;
-                            }
-                            componentPoints.add(new Point(point.date(), point.value().doubleValue()));
-                        }
-                    }
-                    components.add(new ComponentSeries(component.key(), componentPoints));
+                    collectValues(component.points(), componentValues.computeIfAbsent(component.key(), key -> new TreeMap<>()));
                 }
             }
         }
 
-        if (!metric.multiSeries()) {
-            components = List.of();
+        List<ComponentSeries> components = new ArrayList<>(componentValues.size());
+        if (format == ServiceInsightSeriesFormat.POINTS) {
+            componentValues.forEach((key, byDate) -> components.add(new ComponentSeries(key, null, toPoints(byDate))));
+            return new Series(metric.name(), null, null, toPoints(values), components);
         }
 
-        return new Series(metric.name(), points, components);
+        DateAxis axis = toAxis(values, componentValues);
+        componentValues.forEach((key, byDate) -> components.add(new ComponentSeries(key, toColumn(axis, byDate), null)));
+        return new Series(metric.name(), axis, toColumn(axis, values), null, components);
+    }
+
+    private List<Point> toPoints(Map<LocalDate, Double> byDate) {
+        return byDate.entrySet().stream()
+                .map(entry -> new Point(entry.getKey(), entry.getValue()))
+                .toList();
+    }
+
+    private void collectValues(List<StatSeriesResponse.Point> points, Map<LocalDate, Double> target) {
+        if (points == null) {
+            return;
+        }
+        for (StatSeriesResponse.Point point : points) {
+            if (point == null || point.date() == null || point.value() == null) {
+                continue;
+            }
+            target.put(point.date(), point.value().doubleValue());
+        }
+    }
+
+    // 모든 날짜를 덮는 가장 큰 간격(일)을 step으로 잡아 축을 만든다. 일별 데이터면 step은 1이다.
+    private DateAxis toAxis(Map<LocalDate, Double> values, Map<String, Map<LocalDate, Double>> componentValues) {
+        LocalDate first = null;
+        LocalDate last = null;
+        List<Map<LocalDate, Double>> columns = new ArrayList<>();
+        columns.add(values);
+        columns.addAll(componentValues.values());
+        for (Map<LocalDate, Double> column : columns) {
+            for (LocalDate date : column.keySet()) {
+                first = first == null || date.isBefore(first) ? date : first;
+                last = last == null || date.isAfter(last) ? date : last;
+            }
+        }
+        if (first == null) {
+            return null;
+        }
+
+        long step = 0;
+        for (Map<LocalDate, Double> column : columns) {
+            for (LocalDate date : column.keySet()) {
+                step = gcd(step, ChronoUnit.DAYS.between(first, date));
+            }
+        }
+        if (step == 0) {
+            step = 1;
+        }
+        int length = Math.toIntExact(ChronoUnit.DAYS.between(first, last) / step + 1);
+        return new DateAxis(first, Math.toIntExact(step), length);
+    }
+
+    // 값이 없는 날은 null로 둔다. NaN은 JSON 표준 값이 아니라서 일반 JSON 파서가 읽지 못한다.
+    private List<Double> toColumn(DateAxis axis, Map<LocalDate, Double> byDate) {
+        if (axis == null) {
+            return List.of();
+        }
+        List<Double> column = new ArrayList<>(Collections.nCopies(axis.length(), (Double) null));
+        byDate.forEach((date, value) -> {
+            int index = Math.toIntExact(ChronoUnit.DAYS.between(axis.start(), date) / axis.stepDays());
+            column.set(index, value);
+        });
+        return Collections.unmodifiableList(column);
+    }
+
+    private static long gcd(long left, long right) {
+        while (right != 0) {
+            long next = left % right;
+            left = right;
+            right = next;
+        }
+        return left;
     }
 }
@@ -0,0 +1,31 @@
+package apu.saerok_admin.web.timing;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.ModelAndView;
+
+/**
+ * 컨트롤러가 끝난 시점과 뷰 렌더링이 끝난 시점을 요청 속성에 남긴다.
+ */
+class RenderTimingInterceptor implements HandlerInterceptor {
+
+    static final String RENDER_STARTED_AT = RenderTimingInterceptor.class.getName() + ".renderStartedAt";
+    static final String RENDER_FINISHED_AT = RenderTimingInterceptor.class.getName() + ".renderFinishedAt";
+
+    @Override
+    public void postHandle(HttpServletRequest request, HttpServletResponse response, Object handler,
+                           ModelAndView modelAndView) {
+        if (modelAndView != null && modelAndView.hasView()) {
+            request.setAttribute(RENDER_STARTED_AT, System.nanoTime());
+        }
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception exception) {
+        if (request.getAttribute(RENDER_STARTED_AT) != null) {
+            request.setAttribute(RENDER_FINISHED_AT, System.nanoTime());
+        }
+    }
+}
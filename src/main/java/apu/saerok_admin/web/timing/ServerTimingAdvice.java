@@ -0,0 +1,19 @@
+package apu.saerok_admin.web.timing;
+
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.ModelAttribute;
+
+@ControllerAdvice
+public class ServerTimingAdvice {
+
+    private final ServerTimingProps props;
+
+    public ServerTimingAdvice(ServerTimingProps props) {
+        this.props = props;
+    }
+
+    @ModelAttribute("serverTimingFooterEnabled")
+    public boolean serverTimingFooterEnabled() {
+        return props.enabled() && props.footerEnabled();
+    }
+}
@@ -0,0 +1,143 @@
+package apu.saerok_admin.web.timing;
+
+import apu.saerok_admin.infra.metrics.BackendCallRecord;
+import apu.saerok_admin.infra.metrics.BackendCallTrace;
+import apu.saerok_admin.security.LoginSessionManager;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.StringJoiner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+/**
+ * 화면 응답에 {@code Server-Timing} 헤더를 붙인다.
+ * <p>
+ * 요청 처리 중 나간 백엔드 호출을 {@link BackendCallTrace} 로 모으고, 뷰 렌더링이 끝난 뒤에 헤더를 쓸 수 있도록
+ * 응답 본문을 잠시 버퍼에 담았다가 내보낸다. 브라우저 개발자 도구의 Timing 탭과
+ * {@code PerformanceNavigationTiming.serverTiming} 에서 볼 수 있다.
+ * <p>
+ * 본문을 버퍼에 담는 비용이 있으므로 HTML 을 받는 GET 화면 요청에만 붙인다. 호출별 항목에는 백엔드 라우트가
+ * 드러나므로 운영자 디버그 표({@code footer-enabled})를 켰을 때, 그 표를 볼 수 있는 운영자(ADMIN_EDITOR)의
+ * 요청에만 쓰고, 그 밖에는 합계만 보낸다.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    static final String HEADER = "Server-Timing";
+    private static final String CALL_ENTRIES_ROLE = "ADMIN_EDITOR";
+
+    private final ServerTimingProps props;
+    private final LoginSessionManager loginSessionManager;
+
+    public ServerTimingFilter(ServerTimingProps props, LoginSessionManager loginSessionManager) {
+        this.props = props;
+        this.loginSessionManager = loginSessionManager;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!props.enabled() || !HttpMethod.GET.matches(request.getMethod()) || !acceptsHtml(request)) {
+            return true;
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return path.startsWith("/css/") || path.startsWith("/js/") || path.startsWith("/images/")
+                || path.startsWith("/actuator/") || path.equals("/favicon.ico");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        BackendCallTrace trace = BackendCallTrace.startIfAbsent(new ServletRequestAttributes(request));
+        ContentCachingResponseWrapper bufferedResponse = new ContentCachingResponseWrapper(response);
+        long startedAt = System.nanoTime();
+        try {
+            filterChain.doFilter(request, bufferedResponse);
+        } finally {
+            if (!response.isCommitted()) {
+                response.setHeader(HEADER, headerValue(request, trace.calls(), System.nanoTime() - startedAt));
+            }
+            bufferedResponse.copyBodyToResponse();
+        }
+    }
+
+    String headerValue(HttpServletRequest request, List<BackendCallRecord> calls, long totalNanos) {
+        StringJoiner header = new StringJoiner(", ");
+        header.add(entry("total", totalNanos, null));
+
+        long backendNanos = calls.stream().mapToLong(BackendCallRecord::durationNanos).sum();
+        header.add(entry("backend", backendNanos, calls.size() + " calls"));
+
+        if (request.getAttribute(RenderTimingInterceptor.RENDER_STARTED_AT) instanceof Long renderStartedAt
+                && request.getAttribute(RenderTimingInterceptor.RENDER_FINISHED_AT) instanceof Long renderFinishedAt) {
+            header.add(entry("render", renderFinishedAt - renderStartedAt, "template"));
+        }
+
+        boolean listsCalls = props.footerEnabled() && canSeeCallEntries(request);
+        int listed = listsCalls ? Math.min(calls.size(), props.maxCallEntries()) : 0;
+        for (int i = 0; i < listed; i++) {
+            BackendCallRecord call = calls.get(i);
+            header.add(entry("call-" + (i + 1), call.durationNanos(), describe(call)));
+        }
+        return header.toString();
+    }
+
+    // 화면 하단 디버그 표와 같은 조건이다. 권한 조합은 그 요청에서 관리자 정보를 불러올 때 세션에 남는다.
+    private boolean canSeeCallEntries(HttpServletRequest request) {
+        return loginSessionManager.findRoleScope(request)
+                .map(roleScope -> Arrays.asList(roleScope.split(",")).contains(CALL_ENTRIES_ROLE))
+                .orElse(false);
+    }
+
+    private static boolean acceptsHtml(HttpServletRequest request) {
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        if (accept == null || accept.isBlank()) {
+            return false;
+        }
+        try {
+            return MediaType.parseMediaTypes(accept).stream()
+                    .anyMatch(mediaType -> mediaType.isCompatibleWith(MediaType.TEXT_HTML) && !mediaType.isWildcardType());
+        } catch (IllegalArgumentException exception) {
+            return false;
+        }
+    }
+
+    private static String describe(BackendCallRecord call) {
+        StringBuilder description = new StringBuilder()
+                .append(call.method()).append(' ')
+                .append(call.route()).append(' ')
+                .append(call.status());
+        if (call.cacheStatus() != null) {
+            description.append(' ').append(call.cacheStatus());
+        }
+        if (call.refreshRetry()) {
+            description.append(" refresh-retry");
+        }
+        return description.toString();
+    }
+
+    private static String entry(String name, long nanos, String description) {
+        StringBuilder entry = new StringBuilder(name)
+                .append(";dur=")
+                .append(String.format(Locale.ROOT, "%.1f", nanos / 1_000_000.0));
+        if (description != null) {
+            entry.append(";desc=\"")
+                    .append(description.replace("\\", "\\\\").replace("\"", "\\\""))
+                    .append('"');
+        }
+        return entry.toString();
+    }
+}
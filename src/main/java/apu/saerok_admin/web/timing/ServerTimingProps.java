@@ -0,0 +1,19 @@
+package apu.saerok_admin.web.timing;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * @param enabled       화면 응답에 Server-Timing 헤더를 붙일지
+ * @param footerEnabled 운영자(ADMIN_EDITOR)에게 화면 하단 디버그 표를 보여줄지. 꺼져 있으면 헤더에도 호출별 항목을 쓰지 않는다.
+ * @param maxCallEntries 헤더에 호출별로 풀어 쓸 최대 건수. 나머지는 합계에만 들어간다.
+ */
+@ConfigurationProperties(prefix = "saerok.server-timing")
+public record ServerTimingProps(Boolean enabled, boolean footerEnabled, Integer maxCallEntries) {
+
+    public ServerTimingProps {
+        enabled = enabled == null || enabled;
+        if (maxCallEntries == null || maxCallEntries < 0) {
+            maxCallEntries = 30;
+        }
+    }
+}
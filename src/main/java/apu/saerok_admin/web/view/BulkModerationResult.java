@@ -0,0 +1,46 @@
+package apu.saerok_admin.web.view;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * 여러 신고를 한 번에 처리한 결과. 목록 화면에 항목별 성공/실패를 보여 준다.
+ *
+ * @param actionLabel 처리 이름(예: 무시, 삭제)
+ * @param items       요청한 순서대로의 항목별 결과
+ */
+public record BulkModerationResult(String actionLabel, List<Item> items) implements Serializable {
+
+    public BulkModerationResult {
+        items = items != null ? List.copyOf(items) : List.of();
+    }
+
+    public int requestedCount() {
+        return items.size();
+    }
+
+    public long succeededCount() {
+        return items.stream().filter(Item::succeeded).count();
+    }
+
+    public List<Item> failedItems() {
+        return items.stream().filter(item -> !item.succeeded()).toList();
+    }
+
+    public boolean hasFailures() {
+        return items.stream().anyMatch(item -> !item.succeeded());
+    }
+
+    /**
+     * @param message    실패 사유, 또는 다른 신고와 함께 처리된 경우의 안내. 그냥 성공했으면 null.
+     * @param detailPath 실패한 신고를 다시 열어 볼 상세 화면 경로
+     */
+    public record Item(
+            ReportType type,
+            long reportId,
+            boolean succeeded,
+            String message,
+            String detailPath
+    ) implements Serializable {
+    }
+}
@@ -1,5 +1,6 @@
 package apu.saerok_admin.web.view;
 
+import java.io.Serializable;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
@@ -12,7 +13,7 @@ public record CurrentAdminProfile(
         String profileImageUrl,
         List<String> roleDescriptions,
         List<String> roleCodes
-) {
+) implements Serializable {
 
     private static final String DEFAULT_PROFILE_IMAGE_URL =
             "https://images.unsplash.com/photo-1524504388940-b1c1722653e1";
@@ -0,0 +1,13 @@
+package apu.saerok_admin.web.view;
+
+/**
+ * 비동기로 채워질 대시보드 카드의 자리. 뼈대를 그리는 데 필요한 정보만 담는다.
+ */
+public record DashboardCardSlot(
+        String id,
+        String label,
+        String icon,
+        String fragmentUrl,
+        long timeoutMillis
+) {
+}
@@ -0,0 +1,16 @@
+package apu.saerok_admin.web.view;
+
+/**
+ * @param points SVG polyline 좌표 문자열. 표본이 둘 미만이면 빈 문자열.
+ * @param upRatio 최근 표본 중 정상 응답 비율(0~100)
+ */
+public record HealthSparkline(
+        String label,
+        boolean up,
+        Long latestLatencyMillis,
+        long maxLatencyMillis,
+        int upRatio,
+        int sampleCount,
+        String points
+) {
+}
@@ -23,4 +23,11 @@ public record ReportListItem(
     public boolean hasCollectionImage() {
         return collectionImageUrl != null && !collectionImageUrl.isBlank();
     }
+
+    /**
+     * 일괄 처리 폼에서 이 신고를 가리키는 값. 예: {@code collection:12}
+     */
+    public String bulkKey() {
+        return (type.isCollection() ? "collection" : "comment") + ":" + reportId;
+    }
 }
@@ -0,0 +1,46 @@
+package apu.saerok_admin.web.view;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 같은 새록(또는 같은 댓글)에 들어온 신고 묶음.
+ *
+ * @param reportIds        묶음에 속한 신고 ID. 최근 신고가 먼저 온다.
+ * @param latestDetailPath 가장 최근 신고의 상세 화면 경로
+ */
+public record ReportTargetGroup(
+        ReportType type,
+        long targetId,
+        String targetSummary,
+        String contentPreview,
+        String collectionImageUrl,
+        String reportedUserNickname,
+        int reportCount,
+        int distinctReporterCount,
+        LocalDateTime firstReportedAt,
+        LocalDateTime lastReportedAt,
+        List<Long> reportIds,
+        String latestDetailPath,
+        String ignoreAllAction,
+        String deleteAction
+) {
+
+    public ReportTargetGroup {
+        reportIds = reportIds != null ? List.copyOf(reportIds) : List.of();
+    }
+
+    public ReportTargetGroup withPreview(String contentPreview, String collectionImageUrl) {
+        return new ReportTargetGroup(type, targetId, targetSummary, contentPreview, collectionImageUrl,
+                reportedUserNickname, reportCount, distinctReporterCount, firstReportedAt, lastReportedAt,
+                reportIds, latestDetailPath, ignoreAllAction, deleteAction);
+    }
+
+    public boolean hasContentPreview() {
+        return contentPreview != null && !contentPreview.isBlank();
+    }
+
+    public boolean hasCollectionImage() {
+        return collectionImageUrl != null && !collectionImageUrl.isBlank();
+    }
+}
@@ -1,6 +1,7 @@
 package apu.saerok_admin.web.view;
 
 import apu.saerok_admin.infra.stat.StatMetric.MetricUnit;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import java.time.LocalDate;
 import java.util.List;
@@ -22,8 +23,15 @@ public record ServiceInsightViewModel(
     ) {
     }
 
+    /**
+     * 지표 하나의 시계열. 기본 모양은 본 값과 구성요소 값이 같은 날짜 축을 공유하고 값이 없는 날은 null로 채운다.
+     * 예전 모양({@code points})을 요청하면 축과 값 배열 대신 점 목록만 채운다.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     public record Series(
             @JsonProperty("metric") String metric,
+            @JsonProperty("axis") DateAxis axis,
+            @JsonProperty("values") List<Double> values,
             @JsonProperty("points") List<Point> points,
             @JsonProperty("components") List<ComponentSeries> components
     ) {
@@ -35,9 +43,18 @@ public record ServiceInsightViewModel(
     ) {
     }
 
+    public record DateAxis(
+            @JsonProperty("start") LocalDate start,
+            @JsonProperty("stepDays") int stepDays,
+            @JsonProperty("length") int length
+    ) {
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     public record ComponentSeries(
             @JsonProperty("key") String key,
+            @JsonProperty("values") List<Double> values,
             @JsonProperty("points") List<Point> points
     ) {
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,54 @@
+// ===== resources/static/js/dashboard-cards.js =====
+// 대시보드 카드 자리([data-dashboard-card])마다 조각을 따로 불러와 채운다. 카드끼리는 서로를 기다리지 않는다.
+(function () {
+    // 서버 쪽 제한 시간에 응답이 오가는 시간을 조금 더 얹어 준다.
+    const NETWORK_GRACE_MS = 1500;
+
+    function showFailure(slot, url, timeoutMs) {
+        const card = slot.querySelector('.card');
+        if (card) card.removeAttribute('aria-busy');
+        const status = slot.querySelector('[data-dashboard-card-status]');
+        if (!status) return;
+        status.className = 'text-muted small';
+        status.textContent = '불러오지 못했습니다. ';
+
+        const retry = document.createElement('a');
+        retry.href = '#';
+        retry.textContent = '다시 시도';
+        retry.addEventListener('click', (event) => {
+            event.preventDefault();
+            status.className = 'placeholder-glow';
+            status.innerHTML = '<span class="placeholder col-9 placeholder-sm"></span>';
+            if (card) card.setAttribute('aria-busy', 'true');
+            load(slot, url, timeoutMs);
+        });
+        status.appendChild(retry);
+    }
+
+    async function load(slot, url, timeoutMs) {
+        const controller = new AbortController();
+        const timer = setTimeout(() => controller.abort(), timeoutMs + NETWORK_GRACE_MS);
+        try {
+            const response = await fetch(url, {
+                headers: { 'X-Requested-With': 'XMLHttpRequest' },
+                signal: controller.signal
+            });
+            // 세션이 끝나 로그인 화면으로 넘어간 경우에는 그 화면을 카드 안에 넣지 않는다.
+            if (!response.ok || response.redirected) {
+                showFailure(slot, url, timeoutMs);
+                return;
+            }
+            slot.innerHTML = await response.text();
+        } catch (err) {
+            showFailure(slot, url, timeoutMs);
+        } finally {
+            clearTimeout(timer);
+        }
+    }
+
+    document.querySelectorAll('[data-dashboard-card]').forEach((slot) => {
+        const url = slot.dataset.dashboardCard;
+        const timeoutMs = Number(slot.dataset.timeoutMs) || 3000;
+        load(slot, url, timeoutMs);
+    });
+})();
@@ -0,0 +1,44 @@
+// ===== resources/static/js/report-bulk-select.js =====
+// 신고 목록에서 여러 건을 골라 한꺼번에 무시/삭제할 수 있게 선택 상태를 관리한다.
+(function () {
+    const form = document.getElementById('reportBulkForm');
+    if (!form) return;
+
+    const selectAll = form.querySelector('[data-report-bulk-select-all]');
+    const countLabel = form.querySelector('[data-report-bulk-count]');
+    const actions = form.querySelectorAll('[data-report-bulk-action]');
+
+    // 무한 스크롤로 행이 이어 붙으므로 매번 문서에서 다시 찾는다.
+    function items() {
+        return Array.from(document.querySelectorAll('[data-report-bulk-item]'));
+    }
+
+    function refresh() {
+        const all = items();
+        const selected = all.filter((checkbox) => checkbox.checked).length;
+        if (countLabel) countLabel.textContent = String(selected);
+        actions.forEach((button) => { button.disabled = selected === 0; });
+        if (selectAll) {
+            selectAll.checked = all.length > 0 && selected === all.length;
+            selectAll.indeterminate = selected > 0 && selected < all.length;
+        }
+    }
+
+    document.addEventListener('change', (event) => {
+        if (event.target.matches('[data-report-bulk-item]')) refresh();
+    });
+
+    if (selectAll) {
+        selectAll.addEventListener('change', () => {
+            items().forEach((checkbox) => { checkbox.checked = selectAll.checked; });
+            refresh();
+        });
+    }
+
+    const rows = document.querySelector('[data-report-rows]');
+    if (rows && 'MutationObserver' in window) {
+        new MutationObserver(refresh).observe(rows, { childList: true });
+    }
+
+    refresh();
+})();
@@ -0,0 +1,61 @@
+// ===== resources/static/js/report-infinite-scroll.js =====
+// 신고 목록 끝의 sentinel 이 보이면 다음 페이지 행 조각을 받아 이어 붙인다.
+(function () {
+    const container = document.querySelector('[data-report-rows]');
+    if (!container || !('IntersectionObserver' in window)) return;
+
+    let loading = false;
+
+    const observer = new IntersectionObserver((entries) => {
+        entries.forEach((entry) => {
+            if (entry.isIntersecting) loadNext(entry.target);
+        });
+    }, { rootMargin: '400px 0px' });
+
+    function initTooltips(root) {
+        if (!window.bootstrap || !window.bootstrap.Tooltip) return;
+        root.querySelectorAll('[data-bs-toggle="tooltip"]').forEach((el) => {
+            new window.bootstrap.Tooltip(el, {
+                trigger: 'hover focus',
+                delay: { show: 0, hide: 100 },
+                customClass: 'tooltip-bubble'
+            });
+        });
+    }
+
+    async function loadNext(sentinel) {
+        if (loading) return;
+        const url = sentinel.dataset.nextUrl;
+        if (!url) return;
+        loading = true;
+        observer.unobserve(sentinel);
+        try {
+            const response = await fetch(url, { headers: { 'X-Requested-With': 'XMLHttpRequest' } });
+            if (!response.ok || response.redirected) throw new Error('HTTP ' + response.status);
+            const template = document.createElement('template');
+            template.innerHTML = await response.text();
+            sentinel.remove();
+            const fragment = template.content;
+            initTooltips(fragment);
+            container.appendChild(fragment);
+            const next = container.querySelector('[data-report-rows-sentinel]');
+            if (next) observer.observe(next);
+        } catch (err) {
+            sentinel.textContent = '다음 신고를 불러오지 못했습니다. ';
+            const retry = document.createElement('a');
+            retry.href = '#';
+            retry.textContent = '다시 시도';
+            retry.addEventListener('click', (event) => {
+                event.preventDefault();
+                sentinel.textContent = '다음 신고를 불러오는 중…';
+                loadNext(sentinel);
+            });
+            sentinel.appendChild(retry);
+        } finally {
+            loading = false;
+        }
+    }
+
+    const first = container.querySelector('[data-report-rows-sentinel]');
+    if (first) observer.observe(first);
+})();
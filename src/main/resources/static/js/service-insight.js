@@ -16,10 +16,51 @@
     let optionMap = new Map();
     let seriesMap = new Map();
 
+    // 서버는 지표마다 날짜 축(start + stepDays)과 값 배열만 보낸다. 차트 코드는 {date, value} 점을 쓰므로 여기서 풀어준다.
+    const DAY_MS = 24 * 60 * 60 * 1000;
+
+    function decodeAxisDates(axis) {
+        if (!axis || !axis.start) return [];
+        const [y, m, d] = String(axis.start).split('-').map(Number);
+        const base = Date.UTC(y, (m || 1) - 1, d || 1);
+        if (!Number.isFinite(base)) return [];
+        const step = Math.max(1, Number(axis.stepDays) || 1);
+        const length = Math.max(0, Number(axis.length) || 0);
+        const dates = new Array(length);
+        for (let i = 0; i < length; i++) {
+            dates[i] = new Date(base + i * step * DAY_MS).toISOString().slice(0, 10);
+        }
+        return dates;
+    }
+
+    function decodeColumn(dates, values) {
+        const column = Array.isArray(values) ? values : [];
+        const points = [];
+        for (let i = 0; i < dates.length && i < column.length; i++) {
+            // 빈 날은 null로 온다. Number(null)은 0이 되므로 먼저 걸러낸다.
+            if (column[i] === null || column[i] === undefined) continue;
+            const value = Number(column[i]);
+            if (Number.isFinite(value)) points.push({ date: dates[i], value });
+        }
+        return points;
+    }
+
+    function decodeSeries(series) {
+        if (!series || typeof series !== 'object') return null;
+        if (Array.isArray(series.points)) return series;
+        const dates = decodeAxisDates(series.axis);
+        const components = Array.isArray(series.components) ? series.components : [];
+        return {
+            metric: series.metric,
+            points: decodeColumn(dates, series.values),
+            components: components.map(c => ({ key: c?.key, points: decodeColumn(dates, c?.values) }))
+        };
+    }
+
     function applyViewModelPayload(source) {
         payload = (source && typeof source === 'object') ? source : {};
         metricOptions = Array.isArray(payload.metricOptions) ? payload.metricOptions : [];
-        seriesList = Array.isArray(payload.series) ? payload.series : [];
+        seriesList = Array.isArray(payload.series) ? payload.series.map(decodeSeries).filter(Boolean) : [];
         componentLabels = (payload.componentLabels && typeof payload.componentLabels === 'object') ? payload.componentLabels : {};
         optionMap = new Map(metricOptions.map(o => [o.metric, o]));
         seriesMap = new Map(seriesList.map(s => [s.metric, s]));
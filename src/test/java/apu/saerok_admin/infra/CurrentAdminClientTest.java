@@ -0,0 +1,99 @@
+package apu.saerok_admin.infra;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+import apu.saerok_admin.security.LoginSession;
+import apu.saerok_admin.security.LoginSessionManager;
+import apu.saerok_admin.web.view.CurrentAdminProfile;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.web.client.ExpectedCount;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+class CurrentAdminClientTest {
+
+    private static final Instant NOW = Instant.parse("2024-06-01T12:00:00Z");
+    private static final String ME_URL = "http://localhost/api/v1/user/me";
+    private static final String ME_BODY = """
+            {"nickname":"새록","email":"admin@saerok.app","roles":["admin_editor"]}
+            """;
+
+    private final Clock clock = mock(Clock.class);
+    private MockHttpServletRequest request;
+    private MockRestServiceServer server;
+    private CurrentAdminClient client;
+
+    @BeforeEach
+    void setUp() {
+        when(clock.instant()).thenReturn(NOW);
+        request = new MockHttpServletRequest();
+        request.getSession(true).setAttribute(LoginSession.ATTRIBUTE_NAME, new LoginSession("token-a"));
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        RestClient.Builder builder = RestClient.builder().baseUrl("http://localhost/api/v1");
+        server = MockRestServiceServer.bindTo(builder).build();
+        client = new CurrentAdminClient(
+                builder.build(),
+                new SaerokApiProps("http://localhost/api/v1", "/api/v1"),
+                new LoginSessionManager(),
+                new CurrentAdminProfileCacheProps(Duration.ofSeconds(60)),
+                clock
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void servesTheProfileFromTheSessionUntilTheTtlExpires() {
+        server.expect(ExpectedCount.twice(), requestTo(ME_URL))
+                .andRespond(withSuccess(ME_BODY, MediaType.APPLICATION_JSON));
+
+        CurrentAdminProfile first = client.fetchCurrentAdminProfile().orElseThrow();
+        when(clock.instant()).thenReturn(NOW.plusSeconds(59));
+        CurrentAdminProfile cached = client.fetchCurrentAdminProfile().orElseThrow();
+        when(clock.instant()).thenReturn(NOW.plusSeconds(60));
+        client.fetchCurrentAdminProfile();
+
+        server.verify();
+        assertThat(first.nickname()).isEqualTo("새록");
+        assertThat(first.isAdminEditor()).isTrue();
+        assertThat(cached).isEqualTo(first);
+    }
+
+    @Test
+    void refetchesWhenTheAccessTokenChanges() {
+        server.expect(ExpectedCount.twice(), requestTo(ME_URL))
+                .andRespond(withSuccess(ME_BODY, MediaType.APPLICATION_JSON));
+
+        client.fetchCurrentAdminProfile();
+        // 세션 값은 그대로 둔 채 토큰만 바뀌어도 다른 토큰의 프로필을 내주지 않아야 한다.
+        request.getSession().setAttribute(LoginSession.ATTRIBUTE_NAME, new LoginSession("token-b"));
+        client.fetchCurrentAdminProfile();
+
+        server.verify();
+    }
+
+    @Test
+    void doesNotCallTheBackendWithoutALoginSession() {
+        request.getSession().removeAttribute(LoginSession.ATTRIBUTE_NAME);
+
+        assertThat(client.fetchCurrentAdminProfile()).isEmpty();
+        server.verify();
+    }
+}
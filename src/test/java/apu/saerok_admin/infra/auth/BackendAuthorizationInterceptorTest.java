@@ -13,7 +13,19 @@ import apu.saerok_admin.security.LoginSession;
 import apu.saerok_admin.security.LoginSessionManager;
 import jakarta.servlet.http.HttpSession;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Base64;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -29,7 +41,9 @@ import org.springframework.mock.http.client.MockClientHttpResponse;
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestClientResponseException;
+import org.springframework.web.context.request.RequestAttributes;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
@@ -38,14 +52,18 @@ class BackendAuthorizationInterceptorTest {
     private BackendAuthClient backendAuthClient;
     private LoginSessionManager loginSessionManager;
     private BackendAuthorizationInterceptor interceptor;
+    private Clock clock;
     private MockHttpServletRequest servletRequest;
     private MockHttpServletResponse servletResponse;
 
     @BeforeEach
     void setUp() {
+        clock = Clock.fixed(Instant.parse("2024-06-01T12:00:00Z"), ZoneOffset.UTC);
         backendAuthClient = mock(BackendAuthClient.class);
         loginSessionManager = new LoginSessionManager();
-        interceptor = new BackendAuthorizationInterceptor(loginSessionManager, backendAuthClient);
+        AccessTokenRefresher accessTokenRefresher =
+                new AccessTokenRefresher(loginSessionManager, backendAuthClient, new TokenRefreshProps(null, null, null), clock);
+        interceptor = new BackendAuthorizationInterceptor(loginSessionManager, accessTokenRefresher);
         servletRequest = new MockHttpServletRequest();
         servletResponse = new MockHttpServletResponse();
         RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(servletRequest, servletResponse));
@@ -105,4 +123,117 @@ class BackendAuthorizationInterceptorTest {
         }
         assertThat(servletResponse.getHeader(HttpHeaders.SET_COOKIE)).isNull();
     }
+
+    @Test
+    void concurrentUnauthorizedCallsInOneSessionShareASingleRefresh() throws Exception {
+        ClientHttpRequestExecution execution = mock(ClientHttpRequestExecution.class);
+        org.mockito.Mockito.when(execution.execute(any(HttpRequest.class), any(byte[].class))).thenAnswer(invocation -> {
+            HttpRequest sent = invocation.getArgument(0);
+            boolean stale = "Bearer old-token".equals(sent.getHeaders().getFirst(HttpHeaders.AUTHORIZATION));
+            return new MockClientHttpResponse(new byte[0], stale ? HttpStatus.UNAUTHORIZED : HttpStatus.OK);
+        });
+        AtomicInteger refreshCalls = new AtomicInteger();
+        org.mockito.Mockito.when(backendAuthClient.refreshAccessToken()).thenAnswer(invocation -> {
+            refreshCalls.incrementAndGet();
+            Thread.sleep(100);
+            return new BackendAuthClient.LoginSuccess("new-token", List.of());
+        });
+
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        CountDownLatch start = new CountDownLatch(2);
+        Callable<HttpStatus> call = () -> interceptInSession(attributes, start, execution);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            for (Future<HttpStatus> result : executor.invokeAll(List.of(call, call), 5, TimeUnit.SECONDS)) {
+                assertThat(result.get()).isEqualTo(HttpStatus.OK);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(refreshCalls).hasValue(1);
+    }
+
+    @Test
+    void refreshesAheadOfExpiryBeforeSendingTheRequest() throws IOException {
+        String expiringToken = jwtExpiringAt(clock.instant().plusSeconds(10));
+        servletRequest.getSession(false).setAttribute(LoginSession.ATTRIBUTE_NAME, new LoginSession(expiringToken));
+        org.mockito.Mockito.when(backendAuthClient.refreshAccessToken())
+                .thenReturn(new BackendAuthClient.LoginSuccess("new-token", List.of()));
+        ClientHttpRequestExecution execution = mock(ClientHttpRequestExecution.class);
+        org.mockito.Mockito.when(execution.execute(any(HttpRequest.class), any(byte[].class)))
+                .thenReturn(new MockClientHttpResponse(new byte[0], HttpStatus.OK));
+
+        MockClientHttpRequest request = new MockClientHttpRequest(HttpMethod.GET, "http://localhost/api/reports");
+        interceptor.intercept(request, new byte[0], execution);
+
+        ArgumentCaptor<HttpRequest> requestCaptor = ArgumentCaptor.forClass(HttpRequest.class);
+        verify(execution, times(1)).execute(requestCaptor.capture(), any(byte[].class));
+        assertThat(requestCaptor.getValue().getHeaders().getFirst(HttpHeaders.AUTHORIZATION)).isEqualTo("Bearer new-token");
+    }
+
+    @Test
+    void backsOffFromProactiveRefreshForTheGraceWindowAfterItFails() throws IOException {
+        String expiringToken = jwtExpiringAt(clock.instant().plusSeconds(10));
+        servletRequest.getSession(false).setAttribute(LoginSession.ATTRIBUTE_NAME, new LoginSession(expiringToken));
+        org.mockito.Mockito.when(backendAuthClient.refreshAccessToken())
+                .thenThrow(new ResourceAccessException("auth server down"));
+        ClientHttpRequestExecution execution = mock(ClientHttpRequestExecution.class);
+        org.mockito.Mockito.when(execution.execute(any(HttpRequest.class), any(byte[].class)))
+                .thenReturn(new MockClientHttpResponse(new byte[0], HttpStatus.OK));
+
+        interceptor.intercept(new MockClientHttpRequest(HttpMethod.GET, "http://localhost/api/reports"), new byte[0], execution);
+        interceptor.intercept(new MockClientHttpRequest(HttpMethod.GET, "http://localhost/api/reports"), new byte[0], execution);
+
+        verify(backendAuthClient, times(1)).refreshAccessToken();
+        ArgumentCaptor<HttpRequest> requestCaptor = ArgumentCaptor.forClass(HttpRequest.class);
+        verify(execution, times(2)).execute(requestCaptor.capture(), any(byte[].class));
+        assertThat(requestCaptor.getAllValues())
+                .extracting(sent -> sent.getHeaders().getFirst(HttpHeaders.AUTHORIZATION))
+                .containsOnly("Bearer " + expiringToken);
+    }
+
+    @Test
+    void stillRefreshesOnUnauthorizedAfterAFailedProactiveRefresh() throws IOException {
+        String expiringToken = jwtExpiringAt(clock.instant().plusSeconds(10));
+        servletRequest.getSession(false).setAttribute(LoginSession.ATTRIBUTE_NAME, new LoginSession(expiringToken));
+        org.mockito.Mockito.when(backendAuthClient.refreshAccessToken())
+                .thenThrow(new ResourceAccessException("auth server down"))
+                .thenReturn(new BackendAuthClient.LoginSuccess("new-token", List.of()));
+        ClientHttpRequestExecution execution = mock(ClientHttpRequestExecution.class);
+        org.mockito.Mockito.when(execution.execute(any(HttpRequest.class), any(byte[].class))).thenAnswer(invocation -> {
+            HttpRequest sent = invocation.getArgument(0);
+            boolean stale = ("Bearer " + expiringToken).equals(sent.getHeaders().getFirst(HttpHeaders.AUTHORIZATION));
+            return new MockClientHttpResponse(new byte[0], stale ? HttpStatus.UNAUTHORIZED : HttpStatus.OK);
+        });
+
+        MockClientHttpRequest request = new MockClientHttpRequest(HttpMethod.GET, "http://localhost/api/reports");
+        assertThat(interceptor.intercept(request, new byte[0], execution).getStatusCode()).isEqualTo(HttpStatus.OK);
+
+        verify(backendAuthClient, times(2)).refreshAccessToken();
+        LoginSession updated = (LoginSession) servletRequest.getSession(false).getAttribute(LoginSession.ATTRIBUTE_NAME);
+        assertThat(updated.accessToken()).isEqualTo("new-token");
+    }
+
+    private static String jwtExpiringAt(Instant expiresAt) {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        String header = encoder.encodeToString("{\"alg\":\"HS256\"}".getBytes(StandardCharsets.UTF_8));
+        String payload = encoder.encodeToString(("{\"exp\":" + expiresAt.getEpochSecond() + "}").getBytes(StandardCharsets.UTF_8));
+        return header + "." + payload + ".signature";
+    }
+
+    private HttpStatus interceptInSession(
+            RequestAttributes attributes,
+            CountDownLatch start,
+            ClientHttpRequestExecution execution
+    ) throws Exception {
+        RequestContextHolder.setRequestAttributes(attributes);
+        try {
+            start.countDown();
+            start.await();
+            MockClientHttpRequest request = new MockClientHttpRequest(HttpMethod.GET, "http://localhost/api/reports");
+            return HttpStatus.valueOf(interceptor.intercept(request, new byte[0], execution).getStatusCode().value());
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+        }
+    }
 }
@@ -0,0 +1,72 @@
+package apu.saerok_admin.infra.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+class BackendRequestMemoTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private BackendRequestMemo memo;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        memo = new BackendRequestMemo(meterRegistry);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void reusesResultsWithinOneRequest() {
+        AtomicInteger calls = new AtomicInteger();
+
+        String first = memo.memoize("reports", "collections/1", () -> "value-" + calls.incrementAndGet());
+        String second = memo.memoize("reports", "collections/1", () -> "value-" + calls.incrementAndGet());
+
+        assertThat(first).isEqualTo("value-1");
+        assertThat(second).isEqualTo("value-1");
+        assertThat(meterRegistry.counter("saerok.backend.memo.saved", "api", "reports").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void invalidateDropsOnlyTheGivenApi() {
+        AtomicInteger calls = new AtomicInteger();
+        memo.memoize("reports", "collections/1", () -> "report-" + calls.incrementAndGet());
+        memo.memoize("ads", "list", () -> "ad-" + calls.incrementAndGet());
+
+        memo.invalidate("reports");
+
+        assertThat(memo.memoize("reports", "collections/1", () -> "report-" + calls.incrementAndGet())).isEqualTo("report-3");
+        assertThat(memo.memoize("ads", "list", () -> "ad-" + calls.incrementAndGet())).isEqualTo("ad-2");
+    }
+
+    @Test
+    void doesNotMemoizeNullsOrCallsOutsideARequest() {
+        AtomicInteger calls = new AtomicInteger();
+        memo.memoize("reports", "empty", () -> {
+            calls.incrementAndGet();
+            return null;
+        });
+        memo.memoize("reports", "empty", () -> {
+            calls.incrementAndGet();
+            return null;
+        });
+        assertThat(calls).hasValue(2);
+
+        RequestContextHolder.resetRequestAttributes();
+        memo.memoize("reports", "collections/1", () -> "value-" + calls.incrementAndGet());
+        assertThat(memo.memoize("reports", "collections/1", () -> "value-" + calls.incrementAndGet())).isEqualTo("value-4");
+    }
+}
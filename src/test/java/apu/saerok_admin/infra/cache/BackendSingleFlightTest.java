@@ -0,0 +1,185 @@
+package apu.saerok_admin.infra.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+import apu.saerok_admin.security.LoginSessionManager;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+
+@ExtendWith(MockitoExtension.class)
+class BackendSingleFlightTest {
+
+    @Mock
+    private LoginSessionManager loginSessionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private BackendSingleFlight singleFlight;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        singleFlight = new BackendSingleFlight(loginSessionManager, meterRegistry);
+        executor = Executors.newFixedThreadPool(2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void concurrentCallsWithSameRoleShareOneBackendCallAcrossTokens() throws Exception {
+        when(loginSessionManager.currentAccessTokenFingerprint())
+                .thenReturn(Optional.of("token-a"))
+                .thenReturn(Optional.of("token-b"));
+        when(loginSessionManager.currentRoleScope()).thenReturn(Optional.of("ADMIN_EDITOR"));
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch entered = new CountDownLatch(1);
+        CompletableFuture<Void> release = new CompletableFuture<>();
+
+        Future<String> leader = executor.submit(() -> singleFlight.execute("reports", "collections", () -> {
+            calls.incrementAndGet();
+            entered.countDown();
+            release.join();
+            return "result";
+        }));
+        assertThat(entered.await(1, TimeUnit.SECONDS)).isTrue();
+
+        Future<String> follower = executor.submit(() -> singleFlight.execute("reports", "collections", () -> {
+            calls.incrementAndGet();
+            return "other";
+        }));
+        awaitCoalesced();
+        release.complete(null);
+
+        assertThat(leader.get(1, TimeUnit.SECONDS)).isEqualTo("result");
+        assertThat(follower.get(1, TimeUnit.SECONDS)).isEqualTo("result");
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    void followersRetryOnTheirOwnWhenTheLeaderFailsForItsSession() throws Exception {
+        when(loginSessionManager.currentAccessTokenFingerprint())
+                .thenReturn(Optional.of("token-a"))
+                .thenReturn(Optional.of("token-b"));
+        when(loginSessionManager.currentRoleScope()).thenReturn(Optional.of("ADMIN_EDITOR"));
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch entered = new CountDownLatch(1);
+        CompletableFuture<Void> release = new CompletableFuture<>();
+
+        Future<String> leader = executor.submit(() -> singleFlight.execute("reports", "collections", () -> {
+            calls.incrementAndGet();
+            entered.countDown();
+            release.join();
+            throw HttpClientErrorException.create(HttpStatus.UNAUTHORIZED, "Unauthorized", HttpHeaders.EMPTY, null, null);
+        }));
+        assertThat(entered.await(1, TimeUnit.SECONDS)).isTrue();
+
+        Future<String> follower = executor.submit(() -> singleFlight.execute("reports", "collections", () -> {
+            calls.incrementAndGet();
+            return "own";
+        }));
+        awaitCoalesced();
+        release.complete(null);
+
+        assertThatThrownBy(() -> leader.get(1, TimeUnit.SECONDS)).hasCauseInstanceOf(HttpClientErrorException.class);
+        assertThat(follower.get(1, TimeUnit.SECONDS)).isEqualTo("own");
+        assertThat(calls).hasValue(2);
+        assertThat(meterRegistry.counter("saerok.backend.singleflight.retried", "api", "reports").count()).isEqualTo(1);
+    }
+
+    @Test
+    void followersShareBackendFailuresThatAreNotAboutTheLeaderSession() throws Exception {
+        when(loginSessionManager.currentAccessTokenFingerprint())
+                .thenReturn(Optional.of("token-a"))
+                .thenReturn(Optional.of("token-b"));
+        when(loginSessionManager.currentRoleScope()).thenReturn(Optional.of("ADMIN_EDITOR"));
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch entered = new CountDownLatch(1);
+        CompletableFuture<Void> release = new CompletableFuture<>();
+
+        Future<String> leader = executor.submit(() -> singleFlight.execute("reports", "collections", () -> {
+            calls.incrementAndGet();
+            entered.countDown();
+            release.join();
+            throw HttpServerErrorException.create(HttpStatus.SERVICE_UNAVAILABLE, "Unavailable", HttpHeaders.EMPTY, null, null);
+        }));
+        assertThat(entered.await(1, TimeUnit.SECONDS)).isTrue();
+
+        Future<String> follower = executor.submit(() -> singleFlight.execute("reports", "collections", () -> {
+            calls.incrementAndGet();
+            return "own";
+        }));
+        awaitCoalesced();
+        release.complete(null);
+
+        assertThatThrownBy(() -> leader.get(1, TimeUnit.SECONDS)).hasCauseInstanceOf(HttpServerErrorException.class);
+        assertThatThrownBy(() -> follower.get(1, TimeUnit.SECONDS)).hasCauseInstanceOf(HttpServerErrorException.class);
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    void userMeCallsAreNeverSharedAcrossTokens() throws Exception {
+        when(loginSessionManager.currentAccessTokenFingerprint())
+                .thenReturn(Optional.of("token-a"))
+                .thenReturn(Optional.of("token-b"));
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch entered = new CountDownLatch(1);
+        CompletableFuture<Void> release = new CompletableFuture<>();
+
+        Future<String> first = executor.submit(() -> singleFlight.execute("user-me", "me", () -> {
+            calls.incrementAndGet();
+            entered.countDown();
+            release.join();
+            return "admin-a";
+        }));
+        assertThat(entered.await(1, TimeUnit.SECONDS)).isTrue();
+
+        String second = singleFlight.execute("user-me", "me", () -> {
+            calls.incrementAndGet();
+            return "admin-b";
+        });
+        release.complete(null);
+
+        assertThat(second).isEqualTo("admin-b");
+        assertThat(first.get(1, TimeUnit.SECONDS)).isEqualTo("admin-a");
+        assertThat(calls).hasValue(2);
+    }
+
+    @Test
+    void callsWithoutLoginSessionAreNotShared() {
+        when(loginSessionManager.currentAccessTokenFingerprint()).thenReturn(Optional.empty());
+        AtomicInteger calls = new AtomicInteger();
+
+        singleFlight.execute("reports", "collections", calls::incrementAndGet);
+        singleFlight.execute("reports", "collections", calls::incrementAndGet);
+
+        assertThat(calls).hasValue(2);
+    }
+
+    private void awaitCoalesced() {
+        while (meterRegistry.counter("saerok.backend.singleflight.coalesced", "api", "reports").count() < 1) {
+            Thread.onSpinWait();
+        }
+    }
+}
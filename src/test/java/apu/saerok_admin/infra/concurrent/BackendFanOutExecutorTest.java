@@ -0,0 +1,147 @@
+package apu.saerok_admin.infra.concurrent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+class BackendFanOutExecutorTest {
+
+    private BackendFanOutExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = new BackendFanOutExecutor(new BackendFanOutProps(2, Duration.ofSeconds(2), Duration.ofMillis(200)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.destroy();
+        RequestContextHolder.resetRequestAttributes();
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void returnsPartialResultsWhenCallsFailOrTimeOut() {
+        Map<Long, String> results = executor.fetchAll(List.of(1L, 2L, 3L), id -> {
+            if (id == 2L) {
+                throw new IllegalStateException("backend failure");
+            }
+            if (id == 3L) {
+                pause(5_000);
+            }
+            return "value-" + id;
+        });
+
+        assertThat(results).containsExactly(entry(1L, "value-1"));
+    }
+
+    @Test
+    void limitsConcurrentCallsToParallelism() {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+
+        Map<Integer, Integer> results = executor.fetchAll(List.of(1, 2, 3, 4, 5, 6), id -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            pause(50);
+            inFlight.decrementAndGet();
+            return id;
+        });
+
+        assertThat(results).hasSize(6);
+        assertThat(maxInFlight.get()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    void honoursExplicitParallelismAndDeadline() {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+
+        Map<Integer, Integer> results = executor.fetchAll(List.of(1, 2, 3, 4, 5, 6), id -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            pause(id == 6 ? 150 : 50);
+            inFlight.decrementAndGet();
+            return id;
+        }, 1, Duration.ofMillis(200));
+
+        assertThat(results).hasSizeLessThan(6).containsKey(1);
+        assertThat(maxInFlight.get()).isEqualTo(1);
+    }
+
+    @Test
+    void letsCallsRunPastTheDefaultTimeoutWhenGivenTheirOwn() {
+        Map<Integer, Integer> results = executor.fetchAll(List.of(1), id -> {
+            pause(400);
+            return id;
+        }, 1, Duration.ofSeconds(2), Duration.ofSeconds(1));
+
+        assertThat(results).containsExactly(entry(1, 1));
+    }
+
+    @Test
+    void propagatesRequestAttributesToWorkers() {
+        RequestAttributes attributes = new ServletRequestAttributes(new MockHttpServletRequest());
+        RequestContextHolder.setRequestAttributes(attributes);
+
+        Map<String, Boolean> results = executor.fetchAll(List.of("report"),
+                key -> RequestContextHolder.getRequestAttributes() == attributes);
+
+        assertThat(results).containsExactly(entry("report", true));
+    }
+
+    @Test
+    void submittedCallsSeeCallerContextAndRethrowTheirOwnFailure() {
+        SecurityContext context = SecurityContextHolder.createEmptyContext();
+        context.setAuthentication(new TestingAuthenticationToken("admin", null));
+        SecurityContextHolder.setContext(context);
+
+        Future<Boolean> contextCall = executor.submit(() -> SecurityContextHolder.getContext() == context);
+        Future<String> failingCall = executor.submit(() -> {
+            throw new RestClientException("slots unavailable");
+        });
+
+        assertThat(executor.await(contextCall)).isTrue();
+        assertThatThrownBy(() -> executor.await(failingCall))
+                .isInstanceOf(RestClientException.class)
+                .hasMessage("slots unavailable");
+    }
+
+    @Test
+    void awaitWithTimeoutGivesUpBeforeTheDeadline() {
+        Future<String> slowCall = executor.submit(() -> {
+            pause(1_000);
+            return "late";
+        }, Duration.ofSeconds(2));
+
+        long startedAt = System.nanoTime();
+        assertThatThrownBy(() -> executor.await(slowCall, Duration.ofMillis(100)))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(Duration.ofNanos(System.nanoTime() - startedAt)).isLessThan(Duration.ofMillis(900));
+        assertThat(slowCall.isCancelled()).isTrue();
+    }
+
+    private static void pause(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(exception);
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package apu.saerok_admin.infra.concurrent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import apu.saerok_admin.infra.auth.DelegatedAccessToken;
+import apu.saerok_admin.infra.metrics.BackendCallRecord;
+import apu.saerok_admin.infra.metrics.BackendCallTrace;
+import apu.saerok_admin.security.LoginSessionManager;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+class BackendHedgerTest {
+
+    private static final String ROUTE = "admin/reports/collections/{id}";
+
+    private final BackendFanOutExecutor executor =
+            new BackendFanOutExecutor(new BackendFanOutProps(4, Duration.ofSeconds(5), Duration.ofSeconds(5)));
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @AfterEach
+    void tearDown() {
+        executor.destroy();
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void sendsHedgeWhenPrimaryIsSlowerThanRoutePercentile() {
+        BackendHedger hedger = hedger(1.0);
+        warmUp(hedger);
+
+        AtomicInteger attempts = new AtomicInteger();
+        String value = hedger.execute(ROUTE, () -> {
+            if (attempts.incrementAndGet() == 1) {
+                pause(2_000);
+                return "primary";
+            }
+            return "hedge";
+        });
+
+        assertThat(value).isEqualTo("hedge");
+        assertThat(meterRegistry.counter("saerok.backend.hedge.sent", "route", ROUTE).count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("saerok.backend.hedge.wins", "route", ROUTE, "winner", "hedge").count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void waitsForPrimaryWhenHedgeBudgetIsEmpty() {
+        BackendHedger hedger = hedger(0.0);
+        warmUp(hedger);
+
+        AtomicInteger attempts = new AtomicInteger();
+        String value = hedger.execute(ROUTE, () -> {
+            attempts.incrementAndGet();
+            pause(200);
+            return "primary";
+        });
+
+        assertThat(value).isEqualTo("primary");
+        assertThat(attempts).hasValue(1);
+        assertThat(meterRegistry.counter("saerok.backend.hedge.skipped", "route", ROUTE, "reason", "budget").count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void runsOnCallerThreadUntilEnoughSamplesAreCollected() {
+        BackendHedger hedger = hedger(1.0);
+        Thread caller = Thread.currentThread();
+
+        Thread executedOn = hedger.execute(ROUTE, Thread::currentThread);
+
+        assertThat(executedOn).isSameAs(caller);
+    }
+
+    @Test
+    void racedAttemptsRunWithoutTheRequestContext() {
+        BackendHedger hedger = hedger(1.0);
+        warmUp(hedger);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+
+        List<Optional<RequestAttributes>> seen = new CopyOnWriteArrayList<>();
+        AtomicInteger attempts = new AtomicInteger();
+        hedger.execute(ROUTE, () -> {
+            seen.add(Optional.ofNullable(RequestContextHolder.getRequestAttributes()));
+            if (attempts.incrementAndGet() == 1) {
+                pause(500);
+            }
+            return "done";
+        });
+
+        assertThat(seen).hasSize(2).allMatch(Optional::isEmpty);
+    }
+
+    @Test
+    void retriesOnTheCallerThreadWhenTheDelegatedTokenIsRejected() {
+        LoginSessionManager loginSessionManager = mock(LoginSessionManager.class);
+        when(loginSessionManager.currentAccessToken()).thenReturn(Optional.of("expired-token"));
+        BackendHedger hedger = hedger(1.0, loginSessionManager);
+        warmUp(hedger);
+        Thread caller = Thread.currentThread();
+
+        String value = hedger.execute(ROUTE, () -> {
+            if (Thread.currentThread() != caller) {
+                throw HttpClientErrorException.create(HttpStatus.UNAUTHORIZED, "Unauthorized", new HttpHeaders(), new byte[0], null);
+            }
+            return "refreshed";
+        });
+
+        assertThat(value).isEqualTo("refreshed");
+    }
+
+    @Test
+    void recordsOnlyTheWinningAttemptAndHandsItTheCallerScope() {
+        LoginSessionManager loginSessionManager = mock(LoginSessionManager.class);
+        when(loginSessionManager.currentAccessToken()).thenReturn(Optional.of("access-token"));
+        when(loginSessionManager.currentRoleScope()).thenReturn(Optional.of("ADMIN_EDITOR"));
+        when(loginSessionManager.currentAccessTokenFingerprint()).thenReturn(Optional.of("fingerprint"));
+        BackendHedger hedger = hedger(1.0, loginSessionManager);
+        warmUp(hedger);
+        RequestAttributes attributes = new ServletRequestAttributes(new MockHttpServletRequest());
+        RequestContextHolder.setRequestAttributes(attributes);
+        BackendCallTrace trace = BackendCallTrace.startIfAbsent(attributes);
+
+        List<Optional<DelegatedAccessToken.Scope>> scopes = new CopyOnWriteArrayList<>();
+        AtomicInteger attempts = new AtomicInteger();
+        hedger.execute(ROUTE, () -> {
+            scopes.add(DelegatedAccessToken.currentScope());
+            String attempt = attempts.incrementAndGet() == 1 ? "primary" : "hedge";
+            if (attempt.equals("primary")) {
+                pause(500);
+            }
+            BackendCallTrace.current().ifPresent(current -> current.add(
+                    new BackendCallRecord("test", "GET", attempt, "200", 0L, null, false)));
+            return attempt;
+        });
+
+        assertThat(trace.calls()).extracting(BackendCallRecord::route).containsExactly("hedge");
+        assertThat(scopes).hasSize(2)
+                .allMatch(scope -> scope.equals(Optional.of(new DelegatedAccessToken.Scope("ADMIN_EDITOR", "fingerprint"))));
+    }
+
+    private BackendHedger hedger(double budgetRatio) {
+        return hedger(budgetRatio, new LoginSessionManager());
+    }
+
+    private BackendHedger hedger(double budgetRatio, LoginSessionManager loginSessionManager) {
+        BackendHedgingProps props = new BackendHedgingProps(
+                true, 0.95, 10, 2, Duration.ZERO, budgetRatio, 10, Duration.ofSeconds(5)
+        );
+        return new BackendHedger(props, executor, loginSessionManager, meterRegistry);
+    }
+
+    private static void warmUp(BackendHedger hedger) {
+        hedger.execute(ROUTE, () -> "warm-up");
+        hedger.execute(ROUTE, () -> "warm-up");
+    }
+
+    private static void pause(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(exception);
+        }
+    }
+}
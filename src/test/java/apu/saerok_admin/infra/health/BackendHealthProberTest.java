@@ -0,0 +1,83 @@
+package apu.saerok_admin.infra.health;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import apu.saerok_admin.infra.ServiceHealthClient;
+import apu.saerok_admin.web.view.ServiceHealthStatus;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class BackendHealthProberTest {
+
+    private static final Instant NOW = Instant.parse("2024-06-01T12:00:00Z");
+
+    private ServiceHealthClient serviceHealthClient;
+    private BackendHealthProber prober;
+
+    @BeforeEach
+    void setUp() {
+        serviceHealthClient = mock(ServiceHealthClient.class);
+        // 스케줄러가 끼어들지 않도록 꺼 두고 probeHealth 를 직접 부른다.
+        prober = new BackendHealthProber(
+                serviceHealthClient,
+                new HealthProbeProps(false, null, null, null, 2),
+                Clock.fixed(NOW, ZoneId.of("Asia/Seoul"))
+        );
+    }
+
+    @Test
+    void keepsTheLatestHealthSamplesUpToTheHistorySize() {
+        when(serviceHealthClient.checkHealth())
+                .thenReturn(new ServiceHealthStatus(true, "ok", LocalDateTime.now()))
+                .thenReturn(new ServiceHealthStatus(false, "down", LocalDateTime.now()))
+                .thenReturn(new ServiceHealthStatus(true, "ok", LocalDateTime.now()));
+
+        prober.probeHealth();
+        prober.probeHealth();
+        prober.probeHealth();
+
+        assertThat(prober.history()).extracting(ProbeSample::up).containsExactly(false, true);
+        assertThat(prober.history()).extracting(ProbeSample::probedAt).containsOnly(NOW);
+    }
+
+    @Test
+    void probesOnlyBetweenStartAndStop() {
+        ServiceHealthStatus status = new ServiceHealthStatus(true, "ok", LocalDateTime.now());
+        when(serviceHealthClient.checkHealth()).thenReturn(status);
+        BackendHealthProber scheduled = new BackendHealthProber(
+                serviceHealthClient,
+                new HealthProbeProps(true, Duration.ofMinutes(1), null, null, 2),
+                Clock.fixed(NOW, ZoneId.of("Asia/Seoul"))
+        );
+
+        assertThat(scheduled.latestHealth()).isEmpty();
+        verifyNoInteractions(serviceHealthClient);
+
+        scheduled.start();
+        try {
+            verify(serviceHealthClient, timeout(2_000)).checkHealth();
+            assertThat(scheduled.isRunning()).isTrue();
+        } finally {
+            scheduled.stop();
+        }
+        assertThat(scheduled.isRunning()).isFalse();
+    }
+
+    @Test
+    void checksHealthInlineWhenProbingIsDisabled() {
+        ServiceHealthStatus status = new ServiceHealthStatus(false, "down", LocalDateTime.now());
+        when(serviceHealthClient.checkHealth()).thenReturn(status);
+
+        assertThat(prober.latestHealth()).contains(status);
+    }
+}
@@ -0,0 +1,92 @@
+package apu.saerok_admin.infra.http;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.headerDoesNotExist;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+import apu.saerok_admin.infra.auth.DelegatedAccessToken;
+import apu.saerok_admin.security.LoginSessionManager;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestClient;
+
+@ExtendWith(MockitoExtension.class)
+class ConditionalGetInterceptorTest {
+
+    private static final String URL = "http://localhost/api/v1/admin/reports/collections";
+    private static final String BODY = "{\"items\":[]}";
+
+    @Mock
+    private LoginSessionManager loginSessionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private MockRestServiceServer server;
+    private RestClient restClient;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        ConditionalGetInterceptor interceptor =
+                new ConditionalGetInterceptor(new ConditionalGetProps(null, null, null, null), loginSessionManager, meterRegistry);
+        RestClient.Builder builder = RestClient.builder().requestInterceptor(interceptor);
+        server = MockRestServiceServer.bindTo(builder).build();
+        restClient = builder.build();
+    }
+
+    @Test
+    void servesStoredBodyWhenBackendAnswersNotModified() {
+        when(loginSessionManager.currentAccessTokenFingerprint()).thenReturn(Optional.of("token"));
+        when(loginSessionManager.currentRoleScope()).thenReturn(Optional.of("ADMIN_EDITOR"));
+        HttpHeaders validators = new HttpHeaders();
+        validators.setETag("\"v1\"");
+        server.expect(requestTo(URL))
+                .andExpect(headerDoesNotExist(HttpHeaders.IF_NONE_MATCH))
+                .andRespond(withSuccess(BODY, MediaType.APPLICATION_JSON).headers(validators));
+        server.expect(requestTo(URL))
+                .andExpect(header(HttpHeaders.IF_NONE_MATCH, "\"v1\""))
+                .andRespond(withStatus(HttpStatus.NOT_MODIFIED));
+
+        String first = restClient.get().uri(URL).retrieve().body(String.class);
+        String second = restClient.get().uri(URL).retrieve().body(String.class);
+
+        server.verify();
+        assertThat(first).isEqualTo(BODY);
+        assertThat(second).isEqualTo(BODY);
+        assertThat(meterRegistry.counter("saerok.backend.conditional.requests", "result", "hit").count()).isEqualTo(1.0);
+        assertThat(meterRegistry.counter("saerok.backend.conditional.bytes.saved").count()).isEqualTo(BODY.length());
+    }
+
+    @Test
+    void revalidatesDelegatedCallsWithTheScopeHandedOverByTheCaller() {
+        when(loginSessionManager.currentAccessTokenFingerprint()).thenReturn(Optional.of("token"));
+        when(loginSessionManager.currentRoleScope()).thenReturn(Optional.of("ADMIN_EDITOR"));
+        HttpHeaders validators = new HttpHeaders();
+        validators.setETag("\"v1\"");
+        server.expect(requestTo(URL))
+                .andRespond(withSuccess(BODY, MediaType.APPLICATION_JSON).headers(validators));
+        server.expect(requestTo(URL))
+                .andExpect(header(HttpHeaders.IF_NONE_MATCH, "\"v1\""))
+                .andRespond(withStatus(HttpStatus.NOT_MODIFIED));
+
+        restClient.get().uri(URL).retrieve().body(String.class);
+        String delegated = DelegatedAccessToken.callWith("access-token",
+                new DelegatedAccessToken.Scope("ADMIN_EDITOR", "token"),
+                () -> restClient.get().uri(URL).retrieve().body(String.class));
+
+        server.verify();
+        assertThat(delegated).isEqualTo(BODY);
+    }
+}
@@ -0,0 +1,82 @@
+package apu.saerok_admin.infra.http;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+class JsonListStreamReaderTest {
+
+    private static final String BODY = """
+            {"meta":{"page":[1,2]},"items":[{"id":1,"name":"a"},null,{"id":2,"name":"b"},{"id":3,"name":"c"}],"next":null}
+            """;
+
+    @Test
+    void mapsEachElementOfTheNamedArray() throws IOException {
+        JsonListStreamReader reader = reader(100, DataSize.ofKilobytes(1));
+
+        StreamedList<String> result = reader.read(body(BODY), "items", Element.class, Element::name);
+
+        assertThat(result.items()).containsExactly("a", "b", "c");
+        assertThat(result.scanned()).isEqualTo(3);
+        assertThat(result.truncated()).isFalse();
+    }
+
+    @Test
+    void countsElementsWithoutKeepingThemWhenMapperReturnsNull() throws IOException {
+        JsonListStreamReader reader = reader(1, DataSize.ofKilobytes(1));
+
+        StreamedList<Void> result = reader.read(body(BODY), "items", Element.class, element -> null);
+
+        assertThat(result.items()).isEmpty();
+        assertThat(result.scanned()).isEqualTo(3);
+        assertThat(result.truncated()).isFalse();
+    }
+
+    @Test
+    void stopsAtItemLimit() throws IOException {
+        JsonListStreamReader reader = reader(2, DataSize.ofKilobytes(1));
+
+        StreamedList<Long> result = reader.read(body(BODY), "items", Element.class, Element::id);
+
+        assertThat(result.items()).containsExactly(1L, 2L);
+        assertThat(result.truncated()).isTrue();
+    }
+
+    @Test
+    void keepsCompleteElementsReadBeforeByteLimit() throws IOException {
+        String body = "{\"items\":[{\"id\":1,\"name\":\"a\"},{\"id\":2,\"name\":\"" + "x".repeat(200) + "\"}]}";
+        JsonListStreamReader reader = reader(100, DataSize.ofBytes(64));
+
+        StreamedList<Long> result = reader.read(body(body), "items", Element.class, Element::id);
+
+        assertThat(result.items()).containsExactly(1L);
+        assertThat(result.truncated()).isTrue();
+    }
+
+    @Test
+    void returnsEmptyListWhenArrayFieldIsMissing() throws IOException {
+        JsonListStreamReader reader = reader(100, DataSize.ofKilobytes(1));
+
+        StreamedList<Long> result = reader.read(body("{\"other\":[1,2]}"), "items", Element.class, Element::id);
+
+        assertThat(result.items()).isEmpty();
+        assertThat(result.truncated()).isFalse();
+    }
+
+    private static JsonListStreamReader reader(int maxItems, DataSize maxBytes) {
+        return new JsonListStreamReader(new ObjectMapper(), new ListStreamingProps(maxItems, maxBytes));
+    }
+
+    private static InputStream body(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private record Element(Long id, String name) {
+    }
+}
@@ -0,0 +1,43 @@
+package apu.saerok_admin.infra.http;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import apu.saerok_admin.infra.http.SaerokHttpClientProps.Protocol;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+
+class SaerokHttpClientFactoryTest {
+
+    @Test
+    void usesThePooledApacheClientForHttp11() {
+        SaerokHttpClientProps props = new SaerokHttpClientProps(
+                null, null, null, null, null, 20, 100, null, null
+        );
+
+        assertThat(props.protocol()).isEqualTo(Protocol.HTTP_1_1);
+        assertThat(props.maxConnectionsPerRoute()).isEqualTo(20);
+        assertThat(SaerokHttpClientFactory.create(props)).isInstanceOf(HttpComponentsClientHttpRequestFactory.class);
+    }
+
+    @Test
+    void usesTheJdkClientForHttp2() {
+        SaerokHttpClientProps props = new SaerokHttpClientProps(
+                Protocol.HTTP_2, Duration.ofSeconds(1), null, Duration.ofSeconds(5), null, null, null, null, null
+        );
+
+        assertThat(SaerokHttpClientFactory.create(props)).isInstanceOf(JdkClientHttpRequestFactory.class);
+    }
+
+    @Test
+    void rejectsPoolSettingsThatHttp2WouldIgnore() {
+        assertThatThrownBy(() -> new SaerokHttpClientProps(
+                Protocol.HTTP_2, null, Duration.ofSeconds(10), null, null, 200, null, null, null
+        ))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("read-timeout")
+                .hasMessageContaining("max-connections");
+    }
+}
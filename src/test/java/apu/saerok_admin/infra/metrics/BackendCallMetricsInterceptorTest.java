@@ -0,0 +1,129 @@
+package apu.saerok_admin.infra.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+import apu.saerok_admin.infra.SaerokApiProps;
+import apu.saerok_admin.infra.resilience.BackendApiGroup;
+import apu.saerok_admin.infra.resilience.BackendUnavailableException;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.net.URI;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClient;
+
+class BackendCallMetricsInterceptorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private MockRestServiceServer server;
+    private RestClient restClient;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        BackendRouteTemplate routeTemplate = new BackendRouteTemplate(new SaerokApiProps("http://localhost", "/api/v1"));
+        RestClient.Builder builder = RestClient.builder()
+                .baseUrl("http://localhost")
+                .requestInterceptor(new BackendCallMetricsInterceptor(meterRegistry, routeTemplate));
+        server = MockRestServiceServer.bindTo(builder).build();
+        restClient = BackendClientTag.tagged(builder.build(), BackendCallMetricsInterceptorTest.class);
+    }
+
+    @Test
+    void recordsCallsByClientRouteTemplateAndStatus() {
+        server.expect(requestTo("http://localhost/api/v1/admin/reports/collections/12"))
+                .andRespond(withSuccess("{}", MediaType.APPLICATION_JSON));
+
+        restClient.get().uri("/api/v1/admin/reports/collections/12").retrieve().toBodilessEntity();
+
+        Timer timer = meterRegistry.find("saerok.backend.calls")
+                .tag("client", "BackendCallMetricsInterceptorTest")
+                .tag("route", "admin/reports/collections/{id}")
+                .tag("method", "GET")
+                .tag("status", "200")
+                .tag("outcome", "SUCCESS")
+                .tag("refresh_retry", "false")
+                .timer();
+        assertThat(timer).isNotNull();
+        assertThat(timer.count()).isEqualTo(1);
+        server.verify();
+    }
+
+    @Test
+    void recordsClientErrorsWithTheirStatus() {
+        server.expect(requestTo("http://localhost/api/v1/admin/stats/series"))
+                .andRespond(withStatus(HttpStatus.NOT_FOUND));
+
+        try {
+            restClient.get().uri("/api/v1/admin/stats/series").retrieve().toBodilessEntity();
+        } catch (HttpClientErrorException ignored) {
+            // 지표만 확인한다.
+        }
+
+        assertThat(meterRegistry.find("saerok.backend.calls")
+                .tag("route", "admin/stats/series")
+                .tag("status", "404")
+                .tag("outcome", "CLIENT_ERROR")
+                .timer()).isNotNull();
+    }
+
+    @Test
+    void tagsResilienceRejectionsByReasonInsteadOfAsClientErrors() {
+        RestClient rejecting = clientFailingWith((request, body, execution) -> {
+            throw new BackendUnavailableException(BackendApiGroup.REPORTS,
+                    BackendUnavailableException.Reason.CIRCUIT_OPEN, "open");
+        });
+
+        assertThatThrownBy(() -> rejecting.get().uri("/api/v1/admin/reports/collections").retrieve().toBodilessEntity())
+                .isInstanceOf(BackendUnavailableException.class);
+
+        assertThat(meterRegistry.find("saerok.backend.calls")
+                .tag("route", "admin/reports/collections")
+                .tag("status", "CIRCUIT_OPEN")
+                .tag("outcome", "UNKNOWN")
+                .timer()).isNotNull();
+        assertThat(meterRegistry.find("saerok.backend.calls").tag("outcome", "CLIENT_ERROR").timer()).isNull();
+    }
+
+    @Test
+    void tagsOtherExceptionsWithTheirClassName() {
+        RestClient failing = clientFailingWith((request, body, execution) -> {
+            throw new IllegalStateException("broken");
+        });
+
+        assertThatThrownBy(() -> failing.get().uri("/api/v1/admin/stats/series").retrieve().toBodilessEntity())
+                .isInstanceOf(IllegalStateException.class);
+
+        assertThat(meterRegistry.find("saerok.backend.calls")
+                .tag("route", "admin/stats/series")
+                .tag("status", "IllegalStateException")
+                .tag("outcome", "UNKNOWN")
+                .timer()).isNotNull();
+    }
+
+    @Test
+    void keepsPathsOutsideTheApiPrefixAsIs() {
+        BackendRouteTemplate routeTemplate = new BackendRouteTemplate(new SaerokApiProps("http://localhost", "/api/v1"));
+
+        assertThat(routeTemplate.of(URI.create("http://localhost/health"))).isEqualTo("health");
+    }
+
+    private RestClient clientFailingWith(ClientHttpRequestInterceptor failure) {
+        BackendRouteTemplate routeTemplate = new BackendRouteTemplate(new SaerokApiProps("http://localhost", "/api/v1"));
+        RestClient.Builder builder = RestClient.builder()
+                .baseUrl("http://localhost")
+                .requestInterceptor(new BackendCallMetricsInterceptor(meterRegistry, routeTemplate))
+                .requestInterceptor(failure);
+        MockRestServiceServer.bindTo(builder).build();
+        return builder.build();
+    }
+}
@@ -0,0 +1,99 @@
+package apu.saerok_admin.infra.report;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import apu.saerok_admin.infra.report.dto.ReportedCollectionDetailResponse;
+import apu.saerok_admin.security.LoginSessionManager;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.client.ResourceAccessException;
+
+@ExtendWith(MockitoExtension.class)
+class ReportPrefetchCacheTest {
+
+    private static final Instant NOW = Instant.parse("2024-06-01T12:00:00Z");
+
+    @Mock
+    private AdminReportClient adminReportClient;
+
+    @Mock
+    private LoginSessionManager loginSessionManager;
+
+    @Mock
+    private Clock clock;
+
+    private ReportPrefetchCache cache;
+
+    @BeforeEach
+    void setUp() {
+        when(clock.instant()).thenReturn(NOW);
+        when(loginSessionManager.currentAccessToken()).thenReturn(Optional.of("access-token"));
+        cache = new ReportPrefetchCache(
+                adminReportClient,
+                loginSessionManager,
+                new ReportPrefetchProps(true, 1, Duration.ofSeconds(30), Duration.ofSeconds(2), 10, 2),
+                clock
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        cache.destroy();
+    }
+
+    @Test
+    void servesThePrefetchedDetailOnlyOnce() {
+        ReportedCollectionDetailResponse detail = new ReportedCollectionDetailResponse(7L, null, null);
+        when(loginSessionManager.currentSessionId()).thenReturn(Optional.of("session-a"));
+        when(adminReportClient.getCollectionReportDetail(7L)).thenReturn(detail);
+
+        cache.prefetchCollectionDetail(7L);
+        cache.prefetchCollectionDetail(7L);
+
+        assertThat(cache.takeCollectionDetail(7L)).contains(detail);
+        assertThat(cache.takeCollectionDetail(7L)).isEmpty();
+        verify(adminReportClient, times(1)).getCollectionReportDetail(7L);
+    }
+
+    @Test
+    void keepsEntriesPerSession() {
+        when(loginSessionManager.currentSessionId())
+                .thenReturn(Optional.of("session-a"))
+                .thenReturn(Optional.of("session-b"));
+
+        cache.prefetchCommentDetail(3L);
+
+        assertThat(cache.takeCommentDetail(3L)).isEmpty();
+    }
+
+    @Test
+    void fallsBackWhenThePrefetchFailed() {
+        when(loginSessionManager.currentSessionId()).thenReturn(Optional.of("session-a"));
+        when(adminReportClient.getCommentReportDetail(3L)).thenThrow(new ResourceAccessException("backend down"));
+
+        cache.prefetchCommentDetail(3L);
+
+        assertThat(cache.takeCommentDetail(3L)).isEmpty();
+    }
+
+    @Test
+    void dropsEntriesOlderThanTheTtl() {
+        when(loginSessionManager.currentSessionId()).thenReturn(Optional.of("session-a"));
+
+        cache.prefetchCommentDetail(3L);
+        when(clock.instant()).thenReturn(NOW.plusSeconds(31));
+
+        assertThat(cache.takeCommentDetail(3L)).isEmpty();
+    }
+}
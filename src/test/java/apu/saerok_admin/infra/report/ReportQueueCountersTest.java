@@ -0,0 +1,141 @@
+package apu.saerok_admin.infra.report;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import apu.saerok_admin.infra.auth.DelegatedAccessToken;
+import apu.saerok_admin.security.LoginSessionManager;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ReportQueueCountersTest {
+
+    private static final Instant NOW = Instant.parse("2024-06-01T12:00:00Z");
+
+    @Mock
+    private ReportSnapshotCache reportSnapshotCache;
+
+    @Mock
+    private LoginSessionManager loginSessionManager;
+
+    @Mock
+    private Clock clock;
+
+    private ReportQueueCounters counters;
+
+    @BeforeEach
+    void setUp() {
+        counters = new ReportQueueCounters(
+                reportSnapshotCache,
+                loginSessionManager,
+                new ReportQueueCounterProps(true, Duration.ofSeconds(60)),
+                clock
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        counters.destroy();
+    }
+
+    @Test
+    void countsFromTheReportSnapshotOnFirstReadAndServesStoredCountsAfterwards() {
+        when(loginSessionManager.currentSharingScope()).thenReturn(Optional.of("role:ADMIN_EDITOR"));
+        when(clock.instant()).thenReturn(NOW);
+        when(reportSnapshotCache.tallyCollectionReports()).thenReturn(Optional.of(new ReportIndex.Tally(3, false, NOW)));
+        when(reportSnapshotCache.tallyCommentReports()).thenReturn(Optional.of(new ReportIndex.Tally(2, true, NOW)));
+
+        ReportQueueCounters.Snapshot first = counters.read();
+        ReportQueueCounters.Snapshot second = counters.read();
+
+        assertThat(first.collections()).isEqualTo(new ReportQueueCounters.Count(3, false, NOW));
+        assertThat(first.comments()).isEqualTo(new ReportQueueCounters.Count(2, true, NOW));
+        assertThat(second).isEqualTo(first);
+        verify(reportSnapshotCache, times(1)).tallyCollectionReports();
+        verify(loginSessionManager, never()).currentAccessToken();
+    }
+
+    @Test
+    void keepsSeparateCountsForEachRoleScope() {
+        when(loginSessionManager.currentSharingScope())
+                .thenReturn(Optional.of("role:ADMIN_EDITOR"))
+                .thenReturn(Optional.of("role:ADMIN_VIEWER"))
+                .thenReturn(Optional.of("role:ADMIN_EDITOR"));
+        when(clock.instant()).thenReturn(NOW);
+        when(reportSnapshotCache.tallyCollectionReports())
+                .thenReturn(Optional.of(new ReportIndex.Tally(3, false, NOW)))
+                .thenReturn(Optional.of(new ReportIndex.Tally(1, false, NOW)));
+        when(reportSnapshotCache.tallyCommentReports()).thenReturn(Optional.of(new ReportIndex.Tally(2, false, NOW)));
+
+        assertThat(counters.read().collections().value()).isEqualTo(3);
+        assertThat(counters.read().collections().value()).isEqualTo(1);
+        assertThat(counters.read().collections().value()).isEqualTo(3);
+        verify(reportSnapshotCache, times(2)).tallyCollectionReports();
+    }
+
+    @Test
+    void recountsStaleCountsInTheBackgroundWithTheScopeOfTheAdminWhoIsLooking() {
+        when(loginSessionManager.currentSharingScope()).thenReturn(Optional.of("role:ADMIN_EDITOR"));
+        AtomicReference<DelegatedAccessToken.Scope> delegatedScope = new AtomicReference<>();
+        when(reportSnapshotCache.tallyCollectionReports())
+                .thenReturn(Optional.of(new ReportIndex.Tally(3, false, NOW)))
+                .thenAnswer(invocation -> {
+                    delegatedScope.set(DelegatedAccessToken.currentScope().orElse(null));
+                    return Optional.of(new ReportIndex.Tally(5, false, NOW.plusSeconds(61)));
+                });
+        when(reportSnapshotCache.tallyCommentReports())
+                .thenReturn(Optional.of(new ReportIndex.Tally(2, false, NOW)))
+                .thenReturn(Optional.of(new ReportIndex.Tally(2, false, NOW.plusSeconds(61))));
+        counters.read();
+        when(clock.instant()).thenReturn(NOW.plusSeconds(61));
+        when(loginSessionManager.currentAccessToken()).thenReturn(Optional.of("token"));
+        when(loginSessionManager.currentRoleScope()).thenReturn(Optional.of("ADMIN_EDITOR"));
+        when(loginSessionManager.currentAccessTokenFingerprint()).thenReturn(Optional.of("fp"));
+
+        ReportQueueCounters.Snapshot stale = counters.read();
+
+        assertThat(stale.collections().value()).isEqualTo(3);
+        verify(reportSnapshotCache, timeout(1_000).times(2)).tallyCommentReports();
+        assertThat(counters.read().collections().value()).isEqualTo(5);
+        assertThat(delegatedScope.get()).isEqualTo(new DelegatedAccessToken.Scope("ADMIN_EDITOR", "fp"));
+    }
+
+    @Test
+    void keepsThePreviousCountWhenTheSnapshotCannotBeLoaded() {
+        when(loginSessionManager.currentSharingScope()).thenReturn(Optional.of("role:ADMIN_EDITOR"));
+        when(reportSnapshotCache.tallyCollectionReports()).thenReturn(Optional.empty());
+        when(reportSnapshotCache.tallyCommentReports()).thenReturn(Optional.of(new ReportIndex.Tally(2, false, NOW)));
+
+        ReportQueueCounters.Snapshot snapshot = counters.read();
+
+        assertThat(snapshot.collections()).isNull();
+        assertThat(snapshot.comments().value()).isEqualTo(2);
+    }
+
+    @Test
+    void leavesStaleCountsAloneWithoutARequestingToken() {
+        when(loginSessionManager.currentSharingScope()).thenReturn(Optional.of("role:ADMIN_EDITOR"));
+        when(reportSnapshotCache.tallyCollectionReports()).thenReturn(Optional.of(new ReportIndex.Tally(3, false, NOW)));
+        when(reportSnapshotCache.tallyCommentReports()).thenReturn(Optional.of(new ReportIndex.Tally(2, false, NOW)));
+        counters.read();
+        when(clock.instant()).thenReturn(NOW.plusSeconds(61));
+        when(loginSessionManager.currentAccessToken()).thenReturn(Optional.empty());
+
+        assertThat(counters.read().collections().value()).isEqualTo(3);
+        verify(reportSnapshotCache, times(1)).tallyCollectionReports();
+    }
+}
@@ -0,0 +1,194 @@
+package apu.saerok_admin.infra.report;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import apu.saerok_admin.infra.http.StreamedList;
+import apu.saerok_admin.infra.report.dto.ReportedCollectionListResponse;
+import apu.saerok_admin.security.LoginSessionManager;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.client.ResourceAccessException;
+
+@ExtendWith(MockitoExtension.class)
+class ReportSnapshotCacheTest {
+
+    private static final Instant NOW = Instant.parse("2024-06-01T12:00:00Z");
+
+    @Mock
+    private AdminReportClient adminReportClient;
+
+    @Mock
+    private LoginSessionManager loginSessionManager;
+
+    @Mock
+    private Clock clock;
+
+    private ReportSnapshotCache cache;
+
+    @BeforeEach
+    void setUp() {
+        when(clock.instant()).thenReturn(NOW);
+        when(loginSessionManager.currentSharingScope()).thenReturn(Optional.of("role:ADMIN_EDITOR"));
+        cache = new ReportSnapshotCache(
+                adminReportClient,
+                loginSessionManager,
+                new ReportSnapshotProps(true, Duration.ofSeconds(30), Duration.ofSeconds(5)),
+                clock
+        );
+    }
+
+    @Test
+    void servesLookupsFromTheListLoadedByTheListPage() {
+        when(adminReportClient.<ReportedCollectionListResponse.Item>streamCollectionReports(eq("snapshot"), any()))
+                .thenReturn(list(item(1L), item(2L)));
+
+        cache.loadCollectionReports();
+
+        assertThat(cache.findCollectionReport(2L)).contains(item(2L));
+        assertThat(cache.findCollectionReport(1L)).contains(item(1L));
+        verify(adminReportClient, times(1)).streamCollectionReports(eq("snapshot"), any());
+    }
+
+    @Test
+    void keepsTheNewerSnapshotWhenAnOlderReloadFinishesLast() {
+        when(clock.instant()).thenReturn(NOW, NOW.plusSeconds(1));
+        when(adminReportClient.<ReportedCollectionListResponse.Item>streamCollectionReports(eq("snapshot"), any()))
+                .thenAnswer(invocation -> {
+                    // 이 다운로드가 끝나기 전에 나중에 시작한 다운로드가 먼저 끝난다.
+                    cache.loadCollectionReports();
+                    return list(item(1L));
+                })
+                .thenReturn(list(item(1L), item(2L)));
+
+        StreamedList<ReportedCollectionListResponse.Item> slow = cache.loadCollectionReports();
+
+        assertThat(slow.items()).containsExactly(item(2L), item(1L));
+        assertThat(cache.findCollectionReport(2L)).contains(item(2L));
+        verify(adminReportClient, times(2)).streamCollectionReports(eq("snapshot"), any());
+    }
+
+    @Test
+    void reloadsAfterModerationMarksTheSnapshotDirty() {
+        when(adminReportClient.<ReportedCollectionListResponse.Item>streamCollectionReports(eq("snapshot"), any()))
+                .thenReturn(list(item(1L), item(2L)))
+                .thenReturn(list(item(2L)));
+        cache.loadCollectionReports();
+
+        cache.markDirty();
+
+        assertThat(cache.findCollectionReport(1L)).isEmpty();
+        verify(adminReportClient, times(2)).streamCollectionReports(eq("snapshot"), any());
+    }
+
+    @Test
+    void retriesMissesOnlyAfterTheMissRefreshInterval() {
+        when(adminReportClient.<ReportedCollectionListResponse.Item>streamCollectionReports(eq("snapshot"), any()))
+                .thenReturn(list(item(1L)))
+                .thenReturn(list(item(1L), item(3L)));
+        cache.loadCollectionReports();
+
+        assertThat(cache.findCollectionReport(3L)).isEmpty();
+
+        when(clock.instant()).thenReturn(NOW.plusSeconds(6));
+        assertThat(cache.findCollectionReport(3L)).contains(item(3L));
+        verify(adminReportClient, times(2)).streamCollectionReports(eq("snapshot"), any());
+    }
+
+    @Test
+    void keepsServingTheOldSnapshotWhenRefreshFails() {
+        when(adminReportClient.<ReportedCollectionListResponse.Item>streamCollectionReports(eq("snapshot"), any()))
+                .thenReturn(list(item(1L)))
+                .thenThrow(new ResourceAccessException("backend down"));
+        cache.loadCollectionReports();
+
+        when(clock.instant()).thenReturn(NOW.plusSeconds(60));
+
+        assertThat(cache.findCollectionReport(1L)).contains(item(1L));
+        verify(adminReportClient, never()).streamCommentReports(eq("snapshot"), any());
+    }
+
+    @Test
+    void keepsTheSnapshotInLatestFirstOrder() {
+        when(adminReportClient.<ReportedCollectionListResponse.Item>streamCollectionReports(eq("snapshot"), any()))
+                .thenReturn(list(item(1L, 10), item(2L, 12), item(3L, 11)));
+
+        assertThat(cache.loadCollectionReports().items())
+                .extracting(ReportedCollectionListResponse.Item::reportId)
+                .containsExactly(2L, 3L, 1L);
+        assertThat(cache.collectionReports().items())
+                .extracting(ReportedCollectionListResponse.Item::reportId)
+                .containsExactly(2L, 3L, 1L);
+    }
+
+    @Test
+    void picksWriteTargetsFromAFreshListRatherThanTheSnapshot() {
+        when(adminReportClient.<ReportedCollectionListResponse.Item>streamCollectionReports(eq("snapshot"), any()))
+                .thenReturn(list(item(1L), item(2L)))
+                .thenReturn(list(item(2L)));
+        cache.loadCollectionReports();
+
+        assertThat(cache.reloadCollectionReports(List.of(1L, 2L))).containsOnlyKeys(2L);
+        assertThat(cache.findCollectionReport(1L)).isEmpty();
+        verify(adminReportClient, times(2)).streamCollectionReports(eq("snapshot"), any());
+    }
+
+    @Test
+    void keepsASeparateSnapshotForEachRoleScope() {
+        when(adminReportClient.<ReportedCollectionListResponse.Item>streamCollectionReports(eq("snapshot"), any()))
+                .thenReturn(list(item(1L), item(2L)))
+                .thenReturn(list(item(1L)));
+        cache.loadCollectionReports();
+
+        when(loginSessionManager.currentSharingScope()).thenReturn(Optional.of("role:ADMIN_VIEWER"));
+
+        assertThat(cache.collectionReports().items())
+                .extracting(ReportedCollectionListResponse.Item::reportId)
+                .containsExactly(1L);
+        verify(adminReportClient, times(2)).streamCollectionReports(eq("snapshot"), any());
+    }
+
+    @Test
+    void doesNotKeepASnapshotWithoutALoginSession() {
+        when(loginSessionManager.currentSharingScope()).thenReturn(Optional.empty());
+        when(adminReportClient.<ReportedCollectionListResponse.Item>streamCollectionReports(eq("snapshot"), any()))
+                .thenReturn(list(item(1L)));
+
+        cache.loadCollectionReports();
+        cache.findCollectionReport(1L);
+
+        verify(adminReportClient, times(2)).streamCollectionReports(eq("snapshot"), any());
+    }
+
+    private static StreamedList<ReportedCollectionListResponse.Item> list(ReportedCollectionListResponse.Item... items) {
+        return new StreamedList<>(List.of(items), items.length, false);
+    }
+
+    private static ReportedCollectionListResponse.Item item(Long reportId) {
+        return item(reportId, 12);
+    }
+
+    private static ReportedCollectionListResponse.Item item(Long reportId, int hour) {
+        return new ReportedCollectionListResponse.Item(
+                reportId,
+                LocalDateTime.of(2024, 6, 1, hour, 0),
+                10L,
+                null,
+                null
+        );
+    }
+}
@@ -0,0 +1,75 @@
+package apu.saerok_admin.infra.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+
+@ExtendWith(MockitoExtension.class)
+class BackendResilienceInterceptorTest {
+
+    @Mock
+    private HttpRequest request;
+
+    @Mock
+    private ClientHttpRequestExecution execution;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @AfterEach
+    void clearInterrupt() {
+        Thread.interrupted();
+    }
+
+    @Test
+    void appliesPerGroupOverridesOnTopOfTheDefaults() {
+        BackendResilienceProps props = props(Map.of(
+                BackendApiGroup.HEALTH, new BackendResilienceProps.Group(null, null, null, null, null, 2, Duration.ZERO)
+        ));
+
+        new BackendResilienceInterceptor(props, meterRegistry);
+
+        assertThat(props.forGroup(BackendApiGroup.HEALTH).maxConcurrentCalls()).isEqualTo(2);
+        assertThat(props.forGroup(BackendApiGroup.HEALTH).maxWait()).isZero();
+        assertThat(props.forGroup(BackendApiGroup.HEALTH).failureRateThreshold()).isEqualTo(50);
+        assertThat(props.forGroup(BackendApiGroup.REPORTS)).isSameAs(props);
+        assertThat(available(BackendApiGroup.HEALTH)).isEqualTo(2.0);
+        assertThat(available(BackendApiGroup.REPORTS)).isEqualTo(48.0);
+    }
+
+    @Test
+    void interruptWhileWaitingIsNotCountedAsBulkheadFull() {
+        when(request.getURI()).thenReturn(URI.create("http://localhost/api/v1/admin/reports/collections"));
+        BackendResilienceInterceptor interceptor = new BackendResilienceInterceptor(props(null), meterRegistry);
+        Thread.currentThread().interrupt();
+
+        assertThatThrownBy(() -> interceptor.intercept(request, new byte[0], execution))
+                .isInstanceOf(InterruptedIOException.class);
+
+        assertThat(Thread.currentThread().isInterrupted()).isTrue();
+        assertThat(meterRegistry.find("saerok.backend.circuit.rejected").counters()).isEmpty();
+        assertThat(available(BackendApiGroup.REPORTS)).isEqualTo(48.0);
+        verifyNoInteractions(execution);
+    }
+
+    private double available(BackendApiGroup group) {
+        return meterRegistry.get("saerok.backend.bulkhead.available").tag("group", group.tag()).gauge().value();
+    }
+
+    private static BackendResilienceProps props(Map<BackendApiGroup, BackendResilienceProps.Group> groups) {
+        return new BackendResilienceProps(true, null, null, null, null, null, null, Duration.ofSeconds(1), groups);
+    }
+}
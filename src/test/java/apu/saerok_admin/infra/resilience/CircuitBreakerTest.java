@@ -0,0 +1,60 @@
+package apu.saerok_admin.infra.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+class CircuitBreakerTest {
+
+    private static final long OPEN_NANOS = Duration.ofSeconds(30).toNanos();
+
+    private final CircuitBreaker breaker = new CircuitBreaker(
+            new BackendResilienceProps(true, 50, 4, 4, Duration.ofSeconds(30), 1, 4, Duration.ZERO, null)
+    );
+
+    @Test
+    void opensOnceFailureRateReachesThresholdAndRejectsCalls() {
+        breaker.onSuccess();
+        breaker.onSuccess();
+        breaker.onFailure(0L);
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+
+        breaker.onFailure(0L);
+
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquire(OPEN_NANOS - 1)).isFalse();
+    }
+
+    @Test
+    void halfOpensAfterOpenDurationAndClosesOnSuccessfulTrial() {
+        openBreaker();
+
+        assertThat(breaker.tryAcquire(OPEN_NANOS)).isTrue();
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        assertThat(breaker.tryAcquire(OPEN_NANOS)).isFalse();
+
+        breaker.onSuccess();
+
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(breaker.tryAcquire(OPEN_NANOS)).isTrue();
+    }
+
+    @Test
+    void reopensWhenTrialCallFails() {
+        openBreaker();
+        assertThat(breaker.tryAcquire(OPEN_NANOS)).isTrue();
+
+        breaker.onFailure(OPEN_NANOS);
+
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquire(OPEN_NANOS + 1)).isFalse();
+    }
+
+    private void openBreaker() {
+        for (int i = 0; i < 4; i++) {
+            breaker.onFailure(0L);
+        }
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+}
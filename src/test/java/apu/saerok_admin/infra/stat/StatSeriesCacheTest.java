@@ -0,0 +1,198 @@
+package apu.saerok_admin.infra.stat;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import apu.saerok_admin.infra.stat.dto.StatSeriesResponse;
+import apu.saerok_admin.security.LoginSessionManager;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.client.RestClientException;
+
+@ExtendWith(MockitoExtension.class)
+class StatSeriesCacheTest {
+
+    private static final List<StatMetric> METRICS = List.of(StatMetric.USER_DAU);
+    private static final LocalDate START = LocalDate.of(2024, 6, 8);
+    private static final LocalDate TODAY = LocalDate.of(2024, 6, 10);
+
+    @Mock
+    private AdminStatClient adminStatClient;
+
+    @Mock
+    private LoginSessionManager loginSessionManager;
+
+    private MutableClock clock;
+    private StatSeriesCache cache;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2024-06-10T03:00:00Z"));
+        cache = new StatSeriesCache(adminStatClient, loginSessionManager, new StatSeriesCacheProps(true, Duration.ofMinutes(5), 1, Duration.ofMinutes(10)), clock);
+    }
+
+    @Test
+    void refetchesOnlyTheOpenDayOnceItsTtlExpires() {
+        when(loginSessionManager.currentSharingScope()).thenReturn(Optional.of("role:ADMIN_EDITOR"));
+        when(adminStatClient.fetchSeries(METRICS, START, TODAY))
+                .thenReturn(series(Map.of(START, 1, START.plusDays(1), 2, TODAY, 3)));
+        when(adminStatClient.fetchSeries(METRICS, TODAY, TODAY))
+                .thenReturn(series(Map.of(TODAY, 5)));
+
+        assertThat(values(cache.fetchSeries(METRICS, START, TODAY))).containsExactly(1.0, 2.0, 3.0);
+        assertThat(values(cache.fetchSeries(METRICS, START, TODAY))).containsExactly(1.0, 2.0, 3.0);
+
+        clock.advance(Duration.ofMinutes(10));
+        assertThat(values(cache.fetchSeries(METRICS, START, TODAY))).containsExactly(1.0, 2.0, 5.0);
+
+        verify(adminStatClient).fetchSeries(METRICS, START, TODAY);
+        verify(adminStatClient).fetchSeries(METRICS, TODAY, TODAY);
+        verifyNoMoreInteractions(adminStatClient);
+    }
+
+    @Test
+    void fetchesOnlyMissingDaysWhenRangeWidens() {
+        when(loginSessionManager.currentSharingScope()).thenReturn(Optional.of("role:ADMIN_EDITOR"));
+        when(adminStatClient.fetchSeries(METRICS, START, TODAY))
+                .thenReturn(series(Map.of(START, 1, START.plusDays(1), 2, TODAY, 3)));
+        when(adminStatClient.fetchSeries(METRICS, START.minusDays(2), START.minusDays(1)))
+                .thenReturn(series(Map.of(START.minusDays(2), 7)));
+
+        cache.fetchSeries(METRICS, START, TODAY);
+        StatSeriesResponse widened = cache.fetchSeries(METRICS, START.minusDays(2), TODAY);
+
+        assertThat(values(widened)).containsExactly(7.0, 1.0, 2.0, 3.0);
+    }
+
+    @Test
+    void servesCachedSegmentsWhenRevalidationFails() {
+        when(loginSessionManager.currentSharingScope()).thenReturn(Optional.of("role:ADMIN_EDITOR"));
+        when(adminStatClient.fetchSeries(METRICS, START, TODAY))
+                .thenReturn(series(Map.of(START, 1, START.plusDays(1), 2, TODAY, 3)));
+        when(adminStatClient.fetchSeries(METRICS, TODAY, TODAY))
+                .thenThrow(new RestClientException("backend down"));
+
+        cache.fetchSeries(METRICS, START, TODAY);
+        clock.advance(Duration.ofMinutes(10));
+
+        assertThat(values(cache.fetchSeries(METRICS, START, TODAY))).containsExactly(1.0, 2.0, 3.0);
+    }
+
+    @Test
+    void refetchesADayFetchedBeforeMidnightOnceItSettles() {
+        when(loginSessionManager.currentSharingScope()).thenReturn(Optional.of("role:ADMIN_EDITOR"));
+        // 2024-06-10 23:50 (KST) 에 받은 6/10 값은 아직 확정 전이다.
+        clock = new MutableClock(Instant.parse("2024-06-10T14:50:00Z"));
+        cache = new StatSeriesCache(adminStatClient, loginSessionManager, new StatSeriesCacheProps(true, Duration.ofHours(1), 1, Duration.ofMinutes(10)), clock);
+        when(adminStatClient.fetchSeries(METRICS, START, TODAY))
+                .thenReturn(series(Map.of(START, 1, START.plusDays(1), 2, TODAY, 3)));
+        when(adminStatClient.fetchSeries(METRICS, TODAY, TODAY))
+                .thenReturn(series(Map.of(TODAY, 9)));
+
+        cache.fetchSeries(METRICS, START, TODAY);
+
+        // 자정 직후에는 확정 여유 시간이 지나지 않았고 TTL 도 남아 있으므로 그대로 쓴다.
+        clock.advance(Duration.ofMinutes(15));
+        assertThat(values(cache.fetchSeries(METRICS, START, TODAY))).containsExactly(1.0, 2.0, 3.0);
+
+        // 00:10 이 지나면 TTL 과 상관없이 6/10 을 한 번 다시 받고, 그 뒤로는 확정된 값으로 계속 쓴다.
+        clock.advance(Duration.ofMinutes(10));
+        assertThat(values(cache.fetchSeries(METRICS, START, TODAY))).containsExactly(1.0, 2.0, 9.0);
+        clock.advance(Duration.ofHours(3));
+        assertThat(values(cache.fetchSeries(METRICS, START, TODAY))).containsExactly(1.0, 2.0, 9.0);
+
+        verify(adminStatClient).fetchSeries(METRICS, START, TODAY);
+        verify(adminStatClient).fetchSeries(METRICS, TODAY, TODAY);
+        verifyNoMoreInteractions(adminStatClient);
+    }
+
+    @Test
+    void keepsSeparateSegmentsForEachRoleScope() {
+        when(loginSessionManager.currentSharingScope())
+                .thenReturn(Optional.of("role:ADMIN_EDITOR"))
+                .thenReturn(Optional.of("role:ADMIN_VIEWER"))
+                .thenReturn(Optional.of("role:ADMIN_EDITOR"));
+        when(adminStatClient.fetchSeries(METRICS, START, TODAY))
+                .thenReturn(series(Map.of(START, 1, START.plusDays(1), 2, TODAY, 3)))
+                .thenReturn(series(Map.of(START, 4, START.plusDays(1), 5, TODAY, 6)));
+
+        assertThat(values(cache.fetchSeries(METRICS, START, TODAY))).containsExactly(1.0, 2.0, 3.0);
+        assertThat(values(cache.fetchSeries(METRICS, START, TODAY))).containsExactly(4.0, 5.0, 6.0);
+        assertThat(values(cache.fetchSeries(METRICS, START, TODAY))).containsExactly(1.0, 2.0, 3.0);
+
+        verify(adminStatClient, times(2)).fetchSeries(METRICS, START, TODAY);
+        verifyNoMoreInteractions(adminStatClient);
+    }
+
+    @Test
+    void skipsTheCacheWithoutALoginSession() {
+        when(loginSessionManager.currentSharingScope()).thenReturn(Optional.empty());
+        when(adminStatClient.fetchSeries(METRICS, START, TODAY))
+                .thenReturn(series(Map.of(START, 1, START.plusDays(1), 2, TODAY, 3)));
+
+        cache.fetchSeries(METRICS, START, TODAY);
+        cache.fetchSeries(METRICS, START, TODAY);
+
+        verify(adminStatClient, times(2)).fetchSeries(METRICS, START, TODAY);
+    }
+
+    private static StatSeriesResponse series(Map<LocalDate, Integer> values) {
+        Map<LocalDate, Integer> sorted = new LinkedHashMap<>();
+        values.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .forEach(entry -> sorted.put(entry.getKey(), entry.getValue()));
+        List<StatSeriesResponse.Point> points = sorted.entrySet().stream()
+                .map(entry -> new StatSeriesResponse.Point(entry.getKey(), entry.getValue()))
+                .toList();
+        return new StatSeriesResponse(List.of(new StatSeriesResponse.Series(StatMetric.USER_DAU.name(), points, List.of())));
+    }
+
+    private static List<Double> values(StatSeriesResponse response) {
+        return response.series().get(0).points().stream()
+                .map(point -> point.value().doubleValue())
+                .toList();
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneId.of("Asia/Seoul");
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return Clock.fixed(instant, zone);
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
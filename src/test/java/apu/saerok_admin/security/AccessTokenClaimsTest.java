@@ -0,0 +1,50 @@
+package apu.saerok_admin.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import org.junit.jupiter.api.Test;
+
+class AccessTokenClaimsTest {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    @Test
+    void readsTheExpiryFromTheTokenPayload() {
+        assertThat(AccessTokenClaims.expiresAt(jwt("{\"sub\":\"1\",\"exp\":1717243200}")))
+                .contains(Instant.ofEpochSecond(1_717_243_200L));
+    }
+
+    @Test
+    void returnsEmptyWhenTheExpiryIsMissing() {
+        assertThat(AccessTokenClaims.expiresAt(jwt("{\"sub\":\"1\"}"))).isEmpty();
+        assertThat(AccessTokenClaims.expiresAt(jwt("{\"sub\":\"1\",\"exp\":null}"))).isEmpty();
+    }
+
+    @Test
+    void returnsEmptyWhenTheExpiryIsNotANumber() {
+        assertThat(AccessTokenClaims.expiresAt(jwt("{\"exp\":\"tomorrow\"}"))).isEmpty();
+        assertThat(AccessTokenClaims.expiresAt(jwt("{\"exp\":{\"seconds\":1717243200}}"))).isEmpty();
+        assertThat(AccessTokenClaims.expiresAt(jwt("{\"exp\":1e40}"))).isEmpty();
+    }
+
+    @Test
+    void returnsEmptyForMalformedTokens() {
+        assertThat(AccessTokenClaims.expiresAt(null)).isEmpty();
+        assertThat(AccessTokenClaims.expiresAt("  ")).isEmpty();
+        assertThat(AccessTokenClaims.expiresAt("opaque-access-token")).isEmpty();
+        assertThat(AccessTokenClaims.expiresAt("header.%%%not-base64%%%.signature")).isEmpty();
+        assertThat(AccessTokenClaims.expiresAt("header." + encode("not json") + ".signature")).isEmpty();
+        assertThat(AccessTokenClaims.expiresAt("header." + encode("[1717243200]") + ".signature")).isEmpty();
+    }
+
+    private static String jwt(String payload) {
+        return encode("{\"alg\":\"HS256\"}") + "." + encode(payload) + ".signature";
+    }
+
+    private static String encode(String value) {
+        return ENCODER.encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,68 @@
+package apu.saerok_admin.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+class LoginSessionManagerTest {
+
+    private final LoginSessionManager loginSessionManager = new LoginSessionManager();
+    private MockHttpServletRequest request;
+
+    @BeforeEach
+    void setUp() {
+        request = new MockHttpServletRequest();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void storesSessionValuesOnlyForALoggedInSession() {
+        request.getSession(true);
+        loginSessionManager.storeSessionValue("key", "ignored");
+        assertThat(loginSessionManager.findSessionValue("key", String.class)).isEmpty();
+
+        loginSessionManager.establishSession(request, new LoginSession("token-a"));
+        loginSessionManager.storeSessionValue("key", "value");
+
+        assertThat(loginSessionManager.findSessionValue("key", String.class)).contains("value");
+        assertThat(loginSessionManager.findSessionValue("key", Integer.class)).isEmpty();
+    }
+
+    @Test
+    void dropsSessionValuesWhenTheAccessTokenIsRefreshed() {
+        loginSessionManager.establishSession(request, new LoginSession("token-a"));
+        loginSessionManager.storeSessionValue("key", "value");
+        loginSessionManager.storeRoleScope(List.of("ADMIN_VIEWER", "ADMIN_EDITOR"));
+        assertThat(loginSessionManager.currentRoleScope()).contains("ADMIN_EDITOR,ADMIN_VIEWER");
+
+        loginSessionManager.updateAccessToken("token-b");
+
+        assertThat(loginSessionManager.findSessionValue("key", String.class)).isEmpty();
+        assertThat(loginSessionManager.currentRoleScope()).isEmpty();
+        assertThat(loginSessionManager.currentAccessToken()).contains("token-b");
+    }
+
+    @Test
+    void dropsSessionValuesWhenTheSessionIsCleared() {
+        loginSessionManager.establishSession(request, new LoginSession("token-a"));
+        loginSessionManager.storeSessionValue("key", "value");
+
+        loginSessionManager.clearCurrentSession();
+
+        assertThat(loginSessionManager.findSessionValue("key", String.class)).isEmpty();
+        assertThat(loginSessionManager.currentAccessToken()).isEmpty();
+    }
+}
@@ -0,0 +1,117 @@
+package apu.saerok_admin.web;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.model;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import apu.saerok_admin.security.LoginSession;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+/**
+ * 광고 관리 화면은 광고·노출 스케줄·광고 위치 목록을 작업 스레드에서 한꺼번에 받는다.
+ * WireMock 백엔드에 붙여 한 목록이 실패해도 나머지 두 목록은 그려지는지, 작업 스레드의 호출에도 로그인한 관리자의
+ * 토큰이 붙는지 본다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class AdListPageTest {
+
+    private static final String ACCESS_TOKEN = "test-access-token";
+    private static final WireMockServer backend = new WireMockServer(0);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private MockHttpSession session;
+
+    @DynamicPropertySource
+    static void backendProperties(DynamicPropertyRegistry registry) {
+        if (!backend.isRunning()) {
+            backend.start();
+        }
+        registry.add("saerok.api.base-url", () -> "http://localhost:" + backend.port() + "/api/v1");
+    }
+
+    @AfterAll
+    static void stopBackend() {
+        backend.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        backend.resetAll();
+        backend.stubFor(get(urlPathEqualTo("/api/v1/user/me")).willReturn(json(
+                "{\"nickname\":\"관리자\",\"email\":\"admin@saerok.app\",\"roles\":[\"ADMIN_EDITOR\"]}")));
+        backend.stubFor(get(urlPathEqualTo("/api/v1/admin/ad/list")).willReturn(json(
+                "{\"items\":[{\"id\":1,\"name\":\"봄맞이 탐조 광고\",\"memo\":\"\",\"imageUrl\":\"https://cdn.saerok.app/ad/1.png\","
+                        + "\"contentType\":\"image/png\",\"targetUrl\":\"https://saerok.app\","
+                        + "\"createdAt\":\"2024-06-01T12:00:00+09:00\",\"updatedAt\":\"2024-06-01T12:00:00+09:00\"}]}")));
+        backend.stubFor(get(urlPathEqualTo("/api/v1/admin/ad/slot")).willReturn(json(
+                "{\"items\":[{\"id\":10,\"name\":\"HOME_BANNER\",\"memo\":\"홈 상단\",\"fallbackRatio\":0.2,\"ttlSeconds\":60,"
+                        + "\"createdAt\":\"2024-06-01T12:00:00+09:00\",\"updatedAt\":\"2024-06-01T12:00:00+09:00\"}]}")));
+        backend.stubFor(get(urlPathEqualTo("/api/v1/admin/ad/placement")).willReturn(aResponse()
+                .withStatus(500)
+                .withHeader("Content-Type", "application/json")
+                .withBody("{\"message\":\"placement lookup failed\"}")));
+
+        session = new MockHttpSession();
+        session.setAttribute(LoginSession.ATTRIBUTE_NAME, new LoginSession(ACCESS_TOKEN));
+    }
+
+    @Test
+    void rendersTheOtherListsWhenOneOfTheParallelCallsFails() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/ads")
+                        .session(session)
+                        .accept(MediaType.TEXT_HTML))
+                .andExpect(status().isOk())
+                .andExpect(model().attribute("ads", hasSize(1)))
+                .andExpect(model().attribute("adsLoadError", nullValue()))
+                .andExpect(model().attribute("slots", hasSize(1)))
+                .andExpect(model().attribute("slotsLoadError", nullValue()))
+                .andExpect(model().attribute("placementsLoadError", notNullValue()))
+                .andExpect(content().string(containsString("봄맞이 탐조 광고")))
+                .andExpect(content().string(containsString("광고 노출 스케줄을 불러오지 못했습니다.")));
+    }
+
+    @Test
+    void sendsTheAdminTokenFromEveryWorkerThread() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/ads")
+                        .session(session)
+                        .accept(MediaType.TEXT_HTML))
+                .andExpect(status().isOk());
+
+        for (String path : new String[]{"/api/v1/admin/ad/list", "/api/v1/admin/ad/slot", "/api/v1/admin/ad/placement"}) {
+            backend.verify(getRequestedFor(urlPathEqualTo(path))
+                    .withHeader("Authorization", equalTo("Bearer " + ACCESS_TOKEN)));
+        }
+    }
+
+    private static ResponseDefinitionBuilder json(String body) {
+        return aResponse()
+                .withStatus(200)
+                .withHeader("Content-Type", "application/json")
+                .withBody(body);
+    }
+}
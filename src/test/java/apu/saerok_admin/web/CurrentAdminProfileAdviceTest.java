@@ -0,0 +1,97 @@
+package apu.saerok_admin.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import apu.saerok_admin.infra.CurrentAdminClient;
+import apu.saerok_admin.web.view.CurrentAdminProfile;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+@ExtendWith(MockitoExtension.class)
+class CurrentAdminProfileAdviceTest {
+
+    private static final CurrentAdminProfile PROFILE =
+            new CurrentAdminProfile("운영자", "admin@saerok.app", null, List.of("운영자"), List.of("ADMIN_EDITOR"));
+
+    @Mock
+    private CurrentAdminClient currentAdminClient;
+
+    @Test
+    void loadsTheProfileForPageRequests() throws Exception {
+        when(currentAdminClient.fetchCurrentAdminProfile()).thenReturn(Optional.of(PROFILE));
+        MockHttpServletRequest request = requestFor("page");
+
+        assertThat(advice().currentAdminProfile(request)).isEqualTo(PROFILE);
+        verify(currentAdminClient).fetchCurrentAdminProfile();
+    }
+
+    @Test
+    void skipsTheProfileForJsonHandlers() throws Exception {
+        MockHttpServletRequest request = requestFor("json");
+
+        assertThat(advice().currentAdminProfile(request)).isEqualTo(CurrentAdminProfile.placeholder());
+        verifyNoInteractions(currentAdminClient);
+    }
+
+    @Test
+    void loadsTheProfileForJsonHandlersThatAskForIt() throws Exception {
+        when(currentAdminClient.fetchCurrentAdminProfile()).thenReturn(Optional.of(PROFILE));
+        MockHttpServletRequest request = requestFor("jsonWithProfile");
+
+        assertThat(advice().currentAdminProfile(request)).isEqualTo(PROFILE);
+    }
+
+    @Test
+    void skipsTheProfileForFragmentRequests() throws Exception {
+        MockHttpServletRequest request = requestFor("page");
+        request.addHeader("X-Requested-With", "XMLHttpRequest");
+
+        assertThat(advice().currentAdminProfile(request)).isEqualTo(CurrentAdminProfile.placeholder());
+        verifyNoInteractions(currentAdminClient);
+    }
+
+    private CurrentAdminProfileAdvice advice() {
+        return new CurrentAdminProfileAdvice(currentAdminClient);
+    }
+
+    private static MockHttpServletRequest requestFor(String methodName) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        Handlers handlers = new Handlers();
+        HandlerMethod handlerMethod = switch (methodName) {
+            case "jsonWithProfile" -> new HandlerMethod(handlers,
+                    Handlers.class.getMethod(methodName, CurrentAdminProfile.class));
+            default -> new HandlerMethod(handlers, Handlers.class.getMethod(methodName));
+        };
+        request.setAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE, handlerMethod);
+        return request;
+    }
+
+    static class Handlers {
+
+        public String page() {
+            return "dashboard/index";
+        }
+
+        @ResponseBody
+        public String json() {
+            return "{}";
+        }
+
+        @ResponseBody
+        public String jsonWithProfile(@ModelAttribute("currentAdminProfile") CurrentAdminProfile profile) {
+            return profile.nickname();
+        }
+    }
+}
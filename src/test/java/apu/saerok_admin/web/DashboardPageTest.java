@@ -0,0 +1,218 @@
+package apu.saerok_admin.web;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathMatching;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import apu.saerok_admin.security.LoginSession;
+import apu.saerok_admin.web.dashboard.DashboardCard;
+import apu.saerok_admin.web.view.DashboardMetric;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.web.client.ResourceAccessException;
+
+/**
+ * 대시보드 뼈대와 카드 조각({@code /dashboard/cards/{id}})을 WireMock 백엔드에 붙여 그려 본다.
+ * 제한 시간과 실패는 테스트용 카드로 재현한다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class DashboardPageTest {
+
+    private static final WireMockServer backend = new WireMockServer(0);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private MockHttpSession session;
+
+    @DynamicPropertySource
+    static void backendProperties(DynamicPropertyRegistry registry) {
+        if (!backend.isRunning()) {
+            backend.start();
+        }
+        registry.add("saerok.api.base-url", () -> "http://localhost:" + backend.port() + "/api/v1");
+    }
+
+    @AfterAll
+    static void stopBackend() {
+        backend.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        backend.resetAll();
+        backend.stubFor(get(urlPathEqualTo("/health")).willReturn(json("{\"status\":\"UP\"}")));
+        stubProfile("ADMIN_EDITOR");
+        backend.stubFor(get(urlPathEqualTo("/api/v1/admin/reports/collections")).willReturn(json(
+                "{\"items\":[{\"reportId\":1,\"reportedAt\":\"2024-06-01T12:00:00\",\"collectionId\":1001},"
+                        + "{\"reportId\":2,\"reportedAt\":\"2024-06-01T11:00:00\",\"collectionId\":1002}]}")));
+        backend.stubFor(get(urlPathEqualTo("/api/v1/admin/reports/comments")).willReturn(json(
+                "{\"items\":[{\"reportId\":101,\"reportedAt\":\"2024-06-01T10:00:00\",\"commentId\":5001,"
+                        + "\"collectionId\":1001}]}")));
+
+        session = new MockHttpSession();
+        session.setAttribute(LoginSession.ATTRIBUTE_NAME, new LoginSession("test-access-token"));
+    }
+
+    @Test
+    void rendersCardShellsWithoutLoadingTheCards() throws Exception {
+        mockMvc.perform(page("/"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("data-dashboard-card=\"/dashboard/cards/report-queue\"")))
+                .andExpect(content().string(containsString("data-dashboard-card=\"/dashboard/cards/slow-card\"")));
+
+        backend.verify(0, getRequestedFor(urlPathMatching("/api/v1/admin/reports/.*")));
+    }
+
+    @Test
+    void rendersTheReportQueueCard() throws Exception {
+        mockMvc.perform(page("/dashboard/cards/report-queue"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("접수된 신고")))
+                .andExpect(content().string(containsString("3건")))
+                .andExpect(content().string(containsString("새록 2건(방금 전) · 댓글 1건(방금 전)")));
+    }
+
+    @Test
+    void rendersTheReportQueueCardAsUnavailableWhenTheBackendFails() throws Exception {
+        // 카운터는 권한 조합별로 값을 남기므로 다른 테스트가 남긴 값을 보지 않도록 권한을 바꾼다.
+        stubProfile("ADMIN_VIEWER");
+        session.setAttribute(LoginSession.ATTRIBUTE_NAME, new LoginSession("viewer-access-token"));
+        backend.stubFor(get(urlPathEqualTo("/api/v1/admin/reports/collections")).willReturn(aResponse().withStatus(500)));
+        backend.stubFor(get(urlPathEqualTo("/api/v1/admin/reports/comments")).willReturn(aResponse().withStatus(500)));
+
+        mockMvc.perform(page("/dashboard/cards/report-queue"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("정보 없음")))
+                .andExpect(content().string(containsString("신고 데이터를 불러오지 못했습니다.")));
+    }
+
+    @Test
+    void rejectsAnUnknownCard() throws Exception {
+        mockMvc.perform(page("/dashboard/cards/no-such-card"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void fallsBackToTheUnavailableCardWhenLoadingTakesTooLong() throws Exception {
+        mockMvc.perform(page("/dashboard/cards/slow-card"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("느린 카드")))
+                .andExpect(content().string(containsString("데이터를 불러오지 못했습니다.")));
+    }
+
+    @Test
+    void fallsBackToTheUnavailableCardWhenLoadingFails() throws Exception {
+        mockMvc.perform(page("/dashboard/cards/failing-card"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("실패하는 카드")))
+                .andExpect(content().string(containsString("데이터를 불러오지 못했습니다.")));
+    }
+
+    private void stubProfile(String role) {
+        backend.stubFor(get(urlPathEqualTo("/api/v1/user/me")).willReturn(json(
+                "{\"nickname\":\"관리자\",\"email\":\"admin@saerok.app\",\"roles\":[\"" + role + "\"]}")));
+    }
+
+    private MockHttpServletRequestBuilder page(String path) {
+        return MockMvcRequestBuilders.get(path)
+                .session(session)
+                .accept(MediaType.TEXT_HTML);
+    }
+
+    private static ResponseDefinitionBuilder json(String body) {
+        return aResponse()
+                .withStatus(200)
+                .withHeader("Content-Type", "application/json")
+                .withBody(body);
+    }
+
+    @TestConfiguration
+    static class TestCards {
+
+        @Bean
+        DashboardCard slowCard() {
+            return new TestCard("slow-card", "느린 카드") {
+                @Override
+                public Duration timeout() {
+                    return Duration.ofMillis(200);
+                }
+
+                @Override
+                public DashboardMetric load() {
+                    try {
+                        new CountDownLatch(1).await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException exception) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return new DashboardMetric(label(), "늦은 값", icon(), "primary", null, null);
+                }
+            };
+        }
+
+        @Bean
+        DashboardCard failingCard() {
+            return new TestCard("failing-card", "실패하는 카드") {
+                @Override
+                public DashboardMetric load() {
+                    throw new ResourceAccessException("backend down");
+                }
+            };
+        }
+    }
+
+    private abstract static class TestCard implements DashboardCard {
+
+        private final String id;
+        private final String label;
+
+        TestCard(String id, String label) {
+            this.id = id;
+            this.label = label;
+        }
+
+        @Override
+        public String id() {
+            return id;
+        }
+
+        @Override
+        public String label() {
+            return label;
+        }
+
+        @Override
+        public String icon() {
+            return "bi-bug";
+        }
+
+        @Override
+        public int order() {
+            return 100;
+        }
+    }
+}
@@ -0,0 +1,417 @@
+package apu.saerok_admin.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import apu.saerok_admin.infra.concurrent.BackendFanOutExecutor;
+import apu.saerok_admin.infra.concurrent.BackendFanOutProps;
+import apu.saerok_admin.infra.http.StreamedList;
+import apu.saerok_admin.infra.report.AdminReportClient;
+import apu.saerok_admin.infra.report.ReportBulkProps;
+import apu.saerok_admin.infra.report.ReportPrefetchCache;
+import apu.saerok_admin.infra.report.ReportSnapshotCache;
+import apu.saerok_admin.infra.report.dto.ReportedCollectionListResponse;
+import apu.saerok_admin.infra.report.dto.ReportedCommentListResponse;
+import apu.saerok_admin.web.view.BulkModerationResult;
+import apu.saerok_admin.web.view.ReportTargetGroup;
+import apu.saerok_admin.web.view.ReportType;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.ui.ExtendedModelMap;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.servlet.mvc.support.RedirectAttributesModelMap;
+
+@ExtendWith(MockitoExtension.class)
+class ReportControllerTest {
+
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2024, 6, 1, 12, 0);
+
+    @Mock
+    private AdminReportClient adminReportClient;
+
+    @Mock
+    private ReportSnapshotCache reportSnapshotCache;
+
+    @Mock
+    private ReportPrefetchCache reportPrefetchCache;
+
+    private BackendFanOutExecutor backendFanOutExecutor;
+    private ReportController controller;
+    private RedirectAttributesModelMap redirectAttributes;
+
+    @BeforeEach
+    void setUp() {
+        backendFanOutExecutor = new BackendFanOutExecutor(
+                new BackendFanOutProps(4, Duration.ofSeconds(2), Duration.ofSeconds(1)));
+        controller = new ReportController(
+                adminReportClient,
+                backendFanOutExecutor,
+                reportSnapshotCache,
+                reportPrefetchCache,
+                new ReportBulkProps(3, 2, Duration.ofSeconds(2))
+        );
+        redirectAttributes = new RedirectAttributesModelMap();
+    }
+
+    @AfterEach
+    void tearDown() {
+        backendFanOutExecutor.destroy();
+    }
+
+    @Test
+    void groupsReportsByTargetWithFirstLastAndDistinctReporterStats() {
+        when(reportSnapshotCache.loadCollectionReports()).thenReturn(streamed(
+                collectionReport(1L, 10L, 1L, 0),
+                collectionReport(2L, 10L, 1L, 2),
+                collectionReport(3L, 10L, 2L, 1),
+                collectionReport(4L, 20L, 3L, 5)
+        ));
+        when(reportSnapshotCache.loadCommentReports()).thenReturn(streamed(commentReport(7L, 50L, 4L, 3)));
+        ExtendedModelMap model = new ExtendedModelMap();
+
+        controller.list(null, "grouped", null, null, null, null, model);
+
+        @SuppressWarnings("unchecked")
+        List<ReportTargetGroup> groups = (List<ReportTargetGroup>) model.get("reportGroups");
+        assertThat(groups).extracting(ReportTargetGroup::type, ReportTargetGroup::targetId)
+                .containsExactly(
+                        tuple(ReportType.COLLECTION, 10L),
+                        tuple(ReportType.COMMENT, 50L),
+                        tuple(ReportType.COLLECTION, 20L)
+                );
+        ReportTargetGroup collection = groups.get(0);
+        assertThat(collection.reportCount()).isEqualTo(3);
+        assertThat(collection.distinctReporterCount()).isEqualTo(2);
+        assertThat(collection.firstReportedAt()).isEqualTo(BASE_TIME.minusHours(2));
+        assertThat(collection.lastReportedAt()).isEqualTo(BASE_TIME);
+        assertThat(collection.reportIds()).containsExactly(1L, 3L, 2L);
+        assertThat(collection.latestDetailPath()).isEqualTo("/reports/collections/1");
+        assertThat(collection.ignoreAllAction()).isEqualTo("/reports/targets/collections/10/ignore");
+        assertThat(model.get("filteredCount")).isEqualTo(3);
+    }
+
+    @Test
+    void servesLaterPagesFromTheSnapshotWithoutReloading() {
+        when(reportSnapshotCache.collectionReports()).thenReturn(streamed(
+                collectionReport(1L, 10L, 1L, 0),
+                collectionReport(4L, 20L, 3L, 5)
+        ));
+        when(reportSnapshotCache.commentReports()).thenReturn(streamed());
+        ExtendedModelMap model = new ExtendedModelMap();
+
+        controller.list(null, "grouped", 2, 1, "infinite", "rows", model);
+
+        @SuppressWarnings("unchecked")
+        List<ReportTargetGroup> groups = (List<ReportTargetGroup>) model.get("reportGroups");
+        assertThat(groups).extracting(ReportTargetGroup::targetId).containsExactly(20L);
+        verify(reportSnapshotCache, never()).loadCollectionReports();
+        verify(reportSnapshotCache, never()).loadCommentReports();
+    }
+
+    @Test
+    void ignoresEveryReportOnTheTarget() {
+        when(reportSnapshotCache.reloadCollectionReports(List.of(2L, 1L))).thenReturn(Map.of(
+                1L, collectionReport(1L, 10L, 1L, 0),
+                2L, collectionReport(2L, 10L, 2L, 1)
+        ));
+
+        String view = controller.ignoreCollectionTarget(10L, List.of(2L, 1L), null, redirectAttributes);
+
+        assertThat(view).isEqualTo("redirect:/reports?view=grouped");
+        verify(adminReportClient).ignoreCollectionReport(1L);
+        verify(adminReportClient).ignoreCollectionReport(2L);
+        verify(reportSnapshotCache).markDirty();
+        assertThat(redirectAttributes.getFlashAttributes())
+                .containsEntry("flashStatus", "success")
+                .containsEntry("flashMessage", "새록 #10에 대한 신고 2건을 무시 처리했습니다.");
+    }
+
+    @Test
+    void countsTargetIgnoresCutOffByTheWriteTimeoutAsUnknown() {
+        ReportController strict = new ReportController(
+                adminReportClient,
+                backendFanOutExecutor,
+                reportSnapshotCache,
+                reportPrefetchCache,
+                new ReportBulkProps(3, 2, Duration.ofSeconds(2), Duration.ofMillis(100))
+        );
+        when(reportSnapshotCache.reloadCollectionReports(List.of(1L, 2L))).thenReturn(Map.of(
+                1L, collectionReport(1L, 10L, 1L, 0),
+                2L, collectionReport(2L, 10L, 2L, 1)
+        ));
+        doAnswer(invocation -> {
+            Thread.sleep(5_000);
+            return null;
+        }).when(adminReportClient).ignoreCollectionReport(2L);
+
+        strict.ignoreCollectionTarget(10L, List.of(1L, 2L), null, redirectAttributes);
+
+        verify(adminReportClient).ignoreCollectionReport(1L);
+        assertThat(redirectAttributes.getFlashAttributes())
+                .containsEntry("flashStatus", "error")
+                .containsEntry("flashMessage", "새록 #10에 대한 신고 2건 중 1건만 무시 처리했습니다. 1건은 처리 여부를 확인하지 못했습니다.");
+    }
+
+    @Test
+    void rejectsTargetActionsThatIncludeReportsOnAnotherTarget() {
+        when(reportSnapshotCache.reloadCollectionReports(List.of(1L, 9L))).thenReturn(Map.of(
+                1L, collectionReport(1L, 10L, 1L, 0),
+                9L, collectionReport(9L, 99L, 1L, 0)
+        ));
+
+        controller.ignoreCollectionTarget(10L, List.of(1L, 9L), null, redirectAttributes);
+
+        verify(adminReportClient, never()).ignoreCollectionReport(anyLong());
+        assertThat(redirectAttributes.getFlashAttributes()).containsEntry("flashStatus", "error");
+    }
+
+    @Test
+    void rejectsTargetActionsThatIncludeReportsMissingFromTheReloadedList() {
+        when(reportSnapshotCache.reloadCommentReports(List.of(7L))).thenReturn(Map.of());
+
+        controller.deleteCommentTarget(50L, List.of(7L), null, "스팸", redirectAttributes);
+
+        verify(adminReportClient, never()).deleteCommentByReport(anyLong(), anyString());
+        assertThat(redirectAttributes.getFlashAttributes()).containsEntry("flashStatus", "error");
+    }
+
+    @Test
+    void leavesTheTargetAloneWhenItsReportsCannotBeChecked() {
+        when(reportSnapshotCache.reloadCollectionReports(List.of(1L))).thenThrow(new ResourceAccessException("backend down"));
+
+        controller.ignoreCollectionTarget(10L, List.of(1L), null, redirectAttributes);
+
+        verify(adminReportClient, never()).ignoreCollectionReport(anyLong());
+        assertThat(redirectAttributes.getFlashAttributes())
+                .containsEntry("flashStatus", "error")
+                .containsEntry("flashMessage", "신고 목록을 확인하지 못해 처리하지 않았습니다. 잠시 후 다시 시도해주세요.");
+    }
+
+    @Test
+    void deletesTheTargetThroughItsNewestReportWhateverTheFormOrder() {
+        when(reportSnapshotCache.reloadCollectionReports(List.of(1L, 2L))).thenReturn(Map.of(
+                1L, collectionReport(1L, 10L, 1L, 3),
+                2L, collectionReport(2L, 10L, 2L, 0)
+        ));
+
+        controller.deleteCollectionTarget(10L, List.of(1L, 2L), null, " 부적절한 사진 ", redirectAttributes);
+
+        verify(adminReportClient).deleteCollectionByReport(2L, "부적절한 사진");
+        verify(adminReportClient, never()).deleteCollectionByReport(1L, "부적절한 사진");
+        assertThat(redirectAttributes.getFlashAttributes()).containsEntry("flashStatus", "success");
+    }
+
+    @Test
+    void requiresAReasonBeforeDeletingATarget() {
+        controller.deleteCollectionTarget(10L, List.of(1L), null, "  ", redirectAttributes);
+
+        verify(adminReportClient, never()).deleteCollectionByReport(anyLong(), anyString());
+        assertThat(redirectAttributes.getFlashAttributes())
+                .containsEntry("flashMessage", "삭제 사유를 입력해주세요.");
+    }
+
+    @Test
+    void parsesSelectedReportKeysAndSkipsMalformedOnes() {
+        String view = controller.ignoreSelected(
+                List.of("collection:1", " Comments : 2 ", "collections:1", "bird:3", "comment:x", "", ":4", "5"),
+                null,
+                redirectAttributes
+        );
+
+        assertThat(view).isEqualTo("redirect:/reports");
+        verify(adminReportClient).ignoreCollectionReport(1L);
+        verify(adminReportClient).ignoreCommentReport(2L);
+        assertThat(bulkResult().items())
+                .extracting(BulkModerationResult.Item::type, BulkModerationResult.Item::reportId)
+                .containsExactly(tuple(ReportType.COLLECTION, 1L), tuple(ReportType.COMMENT, 2L));
+        assertThat(redirectAttributes.getFlashAttributes())
+                .containsEntry("flashStatus", "success")
+                .containsEntry("flashMessage", "신고 2건을 무시 처리했습니다.");
+    }
+
+    @Test
+    void rejectsASelectionWithNoValidReports() {
+        controller.ignoreSelected(List.of("bird:1", "collection:"), null, redirectAttributes);
+
+        verifyNoInteractions(adminReportClient);
+        assertThat(redirectAttributes.getFlashAttributes())
+                .containsEntry("flashStatus", "error")
+                .containsEntry("flashMessage", "처리할 신고를 선택해주세요.");
+    }
+
+    @Test
+    void rejectsMoreReportsThanTheBulkLimit() {
+        controller.deleteSelected(
+                List.of("collection:1", "collection:2", "comment:3", "comment:4"), null, "스팸", redirectAttributes);
+
+        verifyNoInteractions(adminReportClient);
+        verify(reportSnapshotCache, never()).markDirty();
+        assertThat(redirectAttributes.getFlashAttributes())
+                .containsEntry("flashStatus", "error")
+                .containsEntry("flashMessage", "한 번에 최대 3건까지 처리할 수 있습니다.");
+    }
+
+    @Test
+    void deletesEachTargetOnceForSelectedReportsThatShareIt() {
+        when(reportSnapshotCache.reloadCollectionReports(List.of(1L, 2L, 3L))).thenReturn(Map.of(
+                1L, collectionReport(1L, 10L, 1L, 0),
+                2L, collectionReport(2L, 10L, 2L, 1)
+        ));
+
+        controller.deleteSelected(List.of("collection:1", "collection:2", "collection:3"), null, " 스팸 ", redirectAttributes);
+
+        verify(adminReportClient).deleteCollectionByReport(1L, "스팸");
+        verify(adminReportClient, never()).deleteCollectionByReport(eq(2L), anyString());
+        verify(adminReportClient).deleteCollectionByReport(3L, "스팸");
+        verify(reportSnapshotCache).markDirty();
+        assertThat(bulkResult().items())
+                .extracting(BulkModerationResult.Item::reportId, BulkModerationResult.Item::succeeded,
+                        BulkModerationResult.Item::message)
+                .containsExactly(
+                        tuple(1L, true, null),
+                        tuple(2L, true, "같은 대상의 신고 #1와(과) 함께 처리했습니다."),
+                        tuple(3L, true, null)
+                );
+        assertThat(redirectAttributes.getFlashAttributes())
+                .containsEntry("flashMessage", "신고 3건을 삭제 처리했습니다.");
+    }
+
+    @Test
+    void reportsTheOutcomeOfEachSelectedReport() {
+        doThrow(HttpClientErrorException.create(HttpStatus.FORBIDDEN, "Forbidden", null, null, null))
+                .when(adminReportClient).ignoreCollectionReport(1L);
+        doThrow(new ResourceAccessException("backend down")).when(adminReportClient).ignoreCommentReport(2L);
+
+        controller.ignoreSelected(List.of("collection:1", "comment:2", "collection:3"), null, redirectAttributes);
+
+        assertThat(bulkResult().items())
+                .extracting(BulkModerationResult.Item::reportId, BulkModerationResult.Item::succeeded,
+                        BulkModerationResult.Item::message, BulkModerationResult.Item::detailPath)
+                .containsExactly(
+                        tuple(1L, false, "권한이 없어 해당 작업을 수행할 수 없습니다.", "/reports/collections/1"),
+                        tuple(2L, false, "무시 처리에 실패했습니다.", "/reports/comments/2"),
+                        tuple(3L, true, null, "/reports/collections/3")
+                );
+        assertThat(redirectAttributes.getFlashAttributes())
+                .containsEntry("flashStatus", "error")
+                .containsEntry("flashMessage", "신고 3건 중 1건만 무시 처리했습니다.");
+    }
+
+    @Test
+    void marksReportsThatMissedTheDeadlineAsUnknown() {
+        ReportController hurried = new ReportController(
+                adminReportClient,
+                backendFanOutExecutor,
+                reportSnapshotCache,
+                reportPrefetchCache,
+                new ReportBulkProps(3, 2, Duration.ofMillis(100))
+        );
+        CountDownLatch release = new CountDownLatch(1);
+        when(reportSnapshotCache.reloadCollectionReports(List.of(1L, 2L))).thenReturn(Map.of(
+                1L, collectionReport(1L, 10L, 1L, 0),
+                2L, collectionReport(2L, 10L, 2L, 1)
+        ));
+        doAnswer(invocation -> release.await(5, TimeUnit.SECONDS))
+                .when(adminReportClient).deleteCollectionByReport(1L, "스팸");
+
+        try {
+            hurried.deleteSelected(List.of("collection:1", "collection:2"), null, "스팸", redirectAttributes);
+        } finally {
+            release.countDown();
+        }
+
+        assertThat(bulkResult().items())
+                .extracting(BulkModerationResult.Item::reportId, BulkModerationResult.Item::succeeded,
+                        BulkModerationResult.Item::message)
+                .containsExactly(
+                        tuple(1L, false, "제한 시간 안에 끝나지 않아 처리 여부를 확인하지 못했습니다."),
+                        tuple(2L, false, "제한 시간 안에 끝나지 않아 처리 여부를 확인하지 못했습니다.")
+                );
+        verify(reportSnapshotCache).markDirty();
+    }
+
+    @Test
+    void reportsAWriteCutOffByItsTimeoutAsUnknownRatherThanFailed() {
+        ReportController strict = new ReportController(
+                adminReportClient,
+                backendFanOutExecutor,
+                reportSnapshotCache,
+                reportPrefetchCache,
+                new ReportBulkProps(3, 2, Duration.ofSeconds(2), Duration.ofMillis(100))
+        );
+        doAnswer(invocation -> {
+            try {
+                Thread.sleep(5_000);
+                return null;
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                throw new ResourceAccessException("I/O error", new InterruptedIOException("interrupted"));
+            }
+        }).when(adminReportClient).ignoreCollectionReport(1L);
+
+        strict.ignoreSelected(List.of("collection:1", "collection:2"), null, redirectAttributes);
+
+        assertThat(bulkResult().items())
+                .extracting(BulkModerationResult.Item::reportId, BulkModerationResult.Item::succeeded,
+                        BulkModerationResult.Item::message)
+                .containsExactly(
+                        tuple(1L, false, "제한 시간 안에 끝나지 않아 처리 여부를 확인하지 못했습니다."),
+                        tuple(2L, true, null)
+                );
+    }
+
+    private BulkModerationResult bulkResult() {
+        return (BulkModerationResult) redirectAttributes.getFlashAttributes().get("bulkResult");
+    }
+
+    @SafeVarargs
+    private static <T> StreamedList<T> streamed(T... items) {
+        return new StreamedList<>(List.of(items), items.length, false);
+    }
+
+    private static ReportedCollectionListResponse.Item collectionReport(long reportId, long collectionId,
+                                                                        long reporterId, int hoursAgo) {
+        return new ReportedCollectionListResponse.Item(
+                reportId,
+                BASE_TIME.minusHours(hoursAgo),
+                collectionId,
+                new ReportedCollectionListResponse.UserMini(reporterId, "신고자" + reporterId),
+                new ReportedCollectionListResponse.UserMini(99L, "작성자")
+        );
+    }
+
+    private static ReportedCommentListResponse.Item commentReport(long reportId, long commentId,
+                                                                  long reporterId, int hoursAgo) {
+        return new ReportedCommentListResponse.Item(
+                reportId,
+                BASE_TIME.minusHours(hoursAgo),
+                commentId,
+                10L,
+                "신고된 댓글",
+                new ReportedCommentListResponse.UserMini(reporterId, "신고자" + reporterId),
+                new ReportedCommentListResponse.UserMini(98L, "댓글 작성자")
+        );
+    }
+}
@@ -0,0 +1,55 @@
+package apu.saerok_admin.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class SortedMergeTest {
+
+    private static final Comparator<Integer> DESCENDING = Comparator.reverseOrder();
+
+    @Test
+    void mergesSortedSourcesIntoTheRequestedPage() {
+        List<Integer> page = SortedMerge.slice(
+                List.of(List.of(9, 6, 3).iterator(), List.of(8, 7, 2, 1).iterator()),
+                DESCENDING,
+                2,
+                3
+        );
+
+        assertThat(page).containsExactly(7, 6, 3);
+    }
+
+    @Test
+    void stopsReadingOnceThePageIsFilled() {
+        AtomicInteger consumed = new AtomicInteger();
+        Iterator<Integer> counting = new Iterator<>() {
+            private int next = 1_000;
+
+            @Override
+            public boolean hasNext() {
+                return next > 0;
+            }
+
+            @Override
+            public Integer next() {
+                consumed.incrementAndGet();
+                return next--;
+            }
+        };
+
+        List<Integer> page = SortedMerge.slice(List.of(counting, List.<Integer>of().iterator()), DESCENDING, 10, 5);
+
+        assertThat(page).containsExactly(990, 989, 988, 987, 986);
+        assertThat(consumed.get()).isLessThanOrEqualTo(16);
+    }
+
+    @Test
+    void returnsAnEmptyPagePastTheEnd() {
+        assertThat(SortedMerge.slice(List.of(List.of(3, 2).iterator()), DESCENDING, 5, 10)).isEmpty();
+    }
+}
@@ -0,0 +1,111 @@
+package apu.saerok_admin.web.callbudget;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import apu.saerok_admin.infra.metrics.BackendCallRecord;
+import apu.saerok_admin.infra.metrics.BackendCallTrace;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+class BackendCallBudgetInterceptorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+    private MockHttpServletRequest request;
+
+    @BeforeEach
+    void setUp() {
+        request = new MockHttpServletRequest("GET", "/reports");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void strictModeFailsWhenPathBudgetIsExceeded() {
+        BackendCallBudgetInterceptor interceptor = interceptor(true);
+        interceptor.preHandle(request, response, new Object());
+        record(call("admin/reports/collections"), call("admin/reports/comments"), call("user/me"));
+
+        assertThatThrownBy(() -> interceptor.postHandle(request, response, new Object(), null))
+                .isInstanceOf(BackendCallBudgetExceededException.class)
+                .hasMessageContaining("3 calls (budget 2)");
+        assertThat(meterRegistry.counter("saerok.backend.budget.exceeded", "path", "/reports").count()).isEqualTo(1);
+    }
+
+    @Test
+    void flagsRepeatedCallsThatDifferOnlyById() {
+        BackendCallBudgetInterceptor interceptor = interceptor(false);
+        interceptor.preHandle(request, response, new Object());
+        record(call("admin/reports/collections/{id}"), call("admin/reports/collections/{id}"));
+
+        interceptor.postHandle(request, response, new Object(), null);
+        interceptor.afterCompletion(request, response, new Object(), null);
+
+        assertThat(meterRegistry.counter("saerok.backend.budget.nplusone",
+                "path", "/reports", "route", "GET admin/reports/collections/{id}").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("saerok.backend.budget.exceeded", "path", "/reports").count()).isZero();
+    }
+
+    @Test
+    void countsDeclaredFanOutRoutesAgainstTheirOwnLimit() {
+        BackendCallBudgetInterceptor interceptor = fanOutInterceptor(3);
+        interceptor.preHandle(request, response, new Object());
+        record(call("admin/reports/collections"), call("admin/reports/comments"),
+                call("admin/reports/collections/{id}"), call("admin/reports/collections/{id}"),
+                call("admin/reports/collections/{id}"));
+
+        interceptor.postHandle(request, response, new Object(), null);
+
+        assertThat(meterRegistry.find("saerok.backend.budget.nplusone").counters()).isEmpty();
+        assertThat(meterRegistry.find("saerok.backend.budget.exceeded").counters()).isEmpty();
+    }
+
+    @Test
+    void strictModeFailsWhenAFanOutRouteExceedsItsLimit() {
+        BackendCallBudgetInterceptor interceptor = fanOutInterceptor(1);
+        interceptor.preHandle(request, response, new Object());
+        record(call("admin/reports/collections/{id}"), call("admin/reports/collections/{id}"));
+
+        assertThatThrownBy(() -> interceptor.postHandle(request, response, new Object(), null))
+                .isInstanceOf(BackendCallBudgetExceededException.class)
+                .hasMessageContaining("GET admin/reports/collections/{id} called 2 times (budget 1)");
+    }
+
+    private BackendCallBudgetInterceptor fanOutInterceptor(int fanOutLimit) {
+        BackendCallBudgetProps props = new BackendCallBudgetProps(
+                true, true, 10, 2, List.of(new BackendCallBudgetProps.PathBudget("/reports", 2,
+                List.of(new BackendCallBudgetProps.FanOut("GET admin/reports/collections/{id}", fanOutLimit))))
+        );
+        return new BackendCallBudgetInterceptor(props, meterRegistry);
+    }
+
+    private BackendCallBudgetInterceptor interceptor(boolean strict) {
+        BackendCallBudgetProps props = new BackendCallBudgetProps(
+                true, strict, 10, 2, List.of(new BackendCallBudgetProps.PathBudget("/reports", 2))
+        );
+        return new BackendCallBudgetInterceptor(props, meterRegistry);
+    }
+
+    private static void record(BackendCallRecord... calls) {
+        BackendCallTrace trace = BackendCallTrace.current().orElseThrow();
+        for (BackendCallRecord call : calls) {
+            trace.add(call);
+        }
+    }
+
+    private static BackendCallRecord call(String route) {
+        return new BackendCallRecord("AdminReportClient", "GET", route, "200", 1_000_000L, null, false);
+    }
+}
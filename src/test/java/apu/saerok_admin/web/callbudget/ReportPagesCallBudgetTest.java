@@ -0,0 +1,159 @@
+package apu.saerok_admin.web.callbudget;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.lessThanOrExactly;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathMatching;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import apu.saerok_admin.security.LoginSession;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder;
+import java.time.LocalDateTime;
+import java.util.StringJoiner;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+/**
+ * 신고 화면을 WireMock 백엔드에 붙여 strict 모드(테스트 application.properties)로 그려 본다.
+ * 예산을 넘거나 N+1 이 보이면 postHandle 에서 예외가 나 요청이 실패한다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class ReportPagesCallBudgetTest {
+
+    private static final int COLLECTION_REPORTS = 40;
+    private static final int COMMENT_REPORTS = 10;
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2024, 6, 1, 12, 0);
+    private static final WireMockServer backend = new WireMockServer(0);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private MockHttpSession session;
+
+    @DynamicPropertySource
+    static void backendProperties(DynamicPropertyRegistry registry) {
+        if (!backend.isRunning()) {
+            backend.start();
+        }
+        registry.add("saerok.api.base-url", () -> "http://localhost:" + backend.port() + "/api/v1");
+    }
+
+    @AfterAll
+    static void stopBackend() {
+        backend.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        backend.resetAll();
+        backend.stubFor(get(urlPathEqualTo("/api/v1/user/me")).willReturn(json(
+                "{\"nickname\":\"관리자\",\"email\":\"admin@saerok.app\",\"roles\":[\"ADMIN_EDITOR\"]}")));
+        backend.stubFor(get(urlPathEqualTo("/api/v1/admin/reports/collections")).willReturn(json(collectionReports())));
+        backend.stubFor(get(urlPathEqualTo("/api/v1/admin/reports/comments")).willReturn(json(commentReports())));
+        backend.stubFor(get(urlPathMatching("/api/v1/admin/reports/collections/\\d+")).willReturn(json(
+                "{\"reportId\":1,\"collection\":{\"collectionId\":1001,\"note\":\"물가에서 본 백로\","
+                        + "\"accessLevel\":\"PUBLIC\"},\"comments\":{\"items\":[]}}")));
+        backend.stubFor(get(urlPathMatching("/api/v1/admin/reports/comments/\\d+")).willReturn(json(
+                "{\"reportId\":101,\"comment\":{\"commentId\":5001,\"content\":\"신고된 댓글\"},"
+                        + "\"collection\":{\"collectionId\":1001},\"comments\":{\"items\":[]}}")));
+
+        session = new MockHttpSession();
+        session.setAttribute(LoginSession.ATTRIBUTE_NAME, new LoginSession("test-access-token"));
+    }
+
+    @Test
+    void listPageStaysWithinItsBudget() throws Exception {
+        mockMvc.perform(page("/reports"))
+                .andExpect(status().isOk());
+
+        // 보충 조회는 페이지에 보인 새록만큼만 나간다.
+        backend.verify(lessThanOrExactly(30), getRequestedFor(urlPathMatching("/api/v1/admin/reports/collections/\\d+")));
+    }
+
+    @Test
+    void largestListPageStaysWithinItsBudget() throws Exception {
+        mockMvc.perform(page("/reports").param("size", "100"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void groupedPageStaysWithinItsBudget() throws Exception {
+        mockMvc.perform(page("/reports").param("view", "grouped"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void infiniteScrollRowsStayWithinTheirBudget() throws Exception {
+        mockMvc.perform(page("/reports")
+                        .param("page", "2")
+                        .param("scroll", "infinite")
+                        .param("fragment", "rows")
+                        .header("X-Requested-With", "XMLHttpRequest"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void detailPagesStayWithinTheirBudget() throws Exception {
+        mockMvc.perform(page("/reports/collections/1"))
+                .andExpect(status().isOk());
+        mockMvc.perform(page("/reports/comments/101"))
+                .andExpect(status().isOk());
+        mockMvc.perform(page("/reports/collections/1").param("flow", "next"))
+                .andExpect(status().isOk());
+    }
+
+    private MockHttpServletRequestBuilder page(String path) {
+        return MockMvcRequestBuilders.get(path)
+                .session(session)
+                .accept(MediaType.TEXT_HTML);
+    }
+
+    private static ResponseDefinitionBuilder json(String body) {
+        return aResponse()
+                .withStatus(200)
+                .withHeader("Content-Type", "application/json")
+                .withBody(body);
+    }
+
+    // 새록마다 신고 한 건씩이라 한 페이지의 보충 조회 수가 페이지 크기까지 올라간다.
+    private static String collectionReports() {
+        StringJoiner items = new StringJoiner(",", "{\"items\":[", "]}");
+        for (int i = 1; i <= COLLECTION_REPORTS; i++) {
+            items.add("{\"reportId\":" + i
+                    + ",\"reportedAt\":\"" + BASE_TIME.minusMinutes(i * 2L) + "\""
+                    + ",\"collectionId\":" + (1000 + i)
+                    + ",\"reporter\":{\"userId\":" + (i % 7) + ",\"nickname\":\"신고자" + (i % 7) + "\"}"
+                    + ",\"reportedUser\":{\"userId\":99,\"nickname\":\"작성자\"}}");
+        }
+        return items.toString();
+    }
+
+    private static String commentReports() {
+        StringJoiner items = new StringJoiner(",", "{\"items\":[", "]}");
+        for (int i = 1; i <= COMMENT_REPORTS; i++) {
+            items.add("{\"reportId\":" + (100 + i)
+                    + ",\"reportedAt\":\"" + BASE_TIME.minusMinutes(i * 2L + 1) + "\""
+                    + ",\"commentId\":" + (5000 + i % 3)
+                    + ",\"collectionId\":1001"
+                    + ",\"contentPreview\":\"신고된 댓글 " + i + "\""
+                    + ",\"reporter\":{\"userId\":" + i + ",\"nickname\":\"신고자" + i + "\"}"
+                    + ",\"reportedUser\":{\"userId\":98,\"nickname\":\"댓글 작성자\"}}");
+        }
+        return items.toString();
+    }
+}
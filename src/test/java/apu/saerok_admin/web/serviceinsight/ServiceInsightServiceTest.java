@@ -0,0 +1,147 @@
+package apu.saerok_admin.web.serviceinsight;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.when;
+
+import apu.saerok_admin.infra.stat.StatMetric;
+import apu.saerok_admin.infra.stat.StatSeriesCache;
+import apu.saerok_admin.infra.stat.dto.StatSeriesResponse;
+import apu.saerok_admin.web.view.ServiceInsightViewModel;
+import apu.saerok_admin.web.view.ServiceInsightViewModel.DateAxis;
+import apu.saerok_admin.web.view.ServiceInsightViewModel.Point;
+import apu.saerok_admin.web.view.ServiceInsightViewModel.Series;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ServiceInsightServiceTest {
+
+    private static final LocalDate JUNE_1 = LocalDate.of(2024, 6, 1);
+
+    @Mock
+    private StatSeriesCache statSeriesCache;
+
+    private ServiceInsightService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new ServiceInsightService(statSeriesCache);
+    }
+
+    @Test
+    void usesTheGreatestCommonStepAsTheAxis() {
+        respondWith(new StatSeriesResponse.Series(StatMetric.USER_WAU.name(), List.of(
+                point(JUNE_1, 1),
+                point(JUNE_1.plusDays(7), 2),
+                point(JUNE_1.plusDays(21), 3)
+        ), List.of()));
+
+        Series series = seriesOf(service.loadViewModel(ServiceInsightQuery.all()), StatMetric.USER_WAU);
+
+        assertThat(series.axis()).isEqualTo(new DateAxis(JUNE_1, 7, 4));
+        assertThat(series.values()).containsExactly(1.0, 2.0, null, 3.0);
+        assertThat(series.points()).isNull();
+    }
+
+    @Test
+    void componentsShareTheAxisAndFillGapsWithNull() {
+        respondWith(new StatSeriesResponse.Series(StatMetric.BIRD_ID_RESOLUTION_STATS_28D.name(), List.of(
+                point(JUNE_1, 10),
+                point(JUNE_1.plusDays(2), 12)
+        ), List.of(
+                new StatSeriesResponse.ComponentSeries("min_hours", List.of(point(JUNE_1.plusDays(1), 4))),
+                new StatSeriesResponse.ComponentSeries("max_hours", List.of(point(JUNE_1.plusDays(3), 20)))
+        )));
+
+        Series series = seriesOf(service.loadViewModel(ServiceInsightQuery.all()), StatMetric.BIRD_ID_RESOLUTION_STATS_28D);
+
+        assertThat(series.axis()).isEqualTo(new DateAxis(JUNE_1, 1, 4));
+        assertThat(series.values()).containsExactly(10.0, null, 12.0, null);
+        assertThat(series.components()).hasSize(2);
+        assertThat(series.components().get(0).key()).isEqualTo("min_hours");
+        assertThat(series.components().get(0).values()).containsExactly(null, 4.0, null, null);
+        assertThat(series.components().get(1).values()).containsExactly(null, null, null, 20.0);
+    }
+
+    @Test
+    void leavesAnEmptyColumnWithoutAnAxisWhenThereIsNoData() {
+        respondWith(new StatSeriesResponse.Series(StatMetric.USER_DAU.name(), List.of(), List.of()));
+
+        Series series = seriesOf(service.loadViewModel(ServiceInsightQuery.all()), StatMetric.USER_DAU);
+
+        assertThat(series.axis()).isNull();
+        assertThat(series.values()).isEmpty();
+    }
+
+    @Test
+    void keepsThePointFormatAvailable() {
+        respondWith(new StatSeriesResponse.Series(StatMetric.USER_DAU.name(), List.of(
+                point(JUNE_1, 5),
+                point(JUNE_1.plusDays(3), 6)
+        ), List.of()));
+
+        Series series = seriesOf(
+                service.loadViewModel(ServiceInsightQuery.all(), ServiceInsightSeriesFormat.POINTS),
+                StatMetric.USER_DAU
+        );
+
+        assertThat(series.axis()).isNull();
+        assertThat(series.values()).isNull();
+        assertThat(series.points()).containsExactly(new Point(JUNE_1, 5), new Point(JUNE_1.plusDays(3), 6));
+    }
+
+    @Test
+    void writesGapsAsJsonNull() throws Exception {
+        respondWith(new StatSeriesResponse.Series(StatMetric.USER_DAU.name(), List.of(
+                point(JUNE_1, 5),
+                point(JUNE_1.plusDays(2), 6)
+        ), List.of()));
+        ObjectMapper objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+        Series series = seriesOf(service.loadViewModel(ServiceInsightQuery.all()), StatMetric.USER_DAU);
+        String json = objectMapper.writeValueAsString(series);
+
+        assertThat(json)
+                .contains("\"axis\":{\"start\":\"2024-06-01\",\"stepDays\":1,\"length\":3}")
+                .contains("\"values\":[5.0,null,6.0]")
+                .doesNotContain("NaN")
+                .doesNotContain("\"points\"");
+    }
+
+    @Test
+    void parsesTheFormatParameter() {
+        assertThat(ServiceInsightSeriesFormat.fromParameter(" Points ")).contains(ServiceInsightSeriesFormat.POINTS);
+        assertThat(ServiceInsightSeriesFormat.fromParameter("columns")).contains(ServiceInsightSeriesFormat.COLUMNS);
+        assertThat(ServiceInsightSeriesFormat.fromParameter("csv")).isEmpty();
+        assertThat(ServiceInsightSeriesFormat.fromParameter(null)).isEmpty();
+    }
+
+    private void respondWith(StatSeriesResponse.Series... series) {
+        when(statSeriesCache.fetchSeries(anyCollection(), any(), any()))
+                .thenReturn(new StatSeriesResponse(Arrays.asList(series)));
+    }
+
+    private static StatSeriesResponse.Point point(LocalDate date, int value) {
+        return new StatSeriesResponse.Point(date, value);
+    }
+
+    private static Series seriesOf(ServiceInsightViewModel viewModel, StatMetric metric) {
+        return viewModel.series().stream()
+                .filter(series -> metric.name().equals(series.metric()))
+                .findFirst()
+                .orElseThrow();
+    }
+}
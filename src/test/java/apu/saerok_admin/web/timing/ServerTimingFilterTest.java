@@ -0,0 +1,120 @@
+package apu.saerok_admin.web.timing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import apu.saerok_admin.infra.metrics.BackendCallRecord;
+import apu.saerok_admin.security.LoginSessionManager;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class ServerTimingFilterTest {
+
+    private final LoginSessionManager loginSessionManager = mock(LoginSessionManager.class);
+    private final ServerTimingFilter filter = new ServerTimingFilter(new ServerTimingProps(true, true, 1), loginSessionManager);
+
+    @Test
+    void addsHeaderAfterBodyIsWrittenAndKeepsBody() throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/reports");
+        request.addHeader("Accept", "text/html,application/xhtml+xml,*/*;q=0.8");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse res) throws IOException {
+                res.getWriter().write("<html></html>");
+                res.flushBuffer();
+            }
+        }));
+
+        assertThat(response.getHeader(ServerTimingFilter.HEADER))
+                .startsWith("total;dur=")
+                .contains("backend;dur=0.0;desc=\"0 calls\"");
+        assertThat(response.getContentAsString(StandardCharsets.UTF_8)).isEqualTo("<html></html>");
+    }
+
+    @Test
+    void listsCallsUpToTheConfiguredLimit() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/reports");
+        request.setAttribute(RenderTimingInterceptor.RENDER_STARTED_AT, 1_000_000L);
+        request.setAttribute(RenderTimingInterceptor.RENDER_FINISHED_AT, 4_000_000L);
+        when(loginSessionManager.findRoleScope(request)).thenReturn(Optional.of("ADMIN_EDITOR,ADMIN_VIEWER"));
+        List<BackendCallRecord> calls = List.of(
+                new BackendCallRecord("AdminReportClient", "GET", "admin/reports/collections", "200",
+                        12_300_000L, "revalidated", false),
+                new BackendCallRecord("AdminReportClient", "GET", "admin/reports/collections/{id}", "200",
+                        5_000_000L, null, true)
+        );
+
+        String header = filter.headerValue(request, calls, 30_000_000L);
+
+        assertThat(header).isEqualTo("total;dur=30.0, "
+                + "backend;dur=17.3;desc=\"2 calls\", "
+                + "render;dur=3.0;desc=\"template\", "
+                + "call-1;dur=12.3;desc=\"GET admin/reports/collections 200 revalidated\"");
+    }
+
+    @Test
+    void keepsCallRoutesOutOfTheHeaderUnlessTheFooterIsEnabled() {
+        ServerTimingFilter summaryOnly = new ServerTimingFilter(new ServerTimingProps(true, false, 30), loginSessionManager);
+        List<BackendCallRecord> calls = List.of(
+                new BackendCallRecord("AdminReportClient", "GET", "admin/reports/collections", "200",
+                        12_300_000L, null, false)
+        );
+
+        String header = summaryOnly.headerValue(new MockHttpServletRequest("GET", "/reports"), calls, 30_000_000L);
+
+        assertThat(header).isEqualTo("total;dur=30.0, backend;dur=12.3;desc=\"1 calls\"");
+    }
+
+    @Test
+    void keepsCallRoutesOutOfTheHeaderForAdminsWhoCannotSeeTheFooter() {
+        List<BackendCallRecord> calls = List.of(
+                new BackendCallRecord("AdminReportClient", "GET", "admin/reports/collections", "200",
+                        12_300_000L, null, false)
+        );
+        MockHttpServletRequest viewer = new MockHttpServletRequest("GET", "/reports");
+        when(loginSessionManager.findRoleScope(viewer)).thenReturn(Optional.of("ADMIN_VIEWER"));
+        MockHttpServletRequest anonymous = new MockHttpServletRequest("GET", "/reports");
+        when(loginSessionManager.findRoleScope(anonymous)).thenReturn(Optional.empty());
+
+        assertThat(filter.headerValue(viewer, calls, 30_000_000L)).isEqualTo("total;dur=30.0, backend;dur=12.3;desc=\"1 calls\"");
+        assertThat(filter.headerValue(anonymous, calls, 30_000_000L)).isEqualTo("total;dur=30.0, backend;dur=12.3;desc=\"1 calls\"");
+    }
+
+    @Test
+    void skipsRequestsThatDoNotAskForHtml() {
+        MockHttpServletRequest json = new MockHttpServletRequest("GET", "/service-insight");
+        json.addHeader("Accept", "application/json");
+        MockHttpServletRequest anything = new MockHttpServletRequest("GET", "/reports");
+        anything.addHeader("Accept", "*/*");
+        MockHttpServletRequest post = new MockHttpServletRequest("POST", "/reports/bulk/ignore");
+        post.addHeader("Accept", "text/html");
+        MockHttpServletRequest page = new MockHttpServletRequest("GET", "/reports");
+        page.addHeader("Accept", "text/html");
+
+        assertThat(filter.shouldNotFilter(json)).isTrue();
+        assertThat(filter.shouldNotFilter(anything)).isTrue();
+        assertThat(filter.shouldNotFilter(post)).isTrue();
+        assertThat(filter.shouldNotFilter(page)).isFalse();
+    }
+
+    @Test
+    void skipsStaticResources() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/css/admin-theme.css");
+        request.addHeader("Accept", "text/html");
+
+        assertThat(filter.shouldNotFilter(request)).isTrue();
+    }
+}